@@ -0,0 +1,86 @@
+package com.example.shopping.domain.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 컬럼형 스냅샷 병렬 집계 벤치마크
+ *
+ * <p>
+ * 주문 항목 수별로 OrderItemSnapshotService가 실행하는 집계(카테고리별 전체, 기간 + 일별 x 카테고리별)
+ * 한 번의 시간을 측정합니다. stats.columnar 스냅샷을 켤지, 힙 크기를 얼마로 잡을지 정할 때 참고합니다.
+ * 스냅샷 생성 비용(DB 조회)은 포함하지 않습니다.
+ *
+ * <p>
+ * 실행: {@code ./gradlew jmh -Pjmh.includes=ColumnarAggregatorBenchmark} (결과: build/reports/jmh/results.json)
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ColumnarAggregatorBenchmark {
+
+    private static final int CATEGORIES = 20;
+    private static final int PRODUCTS = 5000;
+    private static final LocalDateTime FIRST_ORDER = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int DAYS = 730;
+
+    @Param({ "100000", "1000000" })
+    private int rows;
+
+    private OrderItemColumns columns;
+    private ColumnarQuery byCategory;
+    private ColumnarQuery dailyByCategoryInRange;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        OrderItemColumns.Builder builder = OrderItemColumns.builder();
+        for (int i = 0; i < rows; i++) {
+            long productId = 1 + random.nextInt(PRODUCTS);
+            long categoryId = 1 + productId % CATEGORIES;
+            builder.add(new OrderItemFact((long) i + 1, productId, categoryId, "category-" + categoryId,
+                    FIRST_ORDER.plusMinutes(random.nextLong(DAYS * 24L * 60L)),
+                    1 + random.nextInt(5), 1000 * (1 + random.nextInt(100))));
+        }
+        columns = builder.build();
+
+        byCategory = new ColumnarQuery(List.of(ColumnarQuery.Dimension.CATEGORY),
+                Integer.MIN_VALUE, Integer.MAX_VALUE, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 10000);
+        // 최근 90일, 일별 x 카테고리별
+        LocalDate to = FIRST_ORDER.toLocalDate().plusDays(DAYS - 1L);
+        dailyByCategoryInRange = new ColumnarQuery(
+                List.of(ColumnarQuery.Dimension.DAY, ColumnarQuery.Dimension.CATEGORY),
+                (int) to.minusDays(89).toEpochDay(), (int) to.toEpochDay(), -1,
+                Integer.MIN_VALUE, Integer.MAX_VALUE, 10000);
+    }
+
+    @Benchmark
+    public Map<Long, long[]> categoryTotals() {
+        return ColumnarAggregator.aggregate(columns, byCategory);
+    }
+
+    @Benchmark
+    public Map<Long, long[]> dailyCategoryInRange() {
+        return ColumnarAggregator.aggregate(columns, dailyByCategoryInRange);
+    }
+}
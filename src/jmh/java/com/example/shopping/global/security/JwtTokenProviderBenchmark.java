@@ -0,0 +1,144 @@
+package com.example.shopping.global.security;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 인증 경로 JWT 벤치마크
+ *
+ * <p>
+ * 요청마다 실행되는 토큰 발급/검증 비용을 측정합니다.
+ * <ul>
+ * <li>provider*: {@link JwtTokenProvider}의 createToken, validateToken, parseClaims, getUserPk.
+ * 서명은 HS256 고정이므로 roleCount(토큰 크기)별로만 측정합니다 ({@link ProviderState}).</li>
+ * <li>perCallParser / reusedParser: 호출마다 파서를 만드는 방식(이전 구현)과 파서 하나를 재사용하는 방식(현재 구현) 비교.
+ * algorithm(HS256/HS512)과 roleCount별로 측정합니다 ({@link ParserState}).</li>
+ * </ul>
+ *
+ * <p>
+ * 실행: {@code ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark} (결과: build/reports/jmh/results.json)
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JwtTokenProviderBenchmark {
+
+    /** {@link JwtTokenProvider} 측정용 상태 (HS256) */
+    @State(Scope.Benchmark)
+    public static class ProviderState {
+
+        /** roles 클레임 원소 수 (1: 일반 사용자, 32: 큰 토큰) */
+        @Param({ "1", "8", "32" })
+        private int roleCount;
+
+        private JwtTokenProvider provider;
+        private List<String> roles;
+        private String token;
+
+        @Setup
+        public void setUp() {
+            Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+            provider = new JwtTokenProvider(Encoders.BASE64.encode(key.getEncoded()), 1800000L, 604800000L);
+            roles = roles(roleCount);
+            token = provider.createToken("12345", roles);
+        }
+    }
+
+    /** 파서 생성 방식 비교용 상태 */
+    @State(Scope.Benchmark)
+    public static class ParserState {
+
+        @Param({ "HS256", "HS512" })
+        private String algorithm;
+
+        /** roles 클레임 원소 수 (1: 일반 사용자, 32: 큰 토큰) */
+        @Param({ "1", "8", "32" })
+        private int roleCount;
+
+        private Key key;
+        private JwtParser reusedParser;
+
+        /** algorithm으로 서명한 토큰 */
+        private String token;
+
+        @Setup
+        public void setUp() {
+            SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.valueOf(algorithm);
+            key = Keys.secretKeyFor(signatureAlgorithm);
+            reusedParser = Jwts.parserBuilder().setSigningKey(key).build();
+
+            Date now = new Date();
+            token = Jwts.builder()
+                    .setSubject("12345")
+                    .claim("roles", roles(roleCount))
+                    .setIssuedAt(now)
+                    .setExpiration(new Date(now.getTime() + 1800000L))
+                    .signWith(key, signatureAlgorithm)
+                    .compact();
+        }
+    }
+
+    @Benchmark
+    public String providerCreateToken(ProviderState state) {
+        return state.provider.createToken("12345", state.roles);
+    }
+
+    @Benchmark
+    public boolean providerValidateToken(ProviderState state) {
+        return state.provider.validateToken(state.token);
+    }
+
+    @Benchmark
+    public Claims providerParseClaims(ProviderState state) {
+        return state.provider.parseClaims(state.token);
+    }
+
+    @Benchmark
+    public String providerGetUserPk(ProviderState state) {
+        return state.provider.getUserPk(state.token);
+    }
+
+    @Benchmark
+    public Claims perCallParser(ParserState state) {
+        return Jwts.parserBuilder().setSigningKey(state.key).build().parseClaimsJws(state.token).getBody();
+    }
+
+    @Benchmark
+    public Claims reusedParser(ParserState state) {
+        return state.reusedParser.parseClaimsJws(state.token).getBody();
+    }
+
+    private static List<String> roles(int roleCount) {
+        List<String> roles = new ArrayList<>();
+        roles.add(UserRoleCache.ROLE_USER);
+        for (int i = 1; i < roleCount; i++) {
+            roles.add("ROLE_BENCHMARK_" + i);
+        }
+        return roles;
+    }
+}
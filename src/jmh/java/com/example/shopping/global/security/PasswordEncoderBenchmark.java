@@ -0,0 +1,61 @@
+package com.example.shopping.global.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt 비용(cost factor)별 벤치마크
+ *
+ * <p>
+ * 로그인(matches)과 회원가입/비밀번호 변경(encode) 한 번의 비용을 측정합니다.
+ * security.password.bcrypt-strength와 PasswordHasher의 threads를 정할 때 참고합니다
+ * (비용이 1 오를 때마다 시간은 약 2배).
+ *
+ * <p>
+ * 실행: {@code ./gradlew jmh -Pjmh.includes=PasswordEncoderBenchmark} (결과: build/reports/jmh/results.json)
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "benchmark-Password1!";
+
+    @Param({ "8", "10", "12" })
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.shopping.domain.batch;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.shopping.domain.repository.DailyCategorySalesRollupRepository;
+import com.example.shopping.domain.repository.DailySalesRollupRepository;
+import com.example.shopping.domain.repository.HourlySalesRollupRepository;
+import com.example.shopping.domain.repository.OrdersRepository;
+import com.example.shopping.domain.service.SalesRollupService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매출 집계 복구 작업
+ *
+ * <p>daily_sales, hourly_sales, daily_category_sales 테이블을 주문 테이블에서 다시 계산하여 증감분 반영 중 생길 수 있는 오차를 바로잡습니다.
+ *
+ * <ul>
+ *   <li>매일 최근 repair-days 일을 다시 계산합니다.</li>
+ *   <li>서버 시작 시 집계 테이블 중 하나라도 비어 있으면 가장 오래된 주문일부터 전체를 다시 계산합니다.</li>
+ *   <li>보관(archive)된 주문은 orders 테이블에 없으므로 repair-days는 보관 기준일(min-age-days)보다 짧아야 합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySalesRepairJob {
+
+    private final SalesRollupService salesRollupService;
+    private final DailySalesRollupRepository dailySalesRollupRepository;
+    private final HourlySalesRollupRepository hourlySalesRollupRepository;
+    private final DailyCategorySalesRollupRepository dailyCategorySalesRollupRepository;
+    private final OrdersRepository ordersRepository;
+
+    @Value("${stats.daily-sales.repair-enabled:true}")
+    private boolean enabled;
+
+    @Value("${stats.daily-sales.repair-days:35}")
+    private long repairDays;
+
+    @Scheduled(cron = "${stats.daily-sales.repair-cron:0 0 4 * * *}")
+    public void repairRecent() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate startDate = LocalDate.now().minusDays(repairDays);
+        int days = salesRollupService.rebuild(startDate);
+        log.info("일별 매출 집계 복구 완료: {} 이후 {}일", startDate, days);
+    }
+
+    // 집계 테이블이 비어 있으면 전체 다시 계산 (최초 배포, 집계 테이블 추가 시)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!enabled || (dailySalesRollupRepository.count() > 0 && hourlySalesRollupRepository.count() > 0
+                && dailyCategorySalesRollupRepository.count() > 0)) {
+            return;
+        }
+        try {
+            LocalDate startDate = ordersRepository.findFirstByOrderByOrderIdAsc()
+                    .map(order -> order.getOrderedAt().toLocalDate())
+                    .orElse(LocalDate.now());
+            int days = salesRollupService.rebuild(startDate);
+            log.info("일별 매출 집계 초기화 완료: {} 이후 {}일", startDate, days);
+        } catch (Exception e) {
+            log.error("일별 매출 집계 초기화 실패", e);
+        }
+    }
+}
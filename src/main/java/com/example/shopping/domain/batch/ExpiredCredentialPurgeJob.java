@@ -0,0 +1,127 @@
+package com.example.shopping.domain.batch;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.repository.EmailVerificationRepository;
+import com.example.shopping.domain.repository.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료된 인증 데이터 정리 작업
+ *
+ * <p>만료 시각이 지난 email_verification(비밀번호 찾기 인증코드)과 refresh_token 행을 삭제하여,
+ * 인증코드 조회와 토큰 조회가 테이블 크기에 따라 느려지지 않게 합니다.
+ * 사용된 인증코드도 유효기간(5분)이 지나면 함께 삭제됩니다.
+ *
+ * <p>처리 방식:
+ * <ul>
+ *   <li>expires_at 인덱스로 batch-size 건의 ID를 찾고 ID로 삭제하며, 배치마다 별도의 짧은 트랜잭션을 사용합니다.</li>
+ *   <li>배치 사이에 pause-millis 만큼 쉬고, 한 번 실행에 테이블마다 max-batches-per-run 배치까지만 삭제하여
+ *       운영 중인 트래픽과 복제 지연에 주는 부하를 제한합니다. 남은 행은 다음 실행에서 삭제합니다.</li>
+ * </ul>
+ *
+ * <p>주의사항:
+ * <ul>
+ *   <li>refresh_token은 jwt.refresh-store.backend=database일 때만 쓰이며, memory 방식의 만료 토큰은
+ *       RefreshTokenStore가 직접 정리합니다.</li>
+ *   <li>email_verification은 security.verification-code.backend=database일 때만 쓰이며, memory 방식의 만료 코드는
+ *       VerificationCodeStore가 직접 정리합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredCredentialPurgeJob {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${security.credential-purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.credential-purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${security.credential-purge.pause-millis:200}")
+    private long pauseMillis;
+
+    @Value("${security.credential-purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    /** 중복 실행 방지 */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(fixedDelayString = "${security.credential-purge.interval-millis:600000}",
+            initialDelayString = "${security.credential-purge.initial-delay-millis:60000}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int verifications = purge(() -> purgeVerificationBatch(now));
+            int refreshTokens = purge(() -> purgeRefreshTokenBatch(now));
+            if (verifications > 0 || refreshTokens > 0) {
+                log.info("만료된 인증 데이터 정리: 인증코드 {}건, 리프레시 토큰 {}건", verifications, refreshTokens);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 삭제할 행이 없거나 max-batches-per-run에 도달할 때까지 배치를 반복합니다.
+     *
+     * @param batch 배치 하나를 삭제하고 삭제한 행 수를 반환
+     * @return 삭제한 전체 행 수
+     */
+    private int purge(IntSupplier batch) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int deleted = batch.getAsInt();
+            total += deleted;
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private int purgeVerificationBatch(LocalDateTime now) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = emailVerificationRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+            return ids.isEmpty() ? 0 : emailVerificationRepository.deleteAllByIds(ids);
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private int purgeRefreshTokenBatch(LocalDateTime now) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<String> keys = refreshTokenRepository.findExpiredKeys(now, PageRequest.of(0, batchSize));
+            return keys.isEmpty() ? 0 : refreshTokenRepository.deleteExpiredByKeys(keys, now);
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.shopping.domain.batch;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.enums.OrderStatus;
+import com.example.shopping.domain.repository.OrderArchiveRepository;
+import com.example.shopping.domain.repository.OrderItemArchiveRepository;
+import com.example.shopping.domain.repository.OrderItemRepository;
+import com.example.shopping.domain.repository.OrdersRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 보관 작업
+ *
+ * <p>min-age-days보다 오래되고 종료 상태(terminal-statuses)인 주문과 주문 항목을
+ * orders_archive, order_item_archive 테이블로 옮겨 orders, order_item 테이블을 작게 유지합니다.
+ *
+ * <p>처리 방식:
+ * <ul>
+ *   <li>주문 ID 오름차순으로 chunk-size 건씩 나누어 처리하며, 청크마다 별도의 짧은 트랜잭션을 사용합니다.</li>
+ *   <li>한 청크 안에서 보관 테이블 복사(INSERT ... SELECT)와 원본 삭제를 함께 커밋하므로,
+ *       중간에 실패해도 주문이 두 테이블에 모두 있거나 모두 없는 상태가 되지 않습니다.</li>
+ *   <li>청크 사이에 pause-millis 만큼 쉬어 운영 중인 트래픽에 주는 부하를 줄입니다.</li>
+ * </ul>
+ *
+ * <p>주의사항:
+ * <ul>
+ *   <li>보관된 주문은 주문 상세 조회에서만 보관 테이블로 이어서 조회되며, 목록 쿼리에서는 제외됩니다.
+ *       매출, 카테고리 통계는 주문 이벤트로 갱신되는 집계 테이블에서 조회하므로 보관 후에도 줄어들지 않습니다.</li>
+ *   <li>terminal-statuses에는 더 이상 다른 상태로 바뀔 수 없는 상태만 지정할 수 있습니다.
+ *       보관된 주문은 배송 정보 변경이나 취소를 할 수 없기 때문입니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderArchiveJob {
+
+    private final OrdersRepository ordersRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderArchiveRepository orderArchiveRepository;
+    private final OrderItemArchiveRepository orderItemArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.archive.min-age-days:365}")
+    private long minAgeDays;
+
+    @Value("${order.archive.terminal-statuses:DELIVERED,CANCEL}")
+    private List<OrderStatus> terminalStatuses;
+
+    @Value("${order.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.archive.pause-millis:200}")
+    private long pauseMillis;
+
+    /** 중복 실행 방지 */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 아직 상태가 바뀔 수 있는 주문을 보관하지 않도록 설정 확인
+    @PostConstruct
+    void validateTerminalStatuses() {
+        for (OrderStatus status : terminalStatuses) {
+            if (Arrays.stream(OrderStatus.values()).anyMatch(status::canTransitionTo)) {
+                throw new IllegalStateException("order.archive.terminal-statuses에 종료 상태가 아닌 값이 있습니다: " + status);
+            }
+        }
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime orderedBefore = LocalDateTime.now().minusDays(minAgeDays);
+            long cursor = 0L;
+            int archived = 0;
+            while (true) {
+                final long afterOrderId = cursor;
+                List<Long> orderIds = transactionTemplate.execute(status -> archiveChunk(afterOrderId, orderedBefore));
+                if (orderIds == null || orderIds.isEmpty()) {
+                    break;
+                }
+                archived += orderIds.size();
+                cursor = orderIds.get(orderIds.size() - 1);
+                if (!pause()) {
+                    break;
+                }
+            }
+            if (archived > 0) {
+                log.info("주문 보관 완료: {}건 ({} 이전 주문)", archived, orderedBefore.toLocalDate());
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * afterOrderId 이후의 보관 대상 주문 한 청크를 보관 테이블로 옮깁니다.
+     *
+     * @param afterOrderId  이전 청크의 마지막 주문 ID
+     * @param orderedBefore 이 시간 이전에 생성된 주문만 대상
+     * @return 처리한 주문 ID 목록 (오름차순), 더 이상 대상이 없으면 빈 리스트
+     */
+    private List<Long> archiveChunk(long afterOrderId, LocalDateTime orderedBefore) {
+        List<Long> orderIds = ordersRepository.findArchivableOrderIds(afterOrderId, orderedBefore,
+                terminalStatuses, chunkSize);
+        if (orderIds.isEmpty()) {
+            return orderIds;
+        }
+
+        orderArchiveRepository.copyFromOrders(orderIds);
+        orderItemArchiveRepository.copyFromOrderItems(orderIds);
+        orderItemRepository.deleteAllByOrderIds(orderIds);
+        ordersRepository.deleteAllByOrderIds(orderIds);
+        return orderIds;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.shopping.domain.batch;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.entity.order.OrderOutboxEvent;
+import com.example.shopping.domain.entity.order.OutboxOffset;
+import com.example.shopping.domain.event.OrderEvent;
+import com.example.shopping.domain.event.OrderEventSubscriber;
+import com.example.shopping.domain.repository.OrderOutboxEventRepository;
+import com.example.shopping.domain.repository.OutboxOffsetRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 아웃박스 디스패처
+ *
+ * <p>order_outbox 테이블을 주기적으로 조회하여 등록된 구독자(OrderEventSubscriber)에게
+ * 주문 이벤트를 배치 단위로 전달합니다. 주문 트랜잭션은 이벤트 행만 추가하므로
+ * 구독자가 늘어나도 주문 처리 시간이 길어지지 않습니다.
+ *
+ * <p>처리 방식:
+ * <ul>
+ *   <li>구독자마다 오프셋 행을 잠근 트랜잭션에서 batch-size 건을 읽어 전달하고 오프셋을 올립니다.</li>
+ *   <li>한 주기에 밀린 이벤트를 모두 전달하되, 구독자가 실패하면 그 구독자는 다음 주기에 같은 배치부터 다시 시도합니다.</li>
+ *   <li>모든 구독자에게 전달되고 retention-millis가 지난 이벤트는 정리 작업에서 삭제됩니다.</li>
+ * </ul>
+ *
+ * <p>빈 번호 처리: event_id는 AUTO_INCREMENT이므로 번호를 먼저 받은 트랜잭션이 나중에 커밋될 수 있습니다.
+ * 오프셋 바로 다음 번호부터 연속된 이벤트까지만 전달하고, 비어 있는 번호를 만나면 그 앞에서 멈춥니다.
+ * 같은 빈 번호가 gap-timeout-millis 동안 채워지지 않으면 롤백 등으로 버려진 번호로 보고 건너뜁니다.
+ * 따라서 gap-timeout-millis는 주문 트랜잭션의 최대 실행 시간보다 길게 설정해야 합니다.
+ *
+ * <p>메트릭 (tag: consumer):
+ * <ul>
+ *   <li>order.outbox.lag.events: 아직 전달하지 않은 이벤트 수 (최신 event_id - 오프셋)</li>
+ *   <li>order.outbox.lag.seconds: 전달하지 않은 가장 오래된 이벤트의 경과 시간</li>
+ *   <li>order.outbox.dispatch.failures: 전달 실패 횟수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderOutboxDispatcher {
+
+    private final List<OrderEventSubscriber> subscribers;
+    private final OrderOutboxEventRepository orderOutboxEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${order.outbox.retention-millis:86400000}")
+    private long retentionMillis;
+
+    @Value("${order.outbox.gap-timeout-millis:60000}")
+    private long gapTimeoutMillis;
+
+    /** 중복 실행 방지 */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /** 구독자별 전달 지연 (이벤트 수, 초) */
+    private final Map<String, AtomicLong> lagEvents = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lagSeconds = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failures = new ConcurrentHashMap<>();
+
+    /** 구독자별 비어 있는 event_id → 처음 발견한 시각 (running으로 한 스레드만 접근) */
+    private final Map<String, Map<Long, Long>> gapsSeen = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        for (OrderEventSubscriber subscriber : subscribers) {
+            String name = subscriber.name();
+            Gauge.builder("order.outbox.lag.events", lagEvents.computeIfAbsent(name, k -> new AtomicLong()), AtomicLong::get)
+                    .tag("consumer", name)
+                    .register(meterRegistry);
+            Gauge.builder("order.outbox.lag.seconds", lagSeconds.computeIfAbsent(name, k -> new AtomicLong()), AtomicLong::get)
+                    .tag("consumer", name)
+                    .register(meterRegistry);
+            failures.put(name, Counter.builder("order.outbox.dispatch.failures")
+                    .tag("consumer", name)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(initialDelayString = "${order.outbox.initial-delay-millis:10000}",
+            fixedDelayString = "${order.outbox.poll-interval-millis:1000}")
+    public void dispatch() {
+        if (!enabled || subscribers.isEmpty() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (OrderEventSubscriber subscriber : subscribers) {
+                dispatchTo(subscriber);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 한 구독자에게 밀린 이벤트를 배치 단위로 모두 전달
+    private void dispatchTo(OrderEventSubscriber subscriber) {
+        try {
+            Integer delivered;
+            do {
+                delivered = transactionTemplate.execute(status -> deliverBatch(subscriber));
+            } while (delivered != null && delivered == batchSize);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 구독자의 오프셋 행을 먼저 만든 경우, 다음 주기에 이어서 전달
+            log.debug("아웃박스 오프셋 생성 충돌: consumer={}", subscriber.name());
+        } catch (Exception e) {
+            failures.get(subscriber.name()).increment();
+            log.error("아웃박스 이벤트 전달 실패: consumer={}", subscriber.name(), e);
+        } finally {
+            updateLag(subscriber.name());
+        }
+    }
+
+    /**
+     * 오프셋 이후의 연속된 이벤트 한 배치를 구독자에게 전달하고 오프셋을 올립니다.
+     *
+     * @return 전달한 이벤트 수 (빈 번호 앞에서 멈추면 batch-size보다 작음)
+     */
+    private int deliverBatch(OrderEventSubscriber subscriber) {
+        OutboxOffset offset = outboxOffsetRepository.findForUpdate(subscriber.name())
+                .orElseGet(() -> outboxOffsetRepository.saveAndFlush(OutboxOffset.builder()
+                        .consumerName(subscriber.name())
+                        .lastEventId(0L)
+                        .updatedAt(LocalDateTime.now())
+                        .build()));
+
+        List<OrderOutboxEvent> events = orderOutboxEventRepository
+                .findByEventIdGreaterThanOrderByEventIdAsc(offset.getLastEventId(), PageRequest.of(0, batchSize));
+        int ready = countReady(subscriber.name(), offset.getLastEventId(), events);
+        if (ready == 0) {
+            return 0;
+        }
+
+        List<OrderOutboxEvent> batch = events.subList(0, ready);
+        subscriber.onEvents(batch.stream().map(OrderEvent::from).toList());
+        offset.advanceTo(batch.get(ready - 1).getEventId());
+        return ready;
+    }
+
+    /**
+     * 오프셋 다음 번호부터 전달해도 되는 이벤트 수를 계산합니다.
+     * 비어 있는 번호는 아직 커밋되지 않은 트랜잭션의 이벤트일 수 있으므로, gap-timeout-millis가 지나기 전에는 그 앞까지만 전달합니다.
+     *
+     * @param consumerName 구독자 이름
+     * @param lastEventId  현재 오프셋
+     * @param events       오프셋 이후의 이벤트 (event_id 오름차순)
+     * @return 앞에서부터 전달할 이벤트 수
+     */
+    private int countReady(String consumerName, long lastEventId, List<OrderOutboxEvent> events) {
+        Map<Long, Long> seen = gapsSeen.computeIfAbsent(consumerName, k -> new HashMap<>());
+        seen.keySet().removeIf(eventId -> eventId <= lastEventId);
+
+        long now = System.currentTimeMillis();
+        int ready = events.size();
+        long expected = lastEventId + 1;
+        for (int i = 0; i < events.size(); i++) {
+            long eventId = events.get(i).getEventId();
+            if (eventId != expected) {
+                // 빈 번호의 첫 번호로 발견 시각을 기록하여, 배치 뒤쪽의 빈 번호도 함께 기다리기 시작
+                long firstSeenAt = seen.computeIfAbsent(expected, k -> now);
+                if (ready == events.size() && now - firstSeenAt < gapTimeoutMillis) {
+                    ready = i;
+                }
+            }
+            expected = eventId + 1;
+        }
+        return ready;
+    }
+
+    private void updateLag(String consumerName) {
+        long lastEventId = outboxOffsetRepository.findById(consumerName)
+                .map(OutboxOffset::getLastEventId)
+                .orElse(0L);
+        lagEvents.get(consumerName).set(Math.max(0, orderOutboxEventRepository.findMaxEventId() - lastEventId));
+        lagSeconds.get(consumerName).set(orderOutboxEventRepository.findFirstByEventIdGreaterThanOrderByEventIdAsc(lastEventId)
+                .map(event -> Duration.between(event.getOccurredAt(), LocalDateTime.now()).toSeconds())
+                .orElse(0L));
+    }
+
+    // 모든 구독자에게 전달되고 보관 기간이 지난 이벤트 정리
+    @Scheduled(fixedDelayString = "${order.outbox.purge-interval-millis:3600000}")
+    public void purgeDelivered() {
+        if (!enabled) {
+            return;
+        }
+        List<String> names = subscribers.stream().map(OrderEventSubscriber::name).toList();
+        // 구독자가 없으면 보관 기간만 기준으로 삭제
+        long minDelivered = Long.MAX_VALUE;
+        if (!names.isEmpty()) {
+            if (outboxOffsetRepository.countByConsumerNameIn(names) < names.size()) {
+                // 아직 오프셋이 없는 구독자가 있으면 처음부터 전달해야 하므로 삭제하지 않음
+                return;
+            }
+            minDelivered = outboxOffsetRepository.findMinLastEventId(names);
+        }
+        final long deliveredUpTo = minDelivered;
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(retentionMillis));
+        Integer deleted = transactionTemplate.execute(
+                status -> orderOutboxEventRepository.deleteDelivered(deliveredUpTo, cutoff));
+        if (deleted != null && deleted > 0) {
+            log.info("전달 완료된 아웃박스 이벤트 정리: {}건", deleted);
+        }
+    }
+}
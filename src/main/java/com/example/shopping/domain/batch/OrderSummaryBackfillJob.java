@@ -0,0 +1,114 @@
+package com.example.shopping.domain.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.entity.order.OrderItem;
+import com.example.shopping.domain.entity.order.Orders;
+import com.example.shopping.domain.repository.OrderItemRepository;
+import com.example.shopping.domain.repository.OrdersRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 요약 정보 백필 작업
+ *
+ * <p>요약 컬럼(total_amount, item_count, representative_product_name)이 추가되기 전에 생성된
+ * 과거 주문의 요약 정보를 채웁니다.
+ *
+ * <p>처리 방식:
+ * <ul>
+ *   <li>주문 ID 오름차순으로 chunk-size 건씩 나누어 처리하며, 청크마다 별도의 짧은 트랜잭션을 사용합니다.</li>
+ *   <li>요약 정보가 비어 있는 주문만 대상으로 하므로 중단 후 다시 실행해도 남은 주문부터 이어서 처리됩니다.</li>
+ *   <li>청크 사이에 pause-millis 만큼 쉬어 운영 중인 트래픽에 주는 부하를 줄입니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderSummaryBackfillJob {
+
+    private final OrdersRepository ordersRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.summary-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.summary-backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${order.summary-backfill.pause-millis:100}")
+    private long pauseMillis;
+
+    /** 중복 실행 방지 */
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(initialDelayString = "${order.summary-backfill.initial-delay-millis:60000}",
+            fixedDelayString = "${order.summary-backfill.interval-millis:21600000}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long cursor = 0L;
+            int filled = 0;
+            while (true) {
+                final long afterOrderId = cursor;
+                List<Long> orderIds = transactionTemplate.execute(status -> fillChunk(afterOrderId));
+                if (orderIds == null || orderIds.isEmpty()) {
+                    break;
+                }
+                filled += orderIds.size();
+                cursor = orderIds.get(orderIds.size() - 1);
+                if (!pause()) {
+                    break;
+                }
+            }
+            if (filled > 0) {
+                log.info("주문 요약 백필 완료: {}건", filled);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * afterOrderId 이후의 요약 정보가 비어 있는 주문 한 청크를 채웁니다.
+     *
+     * @param afterOrderId 이전 청크의 마지막 주문 ID
+     * @return 처리한 주문 ID 목록 (오름차순), 더 이상 대상이 없으면 빈 리스트
+     */
+    private List<Long> fillChunk(long afterOrderId) {
+        List<Long> orderIds = ordersRepository.findOrderIdsWithoutSummary(afterOrderId, chunkSize);
+        if (orderIds.isEmpty()) {
+            return orderIds;
+        }
+
+        Map<Long, List<OrderItem>> itemsByOrder = orderItemRepository.findAllWithProductByOrderIds(orderIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getOrderId()));
+
+        for (Orders order : ordersRepository.findAllById(orderIds)) {
+            order.applySummary(itemsByOrder.getOrDefault(order.getOrderId(), List.of()));
+        }
+        return orderIds;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package com.example.shopping.domain.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.shopping.domain.dto.AdminDto;
@@ -16,7 +18,7 @@ import com.example.shopping.domain.dto.StatDto;
 import com.example.shopping.domain.service.OrderService;
 import com.example.shopping.domain.service.StatisticsService;
 import com.example.shopping.domain.service.UserService;
-import com.example.shopping.global.security.JwtTokenProvider;
+import com.example.shopping.global.security.LoginUser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,49 +27,95 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminController {
 
-    private StatisticsService statisticsService;
-    private JwtTokenProvider jwtTokenProvider;
-    private UserService userService;
-    private OrderService orderService;
-
-    private Long getUserId(String token) {
-        return Long.parseLong(jwtTokenProvider.getUserPk(token.substring(7)));
-    }
+    private final StatisticsService statisticsService;
+    private final UserService userService;
+    private final OrderService orderService;
 
     // 일별 매출 통계
     @GetMapping("/sales/daily")
-    public ResponseEntity<List<StatDto.DailySales>> getDailySales(@RequestHeader("Authorization") String token) {
-        Long userId = getUserId(token);
+    public ResponseEntity<List<StatDto.DailySales>> getDailySales(@LoginUser Long userId) {
         return ResponseEntity.ok(statisticsService.getDailySales(userId));
     }
 
-    // 카테고리별 판매 통계
+    // 기간별 매출 통계 (from ~ to, granularity: HOUR, DAY, WEEK, MONTH)
+    @GetMapping("/sales")
+    public ResponseEntity<List<StatDto.SalesBucket>> getSales(@LoginUser Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") String granularity) {
+        return ResponseEntity.ok(statisticsService.getSales(userId, from, to, granularity));
+    }
+
+    // 대시보드 매출 (일별 매출, 월 누적, 7일 이동 평균, 월/기간 합계)
+    @GetMapping("/sales/dashboard")
+    public ResponseEntity<List<StatDto.SalesDashboardRow>> getSalesDashboard(@LoginUser Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(statisticsService.getSalesDashboard(userId, from, to));
+    }
+
+    // 실시간 매출 (오늘부터 최근 days일, 메모리 카운터)
+    @GetMapping("/sales/live")
+    public ResponseEntity<List<StatDto.LiveSales>> getLiveSales(@LoginUser Long userId,
+            @RequestParam(defaultValue = "1") int days) {
+        return ResponseEntity.ok(statisticsService.getLiveSales(userId, days));
+    }
+
+    // 고유 구매자 수, 주문 금액 p50/p90/p99 (근사값)
+    @GetMapping("/orders/sketch")
+    public ResponseEntity<StatDto.OrderSketchReport> getOrderSketchReport(@LoginUser Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(statisticsService.getOrderSketchReport(userId, from, to));
+    }
+
+    // 주문 항목 임의 집계 (예: groupBy=CATEGORY,WEEK / groupBy=PRICE_BAND&priceBand=10000)
+    @GetMapping("/items")
+    public ResponseEntity<List<StatDto.ItemAggregate>> getItemAggregate(@LoginUser Long userId,
+            @RequestParam(required = false) List<String> groupBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(defaultValue = "10000") int priceBand) {
+        return ResponseEntity.ok(statisticsService.getItemAggregate(userId, groupBy, from, to,
+                categoryId, minPrice, maxPrice, priceBand));
+    }
+
+    // 카테고리별 판매 통계 (from, to가 없으면 전체 기간)
     @GetMapping("/sales/category")
-    public ResponseEntity<List<StatDto.CategorySales>> getCategorySales(@RequestHeader("Authorization") String token) {
-        Long userId = getUserId(token);
-        return ResponseEntity.ok(statisticsService.getCategorySales(userId));
+    public ResponseEntity<List<StatDto.CategorySales>> getCategorySales(@LoginUser Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from == null && to == null) {
+            return ResponseEntity.ok(statisticsService.getCategorySales(userId));
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end;
+        return ResponseEntity.ok(statisticsService.getCategorySales(userId, start, end));
     }
 
     // 회원 목록 조회
     @GetMapping("/users")
-    public ResponseEntity<List<AdminDto.UserResponse>> getAllUsers(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(userService.getAllUsers(getUserId(token)));
+    public ResponseEntity<List<AdminDto.UserResponse>> getAllUsers(@LoginUser Long userId) {
+        return ResponseEntity.ok(userService.getAllUsers(userId));
     }
 
     // 회원 상태 변경 (정지 등)
     @PatchMapping("/users/{userId}/status")
     public ResponseEntity<String> updateUserStatus(
-            @RequestHeader("Authorization") String token,
+            @LoginUser Long adminId,
             @PathVariable Long userId,
             @RequestBody AdminDto.UpdateUserStatus request
     ) {
-        userService.updateUserStatus(getUserId(token), userId, request.getStatus());
+        userService.updateUserStatus(adminId, userId, request.getStatus());
         return ResponseEntity.ok("회원 상태가 변경되었습니다.");
     }
 
     // 전체 주문 조회
     @GetMapping("/orders")
-    public ResponseEntity<List<AdminDto.AdminOrderResponse>> getAllOrders(@RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(orderService.getAllOrders(getUserId(token)));
+    public ResponseEntity<List<AdminDto.AdminOrderResponse>> getAllOrders(@LoginUser Long userId) {
+        return ResponseEntity.ok(orderService.getAllOrders(userId));
     }
 }
\ No newline at end of file
@@ -2,13 +2,15 @@ package com.example.shopping.domain.controller;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.shopping.domain.dto.AuthDto;
 import com.example.shopping.domain.service.AuthService;
+import com.example.shopping.global.security.LoginUser;
+import com.example.shopping.global.security.UserPrincipal;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -109,16 +111,18 @@ public class AuthController {
      * <p>
      * 인증 실패:
      * <ul>
-     * <li>사용자가 존재하지 않거나 비밀번호가 일치하지 않으면 예외가 발생합니다.</li>
-     * <li>현재는 500 Internal Server Error로 반환됩니다 (예외 처리 필요).</li>
+     * <li>사용자가 존재하지 않거나 비밀번호가 일치하지 않으면 400을 반환합니다.</li>
+     * <li>로그인 ID별, IP별 시도 한도를 넘으면 429, 연속 실패로 잠긴 계정은 423을 Retry-After 헤더와 함께 반환합니다.</li>
      * </ul>
      * 
-     * @param request 로그인 요청 DTO
+     * @param request     로그인 요청 DTO
+     * @param httpRequest 클라이언트 IP 확인용 (프록시 뒤에서는 server.forward-headers-strategy 설정 필요)
      * @return JWT 토큰을 포함한 ResponseEntity
      */
     @PostMapping("/login")
-    public ResponseEntity<AuthDto.TokenResponse> login(@RequestBody @Valid AuthDto.LoginRequest request) {
-        AuthDto.TokenResponse tokenResponse = authService.login(request);
+    public ResponseEntity<AuthDto.TokenResponse> login(@RequestBody @Valid AuthDto.LoginRequest request,
+            HttpServletRequest httpRequest) {
+        AuthDto.TokenResponse tokenResponse = authService.login(request, httpRequest.getRemoteAddr());
         return ResponseEntity.ok(tokenResponse);
     }
 
@@ -128,11 +132,10 @@ public class AuthController {
         return ResponseEntity.ok(authService.reissue(request));
     }
 
-    // 로그아웃
+    // 로그아웃 (필터에서 검증된 액세스 토큰의 principal 사용, 인증되지 않은 요청은 401)
     @PostMapping("/logout")
-    public ResponseEntity<String> logout(@RequestHeader("Authorization") String token) {
-        String accessToken = token.substring(7);
-        authService.logout(accessToken);
+    public ResponseEntity<String> logout(@LoginUser UserPrincipal principal) {
+        authService.logout(principal);
         return ResponseEntity.ok("로그아웃 되었습니다.");
     }
 
@@ -1,5 +1,6 @@
 package com.example.shopping.domain.controller;
 
+import java.net.URI;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
@@ -15,8 +16,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.shopping.domain.dto.OrderDto;
+import com.example.shopping.domain.service.AsyncCheckoutService;
+import com.example.shopping.domain.service.OrderIdempotencyService;
 import com.example.shopping.domain.service.OrderService;
-import com.example.shopping.global.security.JwtTokenProvider;
+import com.example.shopping.global.security.LoginUser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,7 +41,9 @@ import lombok.RequiredArgsConstructor;
  * <ul>
  * <li>POST /api/orders/cart: 장바구니 담기 (인증 필요)</li>
  * <li>GET /api/orders/cart: 장바구니 조회 (인증 필요)</li>
- * <li>POST /api/orders: 주문하기 (인증 필요)</li>
+ * <li>POST /api/orders/create: 주문하기 (인증 필요)</li>
+ * <li>POST /api/orders/create/async: 비동기 주문 접수 (인증 필요)</li>
+ * <li>GET /api/orders/create/async/{ticketId}: 비동기 주문 처리 상태 조회 (인증 필요)</li>
  * </ul>
  * 
  * <p>
@@ -46,7 +51,7 @@ import lombok.RequiredArgsConstructor;
  * <ul>
  * <li>모든 엔드포인트는 JWT 토큰 인증이 필요합니다.</li>
  * <li>Authorization 헤더에 "Bearer {token}" 형식으로 토큰을 전송해야 합니다.</li>
- * <li>토큰에서 사용자 ID를 추출하여 각 요청을 처리합니다.</li>
+ * <li>토큰은 JwtAuthenticationFilter에서 검증되고, 사용자 ID는 @LoginUser로 주입됩니다.</li>
  * </ul>
  * 
  * @author shopping-server
@@ -60,33 +65,11 @@ public class OrderController {
     /** 주문 서비스 */
     private final OrderService orderService;
 
-    /** JWT 토큰 제공자 */
-    private final JwtTokenProvider jwtTokenProvider;
+    /** 비동기 주문 접수 서비스 */
+    private final AsyncCheckoutService asyncCheckoutService;
 
-    /**
-     * Authorization 헤더의 JWT 토큰에서 사용자 ID를 추출합니다.
-     * 
-     * <p>
-     * 토큰 형식:
-     * <ul>
-     * <li>헤더 값: "Bearer {token}"</li>
-     * <li>"Bearer " 접두사를 제거한 후 토큰을 파싱합니다.</li>
-     * </ul>
-     * 
-     * <p>
-     * 주의사항:
-     * <ul>
-     * <li>토큰이 유효하지 않거나 형식이 올바르지 않으면 예외가 발생할 수 있습니다.</li>
-     * <li>향후 토큰 검증 및 예외 처리를 추가하는 것이 권장됩니다.</li>
-     * </ul>
-     * 
-     * @param token Authorization 헤더 값 ("Bearer {token}" 형식)
-     * @return 사용자 ID
-     */
-    private Long getUserId(String token) {
-        String tokenValue = token.substring(7); // "Bearer " 제거
-        return Long.parseLong(jwtTokenProvider.getUserPk(tokenValue));
-    }
+    /** 멱등 주문 생성 서비스 */
+    private final OrderIdempotencyService orderIdempotencyService;
 
     /**
      * 장바구니 담기 API
@@ -117,32 +100,29 @@ public class OrderController {
      * <li>같은 상품이 없으면 새로운 장바구니 항목을 생성합니다.</li>
      * </ul>
      * 
-     * @param token   JWT 토큰 (Authorization 헤더)
+     * @param userId  인증된 사용자 ID
      * @param request 장바구니 담기 요청 DTO
      * @return 성공 메시지를 포함한 ResponseEntity
      */
     @PostMapping("/cart/add")
-    public ResponseEntity<String> addToCart(@RequestHeader("Authorization") String token,
+    public ResponseEntity<String> addToCart(@LoginUser Long userId,
             @RequestBody OrderDto.AddToCart request) {
-        Long userId = getUserId(token);
         orderService.addToCart(userId, request);
         return ResponseEntity.ok("장바구니에 담겼습니다.");
     }
 
     @PutMapping("/cart/update/{cartItemId}")
-    public ResponseEntity<String> updateCartItemQty(@RequestHeader("Authorization") String token,
+    public ResponseEntity<String> updateCartItemQty(@LoginUser Long userId,
             @PathVariable Long cartItemId, @RequestBody OrderDto.AddToCart request // qty 필드 재사용
     ) {
-        Long userId = getUserId(token);
         orderService.updateCartItemQty(userId, cartItemId, request.getQty());
         return ResponseEntity.ok("수량이 변경되었습니다.");
     }
 
     // 장바구니 항목 삭제
     @DeleteMapping("/cart/delete/{cartItemId}")
-    public ResponseEntity<String> deleteCartItem(@RequestHeader("Authorization") String token,
+    public ResponseEntity<String> deleteCartItem(@LoginUser Long userId,
             @PathVariable Long cartItemId) {
-        Long userId = getUserId(token);
         orderService.deleteCartItem(userId, cartItemId);
         return ResponseEntity.ok("삭제되었습니다.");
     }
@@ -173,12 +153,11 @@ public class OrderController {
      * <li>장바구니가 없거나 비어있으면 빈 리스트를 반환합니다.</li>
      * </ul>
      * 
-     * @param token JWT 토큰 (Authorization 헤더)
+     * @param userId 인증된 사용자 ID
      * @return 장바구니 항목 목록을 포함한 ResponseEntity
      */
     @GetMapping("/cart")
-    public ResponseEntity<List<OrderDto.CartItemResponse>> getCart(@RequestHeader("Authorization") String token) {
-        Long userId = getUserId(token);
+    public ResponseEntity<List<OrderDto.CartItemResponse>> getCart(@LoginUser Long userId) {
         return ResponseEntity.ok(orderService.getCartItems(userId));
     }
 
@@ -194,6 +173,7 @@ public class OrderController {
      * <ul>
      * <li>Method: POST</li>
      * <li>Headers: Authorization: Bearer {token} (필수)</li>
+     * <li>Headers: Idempotency-Key: {클라이언트가 생성한 고유 값} (선택, 최대 64자)</li>
      * <li>Body: 없음 (장바구니의 모든 상품을 주문)</li>
      * </ul>
      * 
@@ -219,56 +199,93 @@ public class OrderController {
      * <ul>
      * <li>모든 작업이 하나의 트랜잭션으로 처리되어 원자성이 보장됩니다.</li>
      * <li>재고 부족 시 전체 주문이 롤백됩니다.</li>
+     * <li>Idempotency-Key가 있으면 같은 키로 재시도된 요청은 주문을 다시 만들지 않고 처음 생성된 주문 ID를 반환합니다.</li>
+     * <li>같은 키의 요청이 아직 처리 중이면 완료될 때까지 기다리며, 대기 시간을 넘기면 409와 Retry-After 헤더를 반환합니다.</li>
      * </ul>
      * 
-     * @param token JWT 토큰 (Authorization 헤더)
+     * @param userId         인증된 사용자 ID
+     * @param idempotencyKey 멱등 키 (Idempotency-Key 헤더, 선택)
      * @return 생성된 주문 ID를 포함한 ResponseEntity
      * @throws RuntimeException 장바구니가 비어있거나, 주문할 상품이 없거나, 재고가 부족한 경우
      */
     @PostMapping("/create")
-    public ResponseEntity<Long> createOrder(@RequestHeader("Authorization") String token) {
-        Long userId = getUserId(token);
-        Long orderId = orderService.createOrder(userId);
+    public ResponseEntity<Long> createOrder(@LoginUser Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        Long orderId = idempotencyKey == null
+                ? orderService.createOrder(userId)
+                : orderIdempotencyService.createOrder(userId, idempotencyKey);
         return ResponseEntity.ok(orderId);
     }
 
+    /**
+     * 비동기 주문 접수 API
+     * 
+     * <p>
+     * 주문 요청을 검증한 뒤 큐에 넣고 접수 번호를 즉시 반환합니다.
+     * 주문 생성은 백그라운드 워커가 처리하며, 결과는 상태 조회 API로 확인합니다.
+     * 
+     * <p>
+     * 응답:
+     * <ul>
+     * <li>Status: 202 Accepted, Location: 상태 조회 URL</li>
+     * <li>Body: OrderDto.CheckoutTicketResponse (접수 번호, QUEUED)</li>
+     * <li>큐가 가득 찬 경우: 429 Too Many Requests, Retry-After 헤더</li>
+     * <li>Idempotency-Key가 있으면 같은 키로 재시도된 요청에 같은 접수를 반환하고, 주문은 한 번만 생성됩니다.</li>
+     * </ul>
+     * 
+     * @param userId         인증된 사용자 ID
+     * @param idempotencyKey 멱등 키 (Idempotency-Key 헤더, 선택)
+     * @return 접수 번호를 포함한 ResponseEntity
+     */
+    @PostMapping("/create/async")
+    public ResponseEntity<OrderDto.CheckoutTicketResponse> createOrderAsync(
+            @LoginUser Long userId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        OrderDto.CheckoutTicketResponse ticket = asyncCheckoutService.submit(userId, idempotencyKey);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/orders/create/async/" + ticket.getTicketId()))
+                .body(ticket);
+    }
+
+    // 비동기 주문 처리 상태 조회
+    @GetMapping("/create/async/{ticketId}")
+    public ResponseEntity<OrderDto.CheckoutTicketResponse> getCheckoutStatus(
+            @LoginUser Long userId, @PathVariable String ticketId) {
+        return ResponseEntity.ok(asyncCheckoutService.getStatus(userId, ticketId));
+    }
+
     // 주문 목록 조회
     @GetMapping("/list")
-    public ResponseEntity<List<OrderDto.OrderResponse>> getOrderList(@RequestHeader("Authorization") String token) {
-        Long userId = getUserId(token);
+    public ResponseEntity<List<OrderDto.OrderResponse>> getOrderList(@LoginUser Long userId) {
         return ResponseEntity.ok(orderService.getOrderList(userId));
     }
 
     // 주문 상세 조회
     @GetMapping("/{orderId}/detail")
-    public ResponseEntity<OrderDto.OrderDetailResponse> getOrderDetail(@RequestHeader("Authorization") String token,
+    public ResponseEntity<OrderDto.OrderDetailResponse> getOrderDetail(@LoginUser Long userId,
             @PathVariable Long orderId) {
-        Long userId = getUserId(token);
         return ResponseEntity.ok(orderService.getOrderDetail(userId, orderId));
     }
 
     // 주문 취소
     @PostMapping("/{orderId}/cancel")
-    public ResponseEntity<String> cancelOrder(@RequestHeader("Authorization") String token,
+    public ResponseEntity<String> cancelOrder(@LoginUser Long userId,
             @PathVariable Long orderId) {
-        Long userId = getUserId(token);
         orderService.cancelOrder(userId, orderId);
         return ResponseEntity.ok("주문이 취소되었습니다.");
     }
 
     // 장바구니 전체 비우기
     @DeleteMapping("/cart/clear")
-    public ResponseEntity<String> clearCart(@RequestHeader("Authorization") String token) {
-        Long userId = getUserId(token);
+    public ResponseEntity<String> clearCart(@LoginUser Long userId) {
         orderService.clearCart(userId);
         return ResponseEntity.ok("장바구니를 비웠습니다.");
     }
 
     // 주문 상태 및 배송 정보 변경 (관리자)
     @PatchMapping("/{orderId}/status")
-    public ResponseEntity<String> updateOrderStatus(@RequestHeader("Authorization") String token,
+    public ResponseEntity<String> updateOrderStatus(@LoginUser Long userId,
             @PathVariable Long orderId, @RequestBody OrderDto.UpdateStatus request) {
-        Long userId = getUserId(token);
         // Service 메서드 시그니처 변경에 맞춰 호출 (dto 전체 전달)
         orderService.updateOrderStatus(userId, orderId, request);
         return ResponseEntity.ok("주문 상태가 변경되었습니다.");
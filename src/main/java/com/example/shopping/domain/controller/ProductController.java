@@ -10,9 +10,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.shopping.domain.dto.ProductDto;
+import com.example.shopping.domain.service.BestSellerService;
 import com.example.shopping.domain.service.ProductService;
 
 import jakarta.validation.Valid;
@@ -37,6 +39,7 @@ import lombok.RequiredArgsConstructor;
  * <li>POST /api/products/category/add: 카테고리 등록</li>
  * <li>POST /api/products/add: 상품 등록</li>
  * <li>GET /api/products/list: 상품 목록 조회</li>
+ * <li>GET /api/products/best-sellers: 최근 1시간/1일 베스트셀러 (메모리 추정값)</li>
  * </ul>
  * 
  * <p>
@@ -56,6 +59,9 @@ public class ProductController {
     /** 상품 서비스 */
     private final ProductService productService;
 
+    /** 베스트셀러 서비스 */
+    private final BestSellerService bestSellerService;
+
     /**
      * 카테고리 등록 API
      * 
@@ -165,6 +171,24 @@ public class ProductController {
         return ResponseEntity.ok(productService.getProductList());
     }
 
+    /**
+     * 베스트셀러 조회 API
+     * 
+     * <p>
+     * 최근 1시간(hour) 또는 1일(day) 동안 많이 팔린 상품을 메모리에서 조회합니다.
+     * 주문 테이블을 집계하지 않으므로 상품 상세 경로({productId})보다 먼저 매핑됩니다.
+     * 
+     * @param window 구간 (hour, day)
+     * @param limit  최대 개수
+     * @return 추정 판매 수량 내림차순 상품 목록
+     */
+    @GetMapping("/best-sellers")
+    public ResponseEntity<List<ProductDto.BestSeller>> getBestSellers(
+            @RequestParam(defaultValue = "hour") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(bestSellerService.getBestSellers(window, limit));
+    }
+
     /**
      * 상품 상세 조회 API
      * 
@@ -5,13 +5,12 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.shopping.domain.dto.UserDto;
 import com.example.shopping.domain.service.UserService;
-import com.example.shopping.global.security.JwtTokenProvider;
+import com.example.shopping.global.security.LoginUser;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,30 +20,25 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 
     private final UserService userService;
-    private final JwtTokenProvider jwtTokenProvider;
-
-    private Long getUserId(String token) {
-        return Long.parseLong(jwtTokenProvider.getUserPk(token.substring(7)));
-    }
 
     // 프로필 수정
     @PatchMapping("/profile")
-    public ResponseEntity<String> updateProfile(@RequestHeader("Authorization") String token, @RequestBody UserDto.UpdateProfile request) {
-        userService.updateProfile(getUserId(token), request);
+    public ResponseEntity<String> updateProfile(@LoginUser Long userId, @RequestBody UserDto.UpdateProfile request) {
+        userService.updateProfile(userId, request);
         return ResponseEntity.ok("프로필이 수정되었습니다.");
     }
 
     // 비밀번호 변경 (로그인 중)
     @PatchMapping("/password")
-    public ResponseEntity<String> changePassword(@RequestHeader("Authorization") String token, @RequestBody UserDto.ChangePassword request) {
-        userService.changePassword(getUserId(token), request);
+    public ResponseEntity<String> changePassword(@LoginUser Long userId, @RequestBody UserDto.ChangePassword request) {
+        userService.changePassword(userId, request);
         return ResponseEntity.ok("비밀번호가 변경되었습니다.");
     }
 
     // 회원 탈퇴
     @DeleteMapping("/me")
-    public ResponseEntity<String> withdraw(@RequestHeader("Authorization") String token) {
-        userService.withdraw(getUserId(token));
+    public ResponseEntity<String> withdraw(@LoginUser Long userId) {
+        userService.withdraw(userId);
         return ResponseEntity.ok("탈퇴 처리되었습니다.");
     }
 
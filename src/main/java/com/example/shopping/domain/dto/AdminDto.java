@@ -2,6 +2,8 @@ package com.example.shopping.domain.dto;
 
 import java.time.LocalDateTime;
 
+import com.example.shopping.domain.enums.OrderStatus;
+
 import lombok.Data;
 
 public class AdminDto {
@@ -29,7 +31,7 @@ public class AdminDto {
         private Long orderId;
         private Long userId;        // 주문자 ID
         private String userName;    // 주문자명
-        private String status;
+        private OrderStatus status; // JSON에는 라벨("complete" 등)로 표시
         private LocalDateTime orderedAt;
         private String productName;
         private Integer totalAmount;
@@ -107,7 +107,7 @@ public class AuthDto {
      * 
      * <p>사용 예:
      * <pre>
-     * String token = jwtTokenProvider.createToken(userId, "ROLE_USER");
+     * String token = jwtTokenProvider.createToken(userId, List.of("ROLE_USER"));
      * AuthDto.TokenResponse response = new AuthDto.TokenResponse(token);
      * // response.accessToken = token
      * // response.tokenType = "Bearer"
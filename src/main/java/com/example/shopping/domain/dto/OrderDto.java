@@ -3,6 +3,8 @@ package com.example.shopping.domain.dto;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import com.example.shopping.domain.enums.OrderStatus;
+
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 
@@ -103,9 +105,10 @@ public class OrderDto {
     @Data
     public static class OrderResponse {
         private Long orderId;
-        private String status;
+        private OrderStatus status; // JSON에는 라벨("complete" 등)로 표시
         private LocalDateTime orderedAt;
         private String representativeProductName; // "상품A 외 2건"
+        private Integer itemCount;
         private Integer totalAmount;
     }
 
@@ -113,16 +116,26 @@ public class OrderDto {
     @Data
     public static class OrderDetailResponse {
         private Long orderId;
-        private String status;
+        private OrderStatus status;
         private LocalDateTime orderedAt;
         private List<CartItemResponse> orderItems; // 기존 CartItemResponse 재사용 (구조가 비슷하므로)
         private Integer totalAmount;
     }
 
+    // 비동기 주문 접수 결과 및 상태 조회 응답
+    @Data
+    public static class CheckoutTicketResponse {
+        private String ticketId;
+        private String status;      // QUEUED, PROCESSING, COMPLETED, FAILED
+        private Long orderId;       // COMPLETED인 경우 생성된 주문 ID
+        private String errorCode;   // FAILED인 경우 에러 코드
+        private String message;     // FAILED인 경우 에러 메시지
+    }
+
     @Data
     public static class UpdateStatus {
         @NotBlank
-        private String status;
+        private String status;        // complete, shipping, delivered, cancel
         private String carrier;       // 택배사 (선택)
         private String trackingNumber; // 운송장 번호 (선택)
     }
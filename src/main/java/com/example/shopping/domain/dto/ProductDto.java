@@ -156,5 +156,15 @@ public class ProductDto {
     public static class CategoryResponse {
         private Long categoryId;
         private String name;
-    }    
+    }
+
+    // 베스트셀러 (메모리 추정값)
+    @Data
+    @AllArgsConstructor
+    public static class BestSeller {
+        private Long productId;
+        private String name;
+        private Long qty;           // 추정 판매 수량 (실제 값 이상)
+        private Long maxError;      // qty의 최대 과대 추정량
+    }
 }
@@ -1,5 +1,8 @@
 package com.example.shopping.domain.dto;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,6 +17,53 @@ public class StatDto {
         private String date;        // 날짜 (YYYY-MM-DD)
         private Long totalSales;    // 총 매출액
         private Long orderCount;    // 주문 건수
+        private Long itemQty;       // 판매 수량
+    }
+
+    // 기간별 매출 통계 (시간/일/주/월 단위 구간)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SalesBucket {
+        private String bucketStart; // 구간 시작 (HOUR: YYYY-MM-DDTHH:00, 그 외: YYYY-MM-DD)
+        private Long totalSales;
+        private Long orderCount;
+        private Long itemQty;
+    }
+
+    // 대시보드 일별 매출 (월 누적, 7일 이동 평균, 월/기간 합계 포함)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SalesDashboardRow {
+        private String date;            // 날짜 (YYYY-MM-DD)
+        private Long totalSales;
+        private Long orderCount;
+        private Long monthToDate;       // 해당 월 1일부터 이 날까지의 누적 매출
+        private Double movingAvg7d;     // 이 날 포함 최근 7일 평균 매출
+        private Long monthTotal;        // 해당 월 전체 매출 (조회 기간 밖의 날 포함)
+        private Long rangeTotal;        // 조회 기간 전체 매출
+        private Long rangeOrderCount;   // 조회 기간 전체 주문 건수
+    }
+
+    // 실시간 일별 매출 (메모리 카운터)
+    @Data
+    public static class LiveSales {
+        private String date;        // 날짜 (YYYY-MM-DD)
+        private Long totalSales;
+        private Long itemQty;
+        private Long orderCount;
+        private List<LiveCategorySales> categories; // 매출액 내림차순
+    }
+
+    // 실시간 카테고리별 매출 (메모리 카운터)
+    @Data
+    public static class LiveCategorySales {
+        private Long categoryId;
+        private String categoryName;
+        private Long totalSales;
+        private Long totalQty;
+        private Long orderCount;    // 해당 카테고리 상품이 포함된 주문 건수
     }
 
     // 카테고리별 판매량
@@ -25,4 +75,60 @@ public class StatDto {
         private Long totalQty;      // 총 판매 개수
         private Long totalSales;    // 총 판매 금액
     }
-}
\ No newline at end of file
+
+    // 일별 카테고리 판매 (카테고리 통계 캐시, 일별 카테고리 집계 복구용)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyCategorySales {
+        private LocalDate salesDate;
+        private Long categoryId;
+        private String categoryName;
+        private Long totalQty;
+        private Long totalSales;
+    }
+
+    // 주문별 카테고리 판매 (일별 카테고리 집계 증감분 계산용)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderCategorySales {
+        private Long orderId;
+        private Long categoryId;
+        private String categoryName;
+        private Long totalQty;
+        private Long totalSales;
+    }
+
+    // 주문 항목 집계 (컬럼형 스냅샷)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemAggregate {
+        private List<String> keys;  // groupBy 순서의 그룹 값
+        private Long totalQty;
+        private Long totalSales;
+        private Long itemCount;     // 주문 항목 수
+    }
+
+    // 주문 근사 통계 (스케치 기반)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderSketchStats {
+        private String period;          // 날짜 (YYYY-MM-DD) 또는 기간 (YYYY-MM-DD~YYYY-MM-DD)
+        private Long uniqueBuyers;      // 고유 구매자 수 (HyperLogLog 추정값)
+        private Long orderCount;        // 주문 건수 (취소 포함)
+        private Long p50OrderValue;     // 주문 금액 분위수 (t-digest 추정값, 주문이 없으면 null)
+        private Long p90OrderValue;
+        private Long p99OrderValue;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderSketchReport {
+        private OrderSketchStats total;         // 기간 전체 (일별 스케치를 합친 값)
+        private List<OrderSketchStats> days;    // 일별 값
+    }
+}
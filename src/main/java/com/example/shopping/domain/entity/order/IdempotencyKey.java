@@ -0,0 +1,97 @@
+package com.example.shopping.domain.entity.order;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 주문 생성 멱등성 키 엔티티
+ * 
+ * <p>Idempotency-Key 헤더로 요청된 주문 생성의 결과(주문 ID)를 기록합니다.
+ * 같은 키로 재시도된 요청은 주문을 다시 생성하지 않고 기록된 주문 ID를 반환합니다.
+ * 
+ * <p>설계 특징:
+ * <ul>
+ *   <li>키는 "사용자 ID:헤더 값" 형식으로 저장하여 사용자 간 충돌을 막습니다.</li>
+ *   <li>주문 생성과 같은 트랜잭션에서 먼저 저장되므로, 다른 서버에서 같은 키로 동시에 들어온 요청은
+ *       PK 충돌로 실패한 뒤 기록된 결과를 조회합니다.</li>
+ *   <li>expiresAt이 지난 키는 정리 작업에서 삭제됩니다.</li>
+ *   <li>키를 직접 지정하는 엔티티이므로 {@link Persistable}로 새 엔티티임을 알려 save가 merge(SELECT + UPDATE)가 아닌
+ *       persist(INSERT)를 실행하게 합니다. 그래야 같은 키의 두 번째 INSERT가 PK 충돌로 실패합니다.</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdempotencyKey implements Persistable<String> {
+
+    /**
+     * 멱등성 키 (Primary Key)
+     * "사용자 ID:Idempotency-Key 헤더 값" 형식입니다.
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    /**
+     * 요청한 사용자 ID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 생성된 주문 ID
+     * 주문 생성이 끝나기 전(같은 트랜잭션 내)에는 null입니다.
+     */
+    @Column(name = "order_id")
+    private Long orderId;
+
+    /**
+     * 만료 시간
+     * 이 시간 이후에는 같은 키로 요청해도 새 주문이 생성됩니다.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 아직 저장되지 않은 엔티티인지 여부 (조회되거나 저장된 뒤에는 false)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    public void assignOrder(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
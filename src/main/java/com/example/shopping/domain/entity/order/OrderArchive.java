@@ -0,0 +1,77 @@
+package com.example.shopping.domain.entity.order;
+
+import java.time.LocalDateTime;
+
+import com.example.shopping.domain.enums.OrderStatus;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 보관 주문 엔티티
+ * 
+ * <p>오래되고 더 이상 상태가 바뀌지 않는 주문을 orders 테이블에서 옮겨 보관합니다.
+ * orders 테이블을 작게 유지하여 주문 목록, 관리자 조회, 통계 쿼리가 과거 주문을 읽지 않도록 합니다.
+ * 
+ * <p>설계 특징:
+ * <ul>
+ *   <li>주문 ID를 그대로 유지하므로 주문 상세 조회는 orders에 없는 ID를 이 테이블에서 찾습니다.</li>
+ *   <li>보관 작업(OrderArchiveJob)이 INSERT ... SELECT로만 기록하며, 이후 변경되지 않습니다.</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_user_id", columnList = "user_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderArchive {
+
+    /**
+     * 주문 고유 ID (Primary Key, 원래 주문 ID)
+     */
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "TINYINT")
+    private OrderStatus status;
+
+    @Column(name = "tracking_number")
+    private String trackingNumber;
+
+    @Column(length = 50)
+    private String carrier;
+
+    @Column(name = "total_amount")
+    private Integer totalAmount;
+
+    @Column(name = "item_count")
+    private Integer itemCount;
+
+    @Column(name = "representative_product_name", length = 150)
+    private String representativeProductName;
+
+    @Column(name = "ordered_at")
+    private LocalDateTime orderedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 보관 처리 시간
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,49 @@
+package com.example.shopping.domain.entity.order;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 보관 주문 항목 엔티티
+ * 
+ * <p>보관 주문(OrderArchive)의 주문 항목입니다.
+ * 보관 시점의 상품명을 함께 저장하여 상세 조회 시 상품 테이블을 조인하지 않습니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "order_item_archive", indexes = {
+        @Index(name = "idx_order_item_archive_order_id", columnList = "order_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderItemArchive {
+
+    /**
+     * 주문 항목 고유 ID (Primary Key, 원래 주문 항목 ID)
+     */
+    @Id
+    @Column(name = "order_item_id")
+    private Long orderItemId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /**
+     * 보관 시점의 상품명
+     */
+    @Column(name = "product_name", nullable = false, length = 100)
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer qty;
+
+    @Column(name = "price_at_order", nullable = false)
+    private Integer priceAtOrder;
+}
@@ -0,0 +1,119 @@
+package com.example.shopping.domain.entity.order;
+
+import java.time.LocalDateTime;
+
+import com.example.shopping.domain.enums.OrderEventType;
+import com.example.shopping.domain.enums.OrderStatus;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 주문 아웃박스 이벤트 엔티티
+ * 
+ * <p>주문 생성, 취소, 상태 변경 시 주문과 같은 트랜잭션에서 기록되는 이벤트입니다.
+ * 트랜잭션이 커밋된 이벤트만 남으므로, 주문이 롤백되면 이벤트도 함께 사라집니다.
+ * 백그라운드 디스패처(OrderOutboxDispatcher)가 event_id 순서로 읽어 구독자에게 전달합니다.
+ * 
+ * <p>설계 특징:
+ * <ul>
+ *   <li>구독자가 필요로 하는 값(총액, 항목 수, 상태)을 컬럼으로 함께 저장하여 전달 시 주문을 다시 조회하지 않습니다.</li>
+ *   <li>event_id는 증가하는 값이므로 구독자별 오프셋(OutboxOffset)으로 전달 위치를 관리합니다.</li>
+ *   <li>모든 구독자에게 전달되고 보관 기간이 지난 이벤트는 정리 작업에서 삭제됩니다.</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "order_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OrderOutboxEvent {
+
+    /**
+     * 이벤트 고유 ID (Primary Key, 전달 순서)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    /**
+     * 이벤트 종류
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private OrderEventType eventType;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 이벤트 발생 시점의 주문 상태
+     */
+    @Column(name = "order_status", columnDefinition = "TINYINT")
+    private OrderStatus orderStatus;
+
+    @Column(name = "total_amount")
+    private Integer totalAmount;
+
+    @Column(name = "item_count")
+    private Integer itemCount;
+
+    /**
+     * 주문 상품 수량 합계 (생성, 취소 이벤트에만 기록)
+     */
+    @Column(name = "item_qty")
+    private Integer itemQty;
+
+    /**
+     * 주문 시간 (취소 이벤트를 주문일의 통계에 반영하기 위함)
+     */
+    @Column(name = "ordered_at")
+    private LocalDateTime orderedAt;
+
+    /**
+     * 이벤트 발생 시간
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * 주문의 현재 상태로 이벤트를 생성합니다.
+     * 
+     * @param eventType 이벤트 종류
+     * @param order     이벤트가 발생한 주문 (저장되어 ID가 있어야 함)
+     * @return 저장 전의 아웃박스 이벤트
+     */
+    public static OrderOutboxEvent of(OrderEventType eventType, Orders order) {
+        return of(eventType, order, null);
+    }
+
+    /**
+     * 주문의 현재 상태와 상품 수량 합계로 이벤트를 생성합니다.
+     * 
+     * @param eventType 이벤트 종류
+     * @param order     이벤트가 발생한 주문 (저장되어 ID가 있어야 함)
+     * @param itemQty   주문 상품 수량 합계
+     * @return 저장 전의 아웃박스 이벤트
+     */
+    public static OrderOutboxEvent of(OrderEventType eventType, Orders order, Integer itemQty) {
+        return OrderOutboxEvent.builder()
+                .eventType(eventType)
+                .orderId(order.getOrderId())
+                .userId(order.getUserId())
+                .orderStatus(order.getStatus())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getItemCount())
+                .itemQty(itemQty)
+                .orderedAt(order.getOrderedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.shopping.domain.entity.order;
+
+import com.example.shopping.domain.enums.OrderStatus;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 주문 상태 변환기
+ * 
+ * <p>OrderStatus를 1바이트 코드로 저장합니다. 문자열 대신 작은 정수로 저장하여
+ * (status, ordered_at) 인덱스와 테이블 행의 크기를 줄입니다.
+ * autoApply이므로 OrderStatus 타입 필드와 QueryDSL/JPQL 조건에 자동으로 적용됩니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Converter(autoApply = true)
+public class OrderStatusConverter implements AttributeConverter<OrderStatus, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(OrderStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public OrderStatus convertToEntityAttribute(Integer code) {
+        return code == null ? null : OrderStatus.fromCode(code);
+    }
+}
@@ -7,6 +7,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.example.shopping.domain.entity.BaseTimeEntity;
+import com.example.shopping.domain.enums.OrderStatus;
+import com.example.shopping.domain.exception.BusinessException;
+import com.example.shopping.domain.exception.ErrorCode;
 
 /**
  * 주문 엔티티
@@ -26,16 +29,23 @@ import com.example.shopping.domain.entity.BaseTimeEntity;
  * 
  * <p>주문 상태:
  * <ul>
- *   <li>"complete": 주문 완료 (기본값)</li>
- *   <li>"cancel": 주문 취소</li>
- *   <li>향후 "pending", "shipping", "delivered" 등 추가 가능</li>
+ *   <li>OrderStatus 열거형으로 관리하며, 허용된 흐름(OrderStatus.canTransitionTo)으로만 변경됩니다.</li>
+ * </ul>
+ * 
+ * <p>인덱스:
+ * <ul>
+ *   <li>(user_id, order_id): 사용자 주문 목록 조회 (최신순 정렬 포함)</li>
+ *   <li>(status, ordered_at): 상태별 기간 조회 (매출 통계)</li>
  * </ul>
  * 
  * @author shopping-server
  * @since 1.0
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_order", columnList = "user_id, order_id"),
+        @Index(name = "idx_orders_status_ordered", columnList = "status, ordered_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -63,18 +73,12 @@ public class Orders extends BaseTimeEntity {
 
     /**
      * 주문 상태
-     * 주문의 현재 상태를 나타내는 문자열입니다.
-     * 기본값은 "complete"이며, 필수 입력 항목입니다.
-     * 
-     * <p>가능한 값:
-     * <ul>
-     *   <li>"complete": 주문 완료</li>
-     *   <li>"cancel": 주문 취소</li>
-     * </ul>
+     * 기본값은 COMPLETE이며, 필수 입력 항목입니다.
+     * DB에는 OrderStatusConverter로 변환된 1바이트 코드가 저장됩니다.
      */
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "TINYINT")
     @Builder.Default
-    private String status = "complete";
+    private OrderStatus status = OrderStatus.COMPLETE;
 
     @OneToMany(mappedBy = "order", fetch = FetchType.LAZY)
     @Builder.Default
@@ -95,8 +99,34 @@ public class Orders extends BaseTimeEntity {
     @Column(name = "total_amount")
     private Integer totalAmount;
 
-    public void updateDeliveryInfo(String status, String carrier, String trackingNumber) {
-        this.status = status;
+    /**
+     * 주문 항목 수
+     * 주문 생성 시점에 함께 기록되어, 목록 조회 시 주문 항목을 다시 읽지 않도록 합니다.
+     */
+    @Column(name = "item_count")
+    private Integer itemCount;
+
+    /**
+     * 대표 상품명
+     * 첫 번째 주문 항목의 상품명과 나머지 항목 수로 구성됩니다 (예: "상품A 외 2건").
+     */
+    @Column(name = "representative_product_name", length = 150)
+    private String representativeProductName;
+
+    /**
+     * 주문 상태와 배송 정보를 변경합니다 (관리자).
+     * 
+     * <p>상태가 같으면 배송 정보만 변경합니다.
+     * 
+     * @param status         변경할 상태
+     * @param carrier        택배사 (null이면 유지)
+     * @param trackingNumber 송장 번호 (null이면 유지)
+     * @throws BusinessException 허용되지 않은 상태 변경인 경우
+     */
+    public void updateDeliveryInfo(OrderStatus status, String carrier, String trackingNumber) {
+        if (this.status != status) {
+            changeStatus(status);
+        }
         if (carrier != null) this.carrier = carrier;
         if (trackingNumber != null) this.trackingNumber = trackingNumber;
     }
@@ -110,11 +140,59 @@ public class Orders extends BaseTimeEntity {
     @Builder.Default
     private LocalDateTime orderedAt = LocalDateTime.now();
 
-    public void updateStatus(String status) {
-        this.status = status;
+    /**
+     * 주문을 취소 상태로 변경합니다.
+     * 
+     * @throws BusinessException 이미 취소되었거나 배송이 시작된 주문인 경우
+     */
+    public void cancel() {
+        if (this.status == OrderStatus.CANCEL) {
+            throw new BusinessException(ErrorCode.ORDER_ALREADY_CANCELLED);
+        }
+        changeStatus(OrderStatus.CANCEL);
+    }
+
+    private void changeStatus(OrderStatus next) {
+        if (!this.status.canTransitionTo(next)) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS_TRANSITION);
+        }
+        this.status = next;
     }
 
-    public void cancel() {
-        this.status = "cancel";
+    /**
+     * 주문 요약 정보(총액, 항목 수, 대표 상품명)가 기록되어 있는지 확인합니다.
+     * 
+     * <p>요약 컬럼이 추가되기 전에 생성된 주문은 백필 작업이 끝나기 전까지 값이 비어 있습니다.
+     * 
+     * @return 요약 정보가 있으면 true
+     */
+    public boolean hasSummary() {
+        return this.totalAmount != null;
+    }
+
+    /**
+     * 주문 항목 목록으로부터 요약 정보를 계산하여 기록합니다.
+     * 
+     * <p>요약 컬럼이 비어 있는 과거 주문을 채우는 백필 작업에서 사용합니다.
+     * 주문 항목은 주문 생성 후 변경되지 않으므로 취소나 상태 변경 시 다시 계산할 필요가 없습니다.
+     * 
+     * @param items 이 주문의 주문 항목 목록 (주문 항목 ID 오름차순)
+     */
+    public void applySummary(List<OrderItem> items) {
+        this.totalAmount = items.stream().mapToInt(i -> i.getPriceAtOrder() * i.getQty()).sum();
+        this.itemCount = items.size();
+        this.representativeProductName = items.isEmpty() ? null
+                : representativeNameOf(items.get(0).getProduct().getName(), items.size());
+    }
+
+    /**
+     * 대표 상품명을 생성합니다.
+     * 
+     * @param firstProductName 첫 번째 주문 항목의 상품명
+     * @param itemCount 주문 항목 수
+     * @return "상품A" 또는 "상품A 외 2건" 형식의 문자열
+     */
+    public static String representativeNameOf(String firstProductName, int itemCount) {
+        return itemCount > 1 ? firstProductName + " 외 " + (itemCount - 1) + "건" : firstProductName;
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.shopping.domain.entity.order;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 아웃박스 구독자 오프셋 엔티티
+ * 
+ * <p>구독자별로 마지막으로 전달을 완료한 이벤트 ID를 기록합니다.
+ * 디스패처는 이 값보다 큰 이벤트부터 전달하며, 전달이 성공한 뒤에만 오프셋을 올리므로
+ * 실패하거나 서버가 중단되면 같은 이벤트가 다시 전달될 수 있습니다 (at-least-once).
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "outbox_offset")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboxOffset {
+
+    /**
+     * 구독자 이름 (Primary Key)
+     */
+    @Id
+    @Column(name = "consumer_name", length = 100)
+    private String consumerName;
+
+    /**
+     * 마지막으로 전달을 완료한 이벤트 ID (없으면 0)
+     */
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void advanceTo(Long eventId) {
+        this.lastEventId = eventId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
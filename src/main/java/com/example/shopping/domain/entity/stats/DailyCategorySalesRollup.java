@@ -0,0 +1,66 @@
+package com.example.shopping.domain.entity.stats;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 일별 카테고리별 매출 집계 엔티티
+ * 
+ * <p>주문일, 카테고리 단위의 판매 수량과 판매 금액을 미리 집계해 둔 부분 합계(partial aggregate) 테이블입니다.
+ * 기간별 카테고리 통계는 기간에 속한 행만 읽어 카테고리별로 합치므로,
+ * 조회 비용이 주문 항목 수가 아닌 (일 수 × 카테고리 수)에 비례합니다.
+ * 
+ * <ul>
+ *   <li>주문 생성/취소 이벤트를 받아 해당 날짜, 카테고리 행에 증감분을 더합니다 (SalesRollupService).</li>
+ *   <li>복구 작업(DailySalesRepairJob)이 일별 매출 집계와 함께 다시 계산합니다.</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "daily_category_sales")
+@IdClass(DailyCategorySalesRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyCategorySalesRollup {
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    /** 집계 시점의 카테고리 이름 */
+    @Column(name = "category_name", length = 50)
+    private String categoryName;
+
+    @Column(name = "total_qty", nullable = false)
+    private Long totalQty;
+
+    @Column(name = "total_sales", nullable = false)
+    private Long totalSales;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 복합 키 (주문일, 카테고리 ID)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private LocalDate salesDate;
+        private Long categoryId;
+    }
+}
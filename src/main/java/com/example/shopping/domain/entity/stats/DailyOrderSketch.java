@@ -0,0 +1,53 @@
+package com.example.shopping.domain.entity.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 일별 주문 스케치 엔티티
+ * 
+ * <p>주문일 기준 하루 단위의 근사 통계 스케치를 직렬화하여 저장합니다.
+ * 
+ * <ul>
+ *   <li>buyers_hll: 구매자(user_id) HyperLogLog (고유 구매자 수)</li>
+ *   <li>order_value_digest: 주문 금액 t-digest (p50, p90, p99 등 분위수)</li>
+ * </ul>
+ * 
+ * <p>두 스케치 모두 날짜별로 합칠 수 있으므로 임의 기간의 값을 주문 테이블 조회 없이 계산합니다.
+ * 주문 생성 이벤트만 반영하며 취소는 빼지 않습니다 (스케치에서 값을 제거할 수 없음).
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "daily_order_sketch")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyOrderSketch {
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Lob
+    @Column(name = "buyers_hll", nullable = false)
+    private byte[] buyersHll;
+
+    @Lob
+    @Column(name = "order_value_digest", nullable = false)
+    private byte[] orderValueDigest;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void update(byte[] buyersHll, byte[] orderValueDigest, LocalDateTime updatedAt) {
+        this.buyersHll = buyersHll;
+        this.orderValueDigest = orderValueDigest;
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.shopping.domain.entity.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 일별 매출 집계 엔티티
+ * 
+ * <p>주문일 기준 하루 단위의 매출액, 주문 건수, 판매 수량을 미리 집계해 둔 테이블입니다.
+ * 관리자 일별 매출 통계는 주문 테이블을 집계하지 않고 이 테이블만 조회합니다.
+ * 
+ * <p>갱신 방식:
+ * <ul>
+ *   <li>주문 생성/취소 이벤트를 받아 해당 날짜 행에 증감분을 더합니다 (SalesRollupService).</li>
+ *   <li>복구 작업(DailySalesRepairJob)이 주문 테이블에서 기간 단위로 다시 계산하여 덮어씁니다.</li>
+ *   <li>취소된 주문은 주문일의 값에서 차감되므로 취소 주문을 제외한 매출과 같습니다.</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "daily_sales")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailySalesRollup {
+
+    /**
+     * 주문일 (Primary Key)
+     */
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    /**
+     * 총 매출액 (단위: 원)
+     */
+    @Column(name = "total_sales", nullable = false)
+    private Long totalSales;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    /**
+     * 판매 수량 합계
+     */
+    @Column(name = "item_qty", nullable = false)
+    private Long itemQty;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
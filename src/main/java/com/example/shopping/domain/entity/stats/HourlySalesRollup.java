@@ -0,0 +1,43 @@
+package com.example.shopping.domain.entity.stats;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 시간별 매출 집계 엔티티
+ * 
+ * <p>주문 시각 기준 한 시간 단위의 매출액, 주문 건수, 판매 수량을 미리 집계해 둔 테이블입니다.
+ * 일별 집계(DailySalesRollup)와 같은 방식으로 갱신되며, 시간 단위 매출 통계에서 사용합니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "hourly_sales")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class HourlySalesRollup {
+
+    /**
+     * 시간 구간의 시작 시각 (분, 초는 0) (Primary Key)
+     */
+    @Id
+    @Column(name = "sales_hour")
+    private LocalDateTime salesHour;
+
+    @Column(name = "total_sales", nullable = false)
+    private Long totalSales;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "item_qty", nullable = false)
+    private Long itemQty;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
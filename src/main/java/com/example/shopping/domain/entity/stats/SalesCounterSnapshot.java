@@ -0,0 +1,76 @@
+package com.example.shopping.domain.entity.stats;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 실시간 매출 카운터 스냅샷 엔티티
+ * 
+ * <p>메모리의 실시간 매출 카운터(LiveSalesCounterService)를 주기적으로 저장한 값입니다.
+ * 서버가 재시작되면 이 값으로 카운터를 복원합니다.
+ * 
+ * <p>카운터는 서버별로 유지되므로 스냅샷도 서버 ID(instance_id)별로 저장하고, 각 서버는 자기 행만 복원합니다.
+ * category_id가 0인 행은 카테고리 구분 없는 하루 전체 합계입니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "sales_counter_snapshot")
+@IdClass(SalesCounterSnapshot.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SalesCounterSnapshot {
+
+    /** 하루 전체 합계 행의 category_id */
+    public static final long TOTAL_CATEGORY_ID = 0L;
+
+    /**
+     * 스냅샷을 저장한 서버 ID (stats.live.instance-id)
+     */
+    @Id
+    @Column(name = "instance_id", length = 100)
+    private String instanceId;
+
+    @Id
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "category_name", length = 50)
+    private String categoryName;
+
+    @Column(name = "total_sales", nullable = false)
+    private Long totalSales;
+
+    @Column(name = "item_qty", nullable = false)
+    private Long itemQty;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 복합 키 (서버 ID, 주문일, 카테고리 ID)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String instanceId;
+        private LocalDate salesDate;
+        private Long categoryId;
+    }
+}
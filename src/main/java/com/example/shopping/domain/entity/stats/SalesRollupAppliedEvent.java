@@ -0,0 +1,70 @@
+package com.example.shopping.domain.entity.stats;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 재계산에 포함된 주문 이벤트 엔티티
+ * 
+ * <p>매출 집계 복구 작업(SalesRollupService.rebuild)이 주문 테이블에서 다시 계산할 때 이미 반영된,
+ * 아직 구독자에게 전달되지 않은 아웃박스 이벤트의 ID를 기록합니다.
+ * 구독자는 이 이벤트를 전달받으면 증감분을 더하지 않고 건너뛰므로 같은 주문이 두 번 집계되지 않습니다.
+ * 
+ * <p>설계 특징:
+ * <ul>
+ *   <li>복구 작업이 구독자 오프셋을 옮기지 않으므로, 재계산 시점에 커밋되지 않았던 이벤트는 나중에 정상적으로 반영됩니다.</li>
+ *   <li>구독자가 전달받은 배치보다 앞선 ID는 다시 전달되지 않으므로 배치를 처리할 때 삭제합니다.</li>
+ *   <li>ID를 직접 지정하는 엔티티이므로 {@link Persistable}로 새 엔티티임을 알려 save가 SELECT 없이 INSERT를 실행하게 합니다.</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Entity
+@Table(name = "sales_rollup_applied_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SalesRollupAppliedEvent implements Persistable<Long> {
+
+    /**
+     * 아웃박스 이벤트 ID (Primary Key)
+     */
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    /**
+     * 재계산에 포함된 시각
+     */
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    /**
+     * 아직 저장되지 않은 엔티티인지 여부 (저장, 조회 후 false)
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public Long getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.shopping.domain.entity.user;
 
+import java.time.LocalDateTime;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -25,8 +27,16 @@ public class RefreshToken {
     @Column(name = "token_value", nullable = false)
     private String value;
 
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt; // 만료된 행은 ExpiredCredentialPurgeJob이 삭제
+
     // 토큰 갱신 메서드
-    public void updateValue(String token) {
+    public void updateValue(String token, LocalDateTime expiresAt) {
         this.value = token;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
     }
 }
\ No newline at end of file
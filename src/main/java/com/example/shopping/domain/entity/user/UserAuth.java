@@ -83,6 +83,14 @@ public class UserAuth {
     @Builder.Default
     private int failedLoginCount = 0;
 
+    /**
+     * 잠금 해제 시간
+     * 연속 로그인 실패가 기준에 도달하면 설정되며, 이 시간 전까지는 비밀번호를 검증하지 않고 로그인을 거절합니다.
+     * 실패 횟수는 메모리(LoginThrottle)에서 세고, 기준에 도달한 경우에만 저장됩니다.
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
     public void updatePassword(String hash) {
         this.passwordHash = hash;
         this.passwordUpdatedAt = LocalDateTime.now();
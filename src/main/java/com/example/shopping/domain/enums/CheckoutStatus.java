@@ -0,0 +1,28 @@
+package com.example.shopping.domain.enums;
+
+/**
+ * 비동기 주문 접수 상태 열거형
+ * 
+ * <p>비동기 주문 접수(POST /api/orders/create/async) 후 발급된 접수 번호의 처리 상태를 나타냅니다.
+ * 
+ * <p>상태 흐름:
+ * <pre>
+ * QUEUED → PROCESSING → COMPLETED 또는 FAILED
+ * </pre>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public enum CheckoutStatus {
+    /** 대기 중 - 큐에 들어가 워커의 처리를 기다리는 상태 */
+    QUEUED,
+
+    /** 처리 중 - 워커가 주문 생성 트랜잭션을 실행하는 상태 */
+    PROCESSING,
+
+    /** 완료 - 주문이 생성된 상태 */
+    COMPLETED,
+
+    /** 실패 - 재고 부족 등으로 주문이 생성되지 않은 상태 */
+    FAILED
+}
@@ -0,0 +1,20 @@
+package com.example.shopping.domain.enums;
+
+/**
+ * 주문 이벤트 종류 열거형
+ * 
+ * <p>주문 아웃박스(order_outbox)에 기록되어 구독자에게 전달되는 이벤트의 종류를 나타냅니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public enum OrderEventType {
+    /** 주문 생성 */
+    ORDER_CREATED,
+
+    /** 사용자 주문 취소 */
+    ORDER_CANCELLED,
+
+    /** 관리자 주문 상태(배송 정보) 변경 */
+    ORDER_STATUS_CHANGED
+}
@@ -0,0 +1,108 @@
+package com.example.shopping.domain.enums;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 주문 상태 열거형
+ * 
+ * <p>Orders 엔티티의 status 필드에서 사용되며, DB에는 1바이트 코드(TINYINT)로 저장됩니다
+ * (OrderStatusConverter). 응답 JSON에는 기존과 같은 소문자 라벨("complete", "cancel" 등)로 표시됩니다.
+ * 
+ * <p>상태 흐름:
+ * <pre>
+ * COMPLETE → SHIPPING → DELIVERED
+ *     ↓          
+ *   CANCEL
+ * </pre>
+ * 
+ * <p>주의사항:
+ * <ul>
+ *   <li>코드 값은 DB에 저장되므로 한 번 정한 값은 바꾸지 않아야 합니다.</li>
+ *   <li>COMPLETE에서 DELIVERED로 바로 변경하는 것도 허용합니다 (배송 정보 없이 완료 처리).</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public enum OrderStatus {
+    /** 주문 완료 - 결제와 재고 차감이 끝난 상태 (기본값) */
+    COMPLETE(1, "complete"),
+
+    /** 배송 중 */
+    SHIPPING(2, "shipping"),
+
+    /** 배송 완료 */
+    DELIVERED(3, "delivered"),
+
+    /** 주문 취소 - 재고가 복구된 상태 */
+    CANCEL(9, "cancel");
+
+    /** 통계에 포함되는 상태 (취소 제외, 인덱스를 사용하도록 IN 조건으로 조회) */
+    public static final Set<OrderStatus> SALES = EnumSet.of(COMPLETE, SHIPPING, DELIVERED);
+
+    private final int code;
+    private final String label;
+
+    OrderStatus(int code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 이 상태에서 다음 상태로 변경할 수 있는지 확인합니다.
+     * 
+     * @param next 변경할 상태
+     * @return 허용된 변경이면 true
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+        return switch (this) {
+            case COMPLETE -> next == SHIPPING || next == DELIVERED || next == CANCEL;
+            case SHIPPING -> next == DELIVERED;
+            case DELIVERED, CANCEL -> false;
+        };
+    }
+
+    /**
+     * DB 코드로 상태를 찾습니다.
+     * 
+     * @param code DB에 저장된 코드
+     * @return 주문 상태
+     * @throws IllegalArgumentException 알 수 없는 코드인 경우
+     */
+    public static OrderStatus fromCode(int code) {
+        for (OrderStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown order status code: " + code);
+    }
+
+    /**
+     * 라벨("cancel") 또는 이름("CANCEL")으로 상태를 찾습니다 (대소문자 무시).
+     * 
+     * @param value 요청으로 전달된 상태 값
+     * @return 주문 상태
+     * @throws IllegalArgumentException 알 수 없는 값인 경우
+     */
+    public static OrderStatus fromLabel(String value) {
+        for (OrderStatus status : values()) {
+            if (status.label.equalsIgnoreCase(value) || status.name().equalsIgnoreCase(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown order status: " + value);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.shopping.domain.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import com.example.shopping.domain.exception.BusinessException;
+import com.example.shopping.domain.exception.ErrorCode;
+
+/**
+ * 매출 통계 집계 단위 열거형
+ * 
+ * <p>HOUR는 시간별 집계(hourly_sales), 나머지는 일별 집계(daily_sales)를 읽어
+ * 각 단위의 구간으로 합칩니다. 주 단위 구간은 월요일에 시작합니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public enum StatsGranularity {
+    /** 시간 */
+    HOUR,
+
+    /** 일 */
+    DAY,
+
+    /** 주 (월요일 시작) */
+    WEEK,
+
+    /** 월 */
+    MONTH;
+
+    /**
+     * 시각이 속한 구간의 시작 시각을 반환합니다.
+     *
+     * @param time 시각
+     * @return 구간 시작 시각
+     */
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 다음 구간의 시작 시각을 반환합니다.
+     *
+     * @param bucketStart 구간 시작 시각
+     * @return 다음 구간 시작 시각
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return switch (this) {
+            case HOUR -> bucketStart.plusHours(1);
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+
+    /**
+     * 문자열을 집계 단위로 변환합니다 (대소문자 무시).
+     *
+     * @param value 집계 단위 문자열
+     * @return 집계 단위
+     * @throws BusinessException 알 수 없는 값인 경우
+     */
+    public static StatsGranularity from(String value) {
+        for (StatsGranularity granularity : values()) {
+            if (granularity.name().equalsIgnoreCase(value)) {
+                return granularity;
+            }
+        }
+        throw new BusinessException(ErrorCode.INVALID_STATS_GRANULARITY);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.shopping.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메일 발송 요청 이벤트 (애플리케이션 내부 이벤트)
+ *
+ * <p>메일을 보내야 하는 서비스가 트랜잭션 안에서 발행하며, 트랜잭션 커밋 후
+ * (@TransactionalEventListener AFTER_COMMIT) MailService가 받아 발송 큐에 넣습니다.
+ * 롤백된 트랜잭션의 메일은 발송되지 않고, SMTP 지연이 트랜잭션과 요청 스레드를 붙잡지 않습니다.
+ *
+ * <p>ttlMillis가 있으면 그 시간이 지난 메일은 재시도 중이어도 발송하지 않고 지웁니다 (인증코드 등).
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class MailRequestedEvent {
+
+    private final String to;
+    private final String subject;
+    private final String text;
+
+    /** 만료 시간 (0이면 mail.async.default-ttl-millis) */
+    private final long ttlMillis;
+
+    public MailRequestedEvent(String to, String subject, String text) {
+        this(to, subject, text, 0L);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.shopping.domain.event;
+
+import java.time.LocalDateTime;
+
+import com.example.shopping.domain.entity.order.OrderOutboxEvent;
+import com.example.shopping.domain.enums.OrderEventType;
+import com.example.shopping.domain.enums.OrderStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 구독자에게 전달되는 주문 이벤트
+ * 
+ * <p>아웃박스 엔티티를 구독자에게 직접 노출하지 않도록 읽기 전용 값으로 변환한 것입니다.
+ * 같은 이벤트가 다시 전달될 수 있으므로 구독자는 eventId로 중복을 걸러낼 수 있습니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Getter
+@Builder
+public class OrderEvent {
+
+    private final Long eventId;
+    private final OrderEventType eventType;
+    private final Long orderId;
+    private final Long userId;
+    private final OrderStatus orderStatus;
+    private final Integer totalAmount;
+    private final Integer itemCount;
+    private final Integer itemQty;
+    private final LocalDateTime orderedAt;
+    private final LocalDateTime occurredAt;
+
+    public static OrderEvent from(OrderOutboxEvent event) {
+        return OrderEvent.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .orderId(event.getOrderId())
+                .userId(event.getUserId())
+                .orderStatus(event.getOrderStatus())
+                .totalAmount(event.getTotalAmount())
+                .itemCount(event.getItemCount())
+                .itemQty(event.getItemQty())
+                .orderedAt(event.getOrderedAt())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
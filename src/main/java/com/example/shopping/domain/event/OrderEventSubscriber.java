@@ -0,0 +1,38 @@
+package com.example.shopping.domain.event;
+
+import java.util.List;
+
+/**
+ * 주문 이벤트 구독자
+ * 
+ * <p>이 인터페이스를 구현한 빈은 OrderOutboxDispatcher에 자동으로 등록되어
+ * 주문 이벤트를 배치 단위로 전달받습니다.
+ * 
+ * <p>전달 보장:
+ * <ul>
+ *   <li>이벤트는 event_id 순서로 전달됩니다.</li>
+ *   <li>onEvents가 예외 없이 끝나야 오프셋이 올라갑니다. 예외가 발생하면 같은 배치가 다음 주기에 다시 전달됩니다.</li>
+ *   <li>서버가 중단되면 이미 처리한 이벤트가 다시 전달될 수 있으므로 (at-least-once), 처리는 멱등하게 구현해야 합니다.</li>
+ * </ul>
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public interface OrderEventSubscriber {
+
+    /**
+     * 구독자 이름 (오프셋 저장 키, 최대 100자)
+     * 이름을 바꾸면 처음부터 다시 전달받으므로 배포 간에 유지해야 합니다.
+     */
+    String name();
+
+    /**
+     * 주문 이벤트 배치를 처리합니다.
+     * 
+     * <p>오프셋 갱신과 같은 트랜잭션에서 호출되므로, 구독자가 DB에 쓰는 내용은
+     * 오프셋과 함께 커밋되거나 함께 롤백됩니다.
+     * 
+     * @param events 전달할 이벤트 목록 (event_id 오름차순, 비어있지 않음)
+     */
+    void onEvents(List<OrderEvent> events);
+}
@@ -0,0 +1,63 @@
+package com.example.shopping.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.example.shopping.domain.entity.order.OrderItem;
+import com.example.shopping.domain.entity.product.Product;
+import com.example.shopping.domain.enums.OrderEventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 판매 이벤트 (애플리케이션 내부 이벤트)
+ * 
+ * <p>주문 생성/취소 시 OrderService가 발행하며, 트랜잭션 커밋 후
+ * (@TransactionalEventListener AFTER_COMMIT) 메모리 통계를 갱신하는 리스너가 받습니다.
+ * 아웃박스 이벤트(OrderEvent)와 달리 상품, 카테고리 단위의 주문 항목 정보를 포함하며 DB에 기록되지 않습니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class OrderSalesEvent {
+
+    /** ORDER_CREATED 또는 ORDER_CANCELLED */
+    private final OrderEventType eventType;
+    private final Long orderId;
+
+    /** 주문 시간 (취소도 주문일의 통계에서 차감) */
+    private final LocalDateTime orderedAt;
+    private final List<Line> lines;
+
+    /**
+     * 주문 항목 정보
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Line {
+        private final Long productId;
+        private final String productName;
+        private final Long categoryId;
+        private final String categoryName;
+        private final int qty;
+
+        /** 주문 시점의 단가 (단위: 원) */
+        private final int price;
+
+        public long amount() {
+            return (long) price * qty;
+        }
+
+        public static Line of(Product product, int qty, int price) {
+            return new Line(product.getProductId(), product.getName(),
+                    product.getCategory().getCategoryId(), product.getCategory().getName(), qty, price);
+        }
+
+        public static Line of(OrderItem item) {
+            return of(item.getProduct(), item.getQty(), item.getPriceAtOrder());
+        }
+    }
+}
@@ -31,6 +31,7 @@ public enum ErrorCode {
     DUPLICATE_EMAIL(HttpStatus.BAD_REQUEST, "AUTH_004", "이미 사용 중인 이메일입니다."),
     INVALID_VERIFICATION_CODE(HttpStatus.BAD_REQUEST, "AUTH_007", "잘못된 인증코드입니다."),
     VERIFICATION_CODE_EXPIRED(HttpStatus.BAD_REQUEST, "AUTH_008", "인증코드가 만료되었습니다."),
+    VERIFICATION_ATTEMPTS_EXCEEDED(HttpStatus.BAD_REQUEST, "AUTH_019", "인증코드 입력 횟수를 초과했습니다. 인증코드를 다시 요청해주세요."),
     INVALID_USER_STATUS(HttpStatus.BAD_REQUEST, "AUTH_009", "잘못된 상태 값입니다."),
     INVALID_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "AUTH_010", "Refresh Token이 유효하지 않습니다."),
     TOKEN_USER_MISMATCH(HttpStatus.BAD_REQUEST, "AUTH_011", "토큰의 유저 정보가 일치하지 않습니다."),
@@ -45,6 +46,7 @@ public enum ErrorCode {
     PRODUCT_NOT_FOUND(HttpStatus.BAD_REQUEST, "PRODUCT_001", "상품을 찾을 수 없습니다."),
     CATEGORY_NOT_FOUND(HttpStatus.BAD_REQUEST, "PRODUCT_002", "카테고리를 찾을 수 없습니다."),
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "PRODUCT_003", "재고가 부족합니다."),
+    INVALID_BEST_SELLER_WINDOW(HttpStatus.BAD_REQUEST, "PRODUCT_004", "베스트셀러 구간은 hour 또는 day 여야 합니다."),
     
     // 장바구니 관련 에러 (400)
     CART_ITEM_NOT_FOUND(HttpStatus.BAD_REQUEST, "CART_ITEM_001", "장바구니 항목을 찾을 수 없습니다."),
@@ -55,6 +57,27 @@ public enum ErrorCode {
     ORDER_NOT_FOUND(HttpStatus.BAD_REQUEST, "ORDER_003", "주문 정보를 찾을 수 없습니다."),
     ORDER_ALREADY_CANCELLED(HttpStatus.BAD_REQUEST, "ORDER_004", "이미 취소된 주문입니다."),
     ADMIN_PERMISSION_REQUIRED(HttpStatus.BAD_REQUEST, "AUTH_005", "관리자 권한이 필요합니다."),
+    ORDER_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "ORDER_005", "주문 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."), // 429
+    CHECKOUT_TICKET_NOT_FOUND(HttpStatus.BAD_REQUEST, "ORDER_006", "주문 접수 정보를 찾을 수 없습니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "ORDER_007", "Idempotency-Key 형식이 올바르지 않습니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "ORDER_008", "같은 Idempotency-Key의 요청이 처리 중입니다."), // 409
+    INVALID_ORDER_STATUS(HttpStatus.BAD_REQUEST, "ORDER_009", "잘못된 주문 상태 값입니다."),
+    INVALID_ORDER_STATUS_TRANSITION(HttpStatus.BAD_REQUEST, "ORDER_010", "현재 주문 상태에서 변경할 수 없는 상태입니다."),
+    CHECKOUT_QUEUE_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "ORDER_011", "주문 접수 대기 시간이 초과되었습니다. 다시 주문해주세요."), // 503
+
+    // 통계 관련 에러 (400)
+    INVALID_STATS_GRANULARITY(HttpStatus.BAD_REQUEST, "STAT_001", "집계 단위는 HOUR, DAY, WEEK, MONTH 중 하나여야 합니다."),
+    INVALID_STATS_RANGE(HttpStatus.BAD_REQUEST, "STAT_002", "조회 기간이 올바르지 않거나 허용 범위를 초과했습니다."),
+    INVALID_STATS_DIMENSION(HttpStatus.BAD_REQUEST, "STAT_003", "집계 기준은 CATEGORY, PRODUCT, DAY, WEEK, MONTH, PRICE_BAND 중 최대 2개입니다."),
+    STATS_SNAPSHOT_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "STAT_004", "주문 항목 분석 기능이 꺼져 있습니다."), // 503
+
+    // 과부하 관련 에러 (429)
+    PASSWORD_HASHING_BUSY(HttpStatus.TOO_MANY_REQUESTS, "AUTH_016", "인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    LOGIN_THROTTLED(HttpStatus.TOO_MANY_REQUESTS, "AUTH_017", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    VERIFICATION_REQUESTS_BUSY(HttpStatus.TOO_MANY_REQUESTS, "AUTH_020", "인증코드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // 계정 잠금 (423)
+    ACCOUNT_LOCKED(HttpStatus.LOCKED, "AUTH_018", "로그인 실패가 반복되어 계정이 잠겼습니다. 잠시 후 다시 시도해주세요."),
     
     // 서버 내부 에러 (500)
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_001", "서버 내부 오류가 발생했습니다.");
@@ -1,5 +1,6 @@
 package com.example.shopping.domain.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -55,6 +56,26 @@ public class GlobalExceptionHandler {
             .body(errorResponse);
     }
     
+    /**
+     * RetryLaterException을 처리합니다.
+     * 
+     * <p>과부하로 요청을 처리하지 못한 경우 ErrorCode의 상태 코드(예: 429)와 함께
+     * Retry-After 헤더를 설정하여 클라이언트의 재시도 시점을 늦춥니다.
+     * 
+     * @param e 발생한 RetryLaterException
+     * @return ErrorResponse와 Retry-After 헤더를 포함한 ResponseEntity
+     */
+    @ExceptionHandler(RetryLaterException.class)
+    public ResponseEntity<ErrorResponse> handleRetryLaterException(RetryLaterException e) {
+        log.warn("RetryLaterException 발생: {} - {}", e.getErrorCode().getCode(), e.getMessage());
+
+        ErrorResponse errorResponse = ErrorResponse.of(e.getErrorCode());
+        return ResponseEntity
+            .status(e.getErrorCode().getHttpStatus())
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+    
     /**
      * 기타 모든 예외를 처리합니다.
      * 
@@ -0,0 +1,41 @@
+package com.example.shopping.domain.exception;
+
+/**
+ * 일시적인 과부하로 요청을 처리하지 못했음을 나타내는 예외 클래스
+ *
+ * <p>GlobalExceptionHandler가 ErrorCode의 HTTP 상태 코드와 함께
+ * Retry-After 헤더를 설정하여 클라이언트가 언제 다시 시도할지 알 수 있도록 합니다.
+ *
+ * <p>사용 예:
+ * <pre>
+ * throw new RetryLaterException(ErrorCode.ORDER_QUEUE_FULL, 2);
+ * </pre>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+public class RetryLaterException extends BusinessException {
+
+    /** 재시도까지 기다려야 하는 시간 (초) */
+    private final long retryAfterSeconds;
+
+    /**
+     * 에러 코드와 재시도 대기 시간으로 예외를 생성합니다.
+     *
+     * @param errorCode 에러 코드 (ErrorCode enum)
+     * @param retryAfterSeconds 재시도까지 기다려야 하는 시간 (초)
+     */
+    public RetryLaterException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 재시도 대기 시간을 반환합니다.
+     *
+     * @return 재시도까지 기다려야 하는 시간 (초)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
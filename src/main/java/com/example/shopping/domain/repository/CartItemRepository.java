@@ -17,6 +17,7 @@ import com.example.shopping.domain.entity.order.CartItem;
  *   <li>JpaRepository 기본 메서드: save, findById, findAll, delete 등</li>
  *   <li>findByCart_CartIdAndProduct_ProductId: 장바구니 ID와 상품 ID로 항목 조회</li>
  *   <li>findAllByCart_CartId: 장바구니의 모든 항목 조회</li>
+ *   <li>existsByCart_CartId: 장바구니에 항목이 있는지 확인</li>
  *   <li>deleteAllByCart_CartId: 장바구니의 모든 항목 삭제</li>
  * </ul>
  * 
@@ -51,6 +52,14 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
      * @return 장바구니 항목 리스트
      */
     List<CartItem> findAllByCart_CartId(Long cartId);
+
+    /**
+     * 장바구니에 항목이 하나라도 있는지 확인합니다.
+     * 
+     * @param cartId 확인할 장바구니의 ID
+     * @return 항목이 있으면 true
+     */
+    boolean existsByCart_CartId(Long cartId);
     
     /**
      * 장바구니의 모든 항목을 삭제합니다.
@@ -2,8 +2,13 @@ package com.example.shopping.domain.repository;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.example.shopping.domain.entity.order.Cart;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * 장바구니 Repository 인터페이스
  * 
@@ -15,6 +20,7 @@ import com.example.shopping.domain.entity.order.Cart;
  * <ul>
  *   <li>JpaRepository 기본 메서드: save, findById, findAll, delete 등</li>
  *   <li>findByUserId: 사용자 ID로 장바구니 조회</li>
+ *   <li>findByUserIdForUpdate: 사용자 ID로 장바구니를 조회하고 행을 잠금 (주문 생성용)</li>
  * </ul>
  * 
  * <p>사용 예:
@@ -34,4 +40,15 @@ public interface CartRepository extends JpaRepository<Cart, Long>, CartCustomRep
      * @return 장바구니 엔티티 (Optional) - 사용자당 하나의 장바구니만 존재하므로 최대 1개
      */
     Optional<Cart> findByUserId(Long userId);
+
+    /**
+     * 사용자 ID로 장바구니를 조회하고 트랜잭션이 끝날 때까지 행을 잠급니다.
+     * 같은 장바구니로 동시에 주문을 만들면 뒤의 트랜잭션은 앞의 주문이 장바구니를 비운 뒤에 진행합니다.
+     *
+     * @param userId 조회할 사용자의 ID
+     * @return 장바구니 엔티티 (Optional)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Cart c where c.userId = :userId")
+    Optional<Cart> findByUserIdForUpdate(@Param("userId") Long userId);
 }
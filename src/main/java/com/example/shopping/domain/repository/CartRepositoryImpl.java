@@ -10,9 +10,12 @@ import com.example.shopping.domain.dto.OrderDto;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
 public class CartRepositoryImpl implements CartCustomRepository {
 
-    JPAQueryFactory queryFactory;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public List<OrderDto.CartItemResponse> findCartItemsByUserId(Long userId) {
@@ -0,0 +1,36 @@
+package com.example.shopping.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.stats.DailyCategorySalesRollup;
+
+public interface DailyCategorySalesRollupRepository
+        extends JpaRepository<DailyCategorySalesRollup, DailyCategorySalesRollup.Key> {
+    List<DailyCategorySalesRollup> findAllBySalesDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // 집계된 가장 이른 날짜 (전체 기간 카테고리 통계의 시작일, 행이 없으면 null)
+    @Query("select min(d.salesDate) from DailyCategorySalesRollup d")
+    LocalDate findMinSalesDate();
+
+    // 해당 날짜, 카테고리 행에 증감분을 더하고, 행이 없으면 증감분으로 만듦 (한 문장이므로 여러 서버가 동시에 실행해도 안전)
+    @Modifying
+    @Query(value = "INSERT INTO daily_category_sales (sales_date, category_id, category_name, total_qty, total_sales, updated_at) "
+            + "VALUES (:salesDate, :categoryId, :categoryName, :qty, :sales, :now) "
+            + "ON DUPLICATE KEY UPDATE total_qty = total_qty + :qty, total_sales = total_sales + :sales, "
+            + "category_name = :categoryName, updated_at = :now", nativeQuery = true)
+    int upsertDelta(@Param("salesDate") LocalDate salesDate, @Param("categoryId") Long categoryId,
+            @Param("categoryName") String categoryName, @Param("qty") long qty, @Param("sales") long sales,
+            @Param("now") LocalDateTime now);
+
+    // 복구 작업에서 다시 계산할 기간의 행 삭제
+    @Modifying
+    @Query("delete from DailyCategorySalesRollup d where d.salesDate >= :startDate")
+    int deleteFrom(@Param("startDate") LocalDate startDate);
+}
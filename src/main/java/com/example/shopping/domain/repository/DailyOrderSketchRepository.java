@@ -0,0 +1,12 @@
+package com.example.shopping.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.shopping.domain.entity.stats.DailyOrderSketch;
+
+public interface DailyOrderSketchRepository extends JpaRepository<DailyOrderSketch, LocalDate> {
+    List<DailyOrderSketch> findAllBySalesDateBetweenOrderBySalesDateAsc(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,30 @@
+package com.example.shopping.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.stats.DailySalesRollup;
+
+public interface DailySalesRollupRepository extends JpaRepository<DailySalesRollup, LocalDate> {
+    List<DailySalesRollup> findAllBySalesDateBetweenOrderBySalesDateAsc(LocalDate startDate, LocalDate endDate);
+
+    // 해당 날짜 행에 증감분을 더하고, 행이 없으면 증감분으로 만듦 (한 문장이므로 여러 서버가 동시에 실행해도 안전)
+    @Modifying
+    @Query(value = "INSERT INTO daily_sales (sales_date, total_sales, order_count, item_qty, updated_at) "
+            + "VALUES (:salesDate, :sales, :orders, :qty, :now) "
+            + "ON DUPLICATE KEY UPDATE total_sales = total_sales + :sales, order_count = order_count + :orders, "
+            + "item_qty = item_qty + :qty, updated_at = :now", nativeQuery = true)
+    int upsertDelta(@Param("salesDate") LocalDate salesDate, @Param("sales") long sales, @Param("orders") long orders,
+            @Param("qty") long qty, @Param("now") LocalDateTime now);
+
+    // 복구 작업에서 다시 계산할 기간의 행 삭제
+    @Modifying
+    @Query("delete from DailySalesRollup d where d.salesDate >= :startDate")
+    int deleteFrom(@Param("startDate") LocalDate startDate);
+}
@@ -1,12 +1,27 @@
 package com.example.shopping.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.shopping.domain.entity.user.EmailVerification;
 
 public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
-    Optional<EmailVerification> findByEmailAndVerificationCode(String email, String code);
+    Optional<EmailVerification> findByEmailAndVerificationCode(String email, String code); // idx_email_verification_email_code
     Optional<EmailVerification> findTopByEmailOrderByIdDesc(String email); // 가장 최근 인증 요청
-}
\ No newline at end of file
+
+    // 만료된 인증코드 ID (idx_email_verification_expires, pageable 크기만큼)
+    @Query("select e.id from EmailVerification e where e.expiresAt < :now")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from EmailVerification e where e.id in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,31 @@
+package com.example.shopping.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.stats.HourlySalesRollup;
+
+public interface HourlySalesRollupRepository extends JpaRepository<HourlySalesRollup, LocalDateTime> {
+    // [start, end) 구간의 시간별 집계
+    List<HourlySalesRollup> findAllBySalesHourGreaterThanEqualAndSalesHourLessThanOrderBySalesHourAsc(
+            LocalDateTime start, LocalDateTime end);
+
+    // 해당 시간 행에 증감분을 더하고, 행이 없으면 증감분으로 만듦 (한 문장이므로 여러 서버가 동시에 실행해도 안전)
+    @Modifying
+    @Query(value = "INSERT INTO hourly_sales (sales_hour, total_sales, order_count, item_qty, updated_at) "
+            + "VALUES (:salesHour, :sales, :orders, :qty, :now) "
+            + "ON DUPLICATE KEY UPDATE total_sales = total_sales + :sales, order_count = order_count + :orders, "
+            + "item_qty = item_qty + :qty, updated_at = :now", nativeQuery = true)
+    int upsertDelta(@Param("salesHour") LocalDateTime salesHour, @Param("sales") long sales, @Param("orders") long orders,
+            @Param("qty") long qty, @Param("now") LocalDateTime now);
+
+    // 복구 작업에서 다시 계산할 기간의 행 삭제
+    @Modifying
+    @Query("delete from HourlySalesRollup h where h.salesHour >= :start")
+    int deleteFrom(@Param("start") LocalDateTime start);
+}
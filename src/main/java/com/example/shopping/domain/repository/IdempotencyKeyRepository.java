@@ -0,0 +1,23 @@
+package com.example.shopping.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.order.IdempotencyKey;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+    // 만료된 키 조회 (정리 작업에서 배치 단위로 삭제하기 위함)
+    @Query("select k.key from IdempotencyKey k where k.expiresAt < :now")
+    List<String> findExpiredKeys(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 정리되기 전의 만료된 키 삭제 (같은 키로 새 주문을 만들기 전에 PK를 비움)
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.key = :key and k.expiresAt < :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,21 @@
+package com.example.shopping.domain.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.order.OrderArchive;
+
+public interface OrderArchiveRepository extends JpaRepository<OrderArchive, Long> {
+    // 주문을 보관 테이블로 복사 (INSERT ... SELECT, 엔티티를 메모리에 올리지 않음)
+    @Modifying
+    @Query("insert into OrderArchive (orderId, userId, status, trackingNumber, carrier, totalAmount, itemCount, "
+            + "representativeProductName, orderedAt, createdAt, updatedAt, archivedAt) "
+            + "select o.orderId, o.userId, o.status, o.trackingNumber, o.carrier, o.totalAmount, o.itemCount, "
+            + "o.representativeProductName, o.orderedAt, o.createdAt, o.updatedAt, local datetime "
+            + "from Orders o where o.orderId in :orderIds")
+    int copyFromOrders(@Param("orderIds") Collection<Long> orderIds);
+}
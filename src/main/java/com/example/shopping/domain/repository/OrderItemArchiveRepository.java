@@ -0,0 +1,22 @@
+package com.example.shopping.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.order.OrderItemArchive;
+
+public interface OrderItemArchiveRepository extends JpaRepository<OrderItemArchive, Long> {
+    List<OrderItemArchive> findAllByOrderIdOrderByOrderItemIdAsc(Long orderId);
+
+    // 주문 항목을 상품명과 함께 보관 테이블로 복사
+    @Modifying
+    @Query("insert into OrderItemArchive (orderItemId, orderId, productId, productName, qty, priceAtOrder) "
+            + "select oi.orderItemId, oi.order.orderId, p.productId, p.name, oi.qty, oi.priceAtOrder "
+            + "from OrderItem oi join oi.product p where oi.order.orderId in :orderIds")
+    int copyFromOrderItems(@Param("orderIds") Collection<Long> orderIds);
+}
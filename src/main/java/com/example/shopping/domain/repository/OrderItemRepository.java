@@ -1,6 +1,13 @@
 package com.example.shopping.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.example.shopping.domain.entity.order.OrderItem;
 
 /**
@@ -12,6 +19,9 @@ import com.example.shopping.domain.entity.order.OrderItem;
  * <p>제공 메서드:
  * <ul>
  *   <li>JpaRepository 기본 메서드: save, findById, findAll, delete 등</li>
+ *   <li>findAllByOrder_OrderId: 주문의 모든 항목 조회</li>
+ *   <li>findAllWithProductByOrderIds: 여러 주문의 항목을 상품과 함께 조회</li>
+ *   <li>deleteAllByOrderIds: 여러 주문의 항목을 한 번에 삭제 (주문 보관용)</li>
  * </ul>
  * 
  * <p>사용 예:
@@ -29,5 +39,34 @@ import com.example.shopping.domain.entity.order.OrderItem;
  * @since 1.0
  */
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+    /**
+     * 주문의 모든 항목을 조회합니다.
+     * 
+     * @param orderId 주문 ID
+     * @return 주문 항목 리스트
+     */
+    List<OrderItem> findAllByOrder_OrderId(Long orderId);
+
+    /**
+     * 여러 주문의 항목을 상품 정보와 함께 조회합니다.
+     * 
+     * <p>주문 요약 백필처럼 주문 묶음 단위로 항목을 처리할 때 N+1 조회를 피하기 위해 사용합니다.
+     * 
+     * @param orderIds 주문 ID 목록
+     * @return 주문 항목 리스트 (주문 항목 ID 오름차순)
+     */
+    @Query("select oi from OrderItem oi join fetch oi.product where oi.order.orderId in :orderIds order by oi.orderItemId")
+    List<OrderItem> findAllWithProductByOrderIds(@Param("orderIds") Collection<Long> orderIds);
 
-}
\ No newline at end of file
+    /**
+     * 여러 주문의 항목을 한 번의 쿼리로 삭제합니다.
+     * 
+     * <p>보관 테이블로 복사한 주문 항목을 제거할 때 사용합니다.
+     * 
+     * @param orderIds 주문 ID 목록
+     * @return 삭제된 주문 항목 수
+     */
+    @Modifying
+    @Query("delete from OrderItem oi where oi.order.orderId in :orderIds")
+    int deleteAllByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -0,0 +1,33 @@
+package com.example.shopping.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.order.OrderOutboxEvent;
+
+public interface OrderOutboxEventRepository extends JpaRepository<OrderOutboxEvent, Long> {
+    // 오프셋 이후의 이벤트를 전달 순서대로 조회
+    List<OrderOutboxEvent> findByEventIdGreaterThanOrderByEventIdAsc(Long eventId, Pageable pageable);
+
+    // 오프셋 이후 가장 오래된 이벤트 (전달 지연 시간 계산용)
+    Optional<OrderOutboxEvent> findFirstByEventIdGreaterThanOrderByEventIdAsc(Long eventId);
+
+    // 오프셋 이후의 이벤트 중 주문 시각이 기준 이후인 이벤트 ID (매출 집계 복구용, 잠금 없는 조회)
+    @Query("select e.eventId from OrderOutboxEvent e where e.eventId > :eventId and e.orderedAt >= :orderedFrom")
+    List<Long> findEventIdsAfter(@Param("eventId") Long eventId, @Param("orderedFrom") LocalDateTime orderedFrom);
+
+    @Query("select coalesce(max(e.eventId), 0) from OrderOutboxEvent e")
+    Long findMaxEventId();
+
+    // 모든 구독자에게 전달되고 보관 기간이 지난 이벤트 삭제
+    @Modifying
+    @Query("delete from OrderOutboxEvent e where e.eventId <= :eventId and e.occurredAt < :cutoff")
+    int deleteDelivered(@Param("eventId") Long eventId, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,10 +1,13 @@
 package com.example.shopping.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.example.shopping.domain.dto.AdminDto;
 import com.example.shopping.domain.entity.order.Orders;
+import com.example.shopping.domain.enums.OrderStatus;
 
 public interface OrdersCusomRepository{
     List<Orders> findByUserIdWithItems(Long id);
@@ -12,4 +15,10 @@ public interface OrdersCusomRepository{
     Optional<Orders> findOrderDetail(Long id);
 
     List<AdminDto.AdminOrderResponse> findAllOrdersForAdmin();
+
+    // 요약 정보(총액 등)가 비어 있는 주문 ID를 주문 ID 오름차순으로 조회 (백필용)
+    List<Long> findOrderIdsWithoutSummary(Long afterOrderId, int limit);
+
+    // 보관 대상(orderedBefore 이전, 종료 상태) 주문 ID를 주문 ID 오름차순으로 조회
+    List<Long> findArchivableOrderIds(Long afterOrderId, LocalDateTime orderedBefore, Collection<OrderStatus> statuses, int limit);
 }
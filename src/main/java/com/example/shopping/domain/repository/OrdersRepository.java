@@ -1,6 +1,14 @@
 package com.example.shopping.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.example.shopping.domain.entity.order.Orders;
 
 /**
@@ -14,6 +22,8 @@ import com.example.shopping.domain.entity.order.Orders;
  * 제공 메서드:
  * <ul>
  * <li>JpaRepository 기본 메서드: save, findById, findAll, delete 등</li>
+ * <li>findAllByUserIdOrderByOrderIdDesc: 사용자의 주문 목록 조회 (최신순)</li>
+ * <li>deleteAllByOrderIds: 여러 주문을 한 번에 삭제 (주문 보관용)</li>
  * </ul>
  * 
  * <p>
@@ -31,4 +41,28 @@ import com.example.shopping.domain.entity.order.Orders;
  * @since 1.0
  */
 public interface OrdersRepository extends JpaRepository<Orders, Long>, OrdersCusomRepository {
-}
\ No newline at end of file
+    /**
+     * 사용자의 주문 목록을 주문 ID 내림차순으로 조회합니다.
+     * 
+     * <p>총액과 대표 상품명은 주문 테이블에 기록되어 있으므로 주문 항목을 조인하지 않습니다.
+     * 
+     * @param userId 사용자 ID
+     * @return 주문 엔티티 리스트 (최신순)
+     */
+    List<Orders> findAllByUserIdOrderByOrderIdDesc(Long userId);
+
+    // 가장 오래된 주문 (통계 집계 시작일 계산용)
+    Optional<Orders> findFirstByOrderByOrderIdAsc();
+
+    /**
+     * 여러 주문을 한 번의 쿼리로 삭제합니다.
+     * 
+     * <p>보관 테이블로 복사한 주문을 제거할 때 사용하며, 주문 항목을 먼저 삭제해야 합니다.
+     * 
+     * @param orderIds 주문 ID 목록
+     * @return 삭제된 주문 수
+     */
+    @Modifying
+    @Query("delete from Orders o where o.orderId in :orderIds")
+    int deleteAllByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -5,17 +5,23 @@ import static com.example.shopping.domain.entity.order.QOrderItem.orderItem;
 import static com.example.shopping.domain.entity.product.QProduct.product;
 import static com.example.shopping.domain.entity.user.QUserProfile.userProfile;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.example.shopping.domain.dto.AdminDto;
 import com.example.shopping.domain.entity.order.Orders;
+import com.example.shopping.domain.enums.OrderStatus;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
 public class OrdersRepositoryImpl implements OrdersCusomRepository {
 
-    JPAQueryFactory queryFactory;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Optional<Orders> findOrderDetail(Long orderId) {
@@ -50,6 +56,7 @@ public class OrdersRepositoryImpl implements OrdersCusomRepository {
                         userProfile.name.as("userName"),
                         orders.status,
                         orders.orderedAt,
+                        orders.representativeProductName.as("productName"),
                         orders.totalAmount.as("totalAmount")
                 ))
                 .from(orders)
@@ -58,4 +65,29 @@ public class OrdersRepositoryImpl implements OrdersCusomRepository {
                 .fetch();
     }
 
+    @Override
+    public List<Long> findOrderIdsWithoutSummary(Long afterOrderId, int limit) {
+        return queryFactory
+                .select(orders.orderId)
+                .from(orders)
+                .where(orders.orderId.gt(afterOrderId),
+                        orders.totalAmount.isNull())
+                .orderBy(orders.orderId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findArchivableOrderIds(Long afterOrderId, LocalDateTime orderedBefore,
+            Collection<OrderStatus> statuses, int limit) {
+        return queryFactory
+                .select(orders.orderId)
+                .from(orders)
+                .where(orders.orderId.gt(afterOrderId),
+                        orders.orderedAt.lt(orderedBefore),
+                        orders.status.in(statuses))
+                .orderBy(orders.orderId.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
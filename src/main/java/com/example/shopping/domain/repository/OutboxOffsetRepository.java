@@ -0,0 +1,26 @@
+package com.example.shopping.domain.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.order.OutboxOffset;
+
+import jakarta.persistence.LockModeType;
+
+public interface OutboxOffsetRepository extends JpaRepository<OutboxOffset, String> {
+    // 여러 서버가 같은 구독자에게 동시에 전달하지 않도록 오프셋 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OutboxOffset o where o.consumerName = :consumerName")
+    Optional<OutboxOffset> findForUpdate(@Param("consumerName") String consumerName);
+
+    long countByConsumerNameIn(Collection<String> consumerNames);
+
+    // 등록된 구독자 중 가장 뒤처진 오프셋 (이벤트 정리 기준)
+    @Query("select min(o.lastEventId) from OutboxOffset o where o.consumerName in :consumerNames")
+    Long findMinLastEventId(@Param("consumerNames") Collection<String> consumerNames);
+}
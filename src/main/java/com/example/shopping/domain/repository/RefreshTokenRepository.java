@@ -1,11 +1,27 @@
 package com.example.shopping.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.shopping.domain.entity.user.RefreshToken;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String>{
     Optional<RefreshToken> findByKey(String key);
+
+    // 만료된 토큰의 키 (idx_refresh_token_expires, pageable 크기만큼)
+    @Query("select r.key from RefreshToken r where r.expiresAt < :now")
+    List<String> findExpiredKeys(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 조회한 키 중 아직 만료된 토큰만 삭제 (그 사이 재발급된 토큰은 남김)
+    @Modifying
+    @Query("delete from RefreshToken r where r.key in :keys and r.expiresAt < :now")
+    int deleteExpiredByKeys(@Param("keys") Collection<String> keys, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,34 @@
+package com.example.shopping.domain.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.stats.SalesCounterSnapshot;
+
+public interface SalesCounterSnapshotRepository extends JpaRepository<SalesCounterSnapshot, SalesCounterSnapshot.Key> {
+    // 이 서버가 저장한 스냅샷 (재시작 시 복원용)
+    List<SalesCounterSnapshot> findAllByInstanceIdAndSalesDateGreaterThanEqual(String instanceId, LocalDate salesDate);
+
+    // 스냅샷 행을 현재 카운터 값으로 덮어쓰고, 행이 없으면 만듦 (행마다 조회 후 수정하지 않고 한 문장으로 처리)
+    @Modifying
+    @Query(value = "INSERT INTO sales_counter_snapshot (instance_id, sales_date, category_id, category_name, "
+            + "total_sales, item_qty, order_count, updated_at) "
+            + "VALUES (:instanceId, :salesDate, :categoryId, :categoryName, :totalSales, :itemQty, :orderCount, :now) "
+            + "ON DUPLICATE KEY UPDATE category_name = :categoryName, total_sales = :totalSales, item_qty = :itemQty, "
+            + "order_count = :orderCount, updated_at = :now", nativeQuery = true)
+    int upsert(@Param("instanceId") String instanceId, @Param("salesDate") LocalDate salesDate,
+            @Param("categoryId") Long categoryId, @Param("categoryName") String categoryName,
+            @Param("totalSales") long totalSales, @Param("itemQty") long itemQty, @Param("orderCount") long orderCount,
+            @Param("now") LocalDateTime now);
+
+    // 메모리 보관 기간이 지난 스냅샷 삭제 (모든 서버)
+    @Modifying
+    @Query("delete from SalesCounterSnapshot s where s.salesDate < :salesDate")
+    int deleteOlderThan(@Param("salesDate") LocalDate salesDate);
+}
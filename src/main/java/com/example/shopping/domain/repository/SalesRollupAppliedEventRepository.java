@@ -0,0 +1,22 @@
+package com.example.shopping.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.shopping.domain.entity.stats.SalesRollupAppliedEvent;
+
+public interface SalesRollupAppliedEventRepository extends JpaRepository<SalesRollupAppliedEvent, Long> {
+    // 주어진 이벤트 중 재계산에 이미 포함된 이벤트 ID
+    @Query("select e.eventId from SalesRollupAppliedEvent e where e.eventId in :eventIds")
+    List<Long> findAppliedIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // 다시 전달되지 않을 이벤트의 기록 삭제
+    @Modifying
+    @Query("delete from SalesRollupAppliedEvent e where e.eventId < :eventId")
+    int deleteBefore(@Param("eventId") Long eventId);
+}
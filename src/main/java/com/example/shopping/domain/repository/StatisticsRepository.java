@@ -1,14 +1,30 @@
 package com.example.shopping.domain.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.entity.stats.DailySalesRollup;
+import com.example.shopping.domain.entity.stats.HourlySalesRollup;
+import com.example.shopping.domain.stats.OrderItemFact;
 
 public interface StatisticsRepository {
-    // 최근 7일간 일별 매출
-    List<StatDto.DailySales> findDailySales(LocalDate startDate, LocalDate endDate);
+    // 주문 테이블에서 일별 매출을 다시 집계 (일별 매출 집계 테이블 복구용)
+    List<DailySalesRollup> aggregateDailySales(LocalDate startDate, LocalDate endDate);
 
-    // 카테고리별 판매 통계
-    List<StatDto.CategorySales> findCategorySales();
-}
\ No newline at end of file
+    // 주문 테이블에서 시간별 매출을 다시 집계 (시간별 매출 집계 테이블 복구용)
+    List<HourlySalesRollup> aggregateHourlySales(LocalDate startDate, LocalDate endDate);
+
+    // 주문 테이블에서 일별 카테고리별 판매를 다시 집계 (일별 카테고리 집계 복구용)
+    List<StatDto.DailyCategorySales> findDailyCategorySales(LocalDate startDate, LocalDate endDate);
+
+    // 주문별 카테고리별 판매 (취소 여부와 관계없이 주문 항목 기준, 일별 카테고리 집계 증감분 계산용)
+    List<StatDto.OrderCategorySales> findCategorySalesByOrderIds(Collection<Long> orderIds);
+
+    // 주문 항목 ID 오름차순 페이지 조회 (컬럼형 스냅샷 생성용, 취소된 주문 제외)
+    List<OrderItemFact> findOrderItemFacts(long afterOrderItemId, int limit);
+
+    // 일별 매출, 월 누적, 7일 이동 평균, 월/기간 합계를 한 번의 쿼리로 조회 (윈도 함수)
+    List<StatDto.SalesDashboardRow> findSalesDashboard(LocalDate startDate, LocalDate endDate);
+}
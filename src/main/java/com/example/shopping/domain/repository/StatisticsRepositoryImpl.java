@@ -1,16 +1,30 @@
 package com.example.shopping.domain.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Repository;
 
 import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.entity.stats.DailySalesRollup;
+import com.example.shopping.domain.entity.stats.HourlySalesRollup;
+import com.example.shopping.domain.enums.OrderStatus;
+import com.example.shopping.domain.stats.OrderItemFact;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.StringTemplate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 
 import static com.example.shopping.domain.entity.order.QOrders.orders;
@@ -24,46 +38,254 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
 
     private final JPAQueryFactory queryFactory;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 대시보드 매출 쿼리 (MySQL 8, H2 공통 문법)
+     *
+     * <p>재귀 CTE로 달력을 만들어 매출이 없는 날도 0으로 채우고, daily_sales를 한 번만 읽어
+     * 윈도 함수로 월 누적(month-to-date), 7일 이동 평균, 월 합계, 기간 합계를 함께 계산합니다.
+     * ROLLUP(MySQL)과 GROUPING SETS(H2)는 두 DB에서 함께 쓸 수 없으므로 소계는 윈도 SUM으로 구합니다.
+     * 월 누적과 이동 평균이 기간 밖의 날짜를 포함하도록 달력은 (시작 월 1일, 시작일 - 6일) 중 이른 날부터 만들고,
+     * 마지막 달의 월 합계가 잘리지 않도록 종료일이 속한 달의 말일까지 만든 뒤, 윈도 계산 후 바깥 쿼리에서 요청 기간만 남깁니다.
+     */
+    private static final String SALES_DASHBOARD_SQL = """
+            WITH RECURSIVE calendar (sales_date) AS (
+                SELECT CAST(:calendarStart AS DATE)
+                UNION ALL
+                SELECT sales_date + INTERVAL '1' DAY FROM calendar WHERE sales_date < CAST(:calendarEnd AS DATE)
+            ),
+            daily AS (
+                SELECT c.sales_date,
+                       COALESCE(s.total_sales, 0) AS total_sales,
+                       COALESCE(s.order_count, 0) AS order_count
+                FROM calendar c
+                LEFT JOIN daily_sales s ON s.sales_date = c.sales_date
+            ),
+            windowed AS (
+                SELECT sales_date, total_sales, order_count,
+                       SUM(total_sales) OVER (PARTITION BY YEAR(sales_date), MONTH(sales_date)
+                                              ORDER BY sales_date ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) AS month_to_date,
+                       SUM(total_sales) OVER (ORDER BY sales_date ROWS BETWEEN 6 PRECEDING AND CURRENT ROW) / 7.0 AS moving_avg_7d,
+                       SUM(total_sales) OVER (PARTITION BY YEAR(sales_date), MONTH(sales_date)) AS month_total,
+                       SUM(CASE WHEN sales_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+                                THEN total_sales ELSE 0 END) OVER () AS range_total,
+                       SUM(CASE WHEN sales_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+                                THEN order_count ELSE 0 END) OVER () AS range_order_count
+                FROM daily
+            )
+            SELECT sales_date, total_sales, order_count, month_to_date, moving_avg_7d, month_total,
+                   range_total, range_order_count
+            FROM windowed
+            WHERE sales_date BETWEEN CAST(:startDate AS DATE) AND CAST(:endDate AS DATE)
+            ORDER BY sales_date
+            """;
+
     @Override
-    public List<StatDto.DailySales> findDailySales(LocalDate startDate, LocalDate endDate) {
+    public List<DailySalesRollup> aggregateDailySales(LocalDate startDate, LocalDate endDate) {
+        // 주문일 (DB 함수 대신 HQL cast를 사용하여 MySQL/H2 모두 동작)
+        DateExpression<LocalDate> orderDate = Expressions.dateTemplate(LocalDate.class,
+                "cast({0} as LocalDate)", orders.orderedAt);
+        BooleanExpression inRange = orders.orderedAt.goe(startDate.atStartOfDay())
+                .and(orders.orderedAt.lt(endDate.plusDays(1).atStartOfDay()))
+                .and(orders.status.in(OrderStatus.SALES)); // 취소된 주문 제외
+
+        // 1. 매출액, 주문 건수 (주문 생성 시 기록된 총액 사용, 총액이 NULL인 주문은 건수만 포함)
+        List<Tuple> totals = queryFactory
+                .select(orderDate, orders.totalAmount.sum().longValue(), orders.count())
+                .from(orders)
+                .where(inRange)
+                .groupBy(orderDate)
+                .fetch();
+
+        // 2. 판매 수량 (주문 항목 조인)
+        Map<LocalDate, Long> qtyByDate = new HashMap<>();
+        queryFactory
+                .select(orderDate, orderItem.qty.sum().longValue())
+                .from(orderItem)
+                .join(orderItem.order, orders)
+                .where(inRange)
+                .groupBy(orderDate)
+                .fetch()
+                .forEach(row -> qtyByDate.put(row.get(orderDate), row.get(1, Long.class)));
+
+        // 3. 총액이 아직 채워지지 않은 주문(요약 컬럼 백필 전)은 주문 항목 금액으로 매출액 계산
+        Map<LocalDate, Long> unsummarizedByDate = new HashMap<>();
+        queryFactory
+                .select(orderDate, orderItem.priceAtOrder.multiply(orderItem.qty).sum().longValue())
+                .from(orderItem)
+                .join(orderItem.order, orders)
+                .where(inRange, orders.totalAmount.isNull())
+                .groupBy(orderDate)
+                .fetch()
+                .forEach(row -> unsummarizedByDate.put(row.get(orderDate), row.get(1, Long.class)));
+
+        LocalDateTime now = LocalDateTime.now();
+        return totals.stream()
+                .map(row -> DailySalesRollup.builder()
+                        .salesDate(row.get(orderDate))
+                        .totalSales(nullToZero(row.get(1, Long.class))
+                                + nullToZero(unsummarizedByDate.get(row.get(orderDate))))
+                        .orderCount(nullToZero(row.get(2, Long.class)))
+                        .itemQty(qtyByDate.getOrDefault(row.get(orderDate), 0L))
+                        .updatedAt(now)
+                        .build())
+                .sorted(Comparator.comparing(DailySalesRollup::getSalesDate))
+                .toList();
+    }
+
+    @Override
+    public List<HourlySalesRollup> aggregateHourlySales(LocalDate startDate, LocalDate endDate) {
+        // 주문일 + 시(hour)로 묶음 (HQL cast, extract를 사용하여 MySQL/H2 모두 동작)
+        DateExpression<LocalDate> orderDate = Expressions.dateTemplate(LocalDate.class,
+                "cast({0} as LocalDate)", orders.orderedAt);
+        NumberExpression<Integer> orderHour = orders.orderedAt.hour();
+        BooleanExpression inRange = orders.orderedAt.goe(startDate.atStartOfDay())
+                .and(orders.orderedAt.lt(endDate.plusDays(1).atStartOfDay()))
+                .and(orders.status.in(OrderStatus.SALES)); // 취소된 주문 제외
+
+        List<Tuple> totals = queryFactory
+                .select(orderDate, orderHour, orders.totalAmount.sum().longValue(), orders.count())
+                .from(orders)
+                .where(inRange)
+                .groupBy(orderDate, orderHour)
+                .fetch();
+
+        Map<LocalDateTime, Long> qtyByHour = new HashMap<>();
+        queryFactory
+                .select(orderDate, orderHour, orderItem.qty.sum().longValue())
+                .from(orderItem)
+                .join(orderItem.order, orders)
+                .where(inRange)
+                .groupBy(orderDate, orderHour)
+                .fetch()
+                .forEach(row -> qtyByHour.put(row.get(orderDate).atTime(row.get(orderHour), 0),
+                        row.get(2, Long.class)));
+
+        // 총액이 아직 채워지지 않은 주문(요약 컬럼 백필 전)은 주문 항목 금액으로 매출액 계산
+        Map<LocalDateTime, Long> unsummarizedByHour = new HashMap<>();
+        queryFactory
+                .select(orderDate, orderHour, orderItem.priceAtOrder.multiply(orderItem.qty).sum().longValue())
+                .from(orderItem)
+                .join(orderItem.order, orders)
+                .where(inRange, orders.totalAmount.isNull())
+                .groupBy(orderDate, orderHour)
+                .fetch()
+                .forEach(row -> unsummarizedByHour.put(row.get(orderDate).atTime(row.get(orderHour), 0),
+                        row.get(2, Long.class)));
 
-        // MySQL Date Format 함수 호출: DATE_FORMAT(ordered_at, '%Y-%m-%d')
-        StringTemplate formattedDate = Expressions.stringTemplate(
-                "DATE_FORMAT({0}, {1})",
-                orders.orderedAt,
-                "%Y-%m-%d");
+        LocalDateTime now = LocalDateTime.now();
+        return totals.stream()
+                .map(row -> {
+                    LocalDateTime hour = row.get(orderDate).atTime(row.get(orderHour), 0);
+                    return HourlySalesRollup.builder()
+                            .salesHour(hour)
+                            .totalSales(nullToZero(row.get(2, Long.class)) + nullToZero(unsummarizedByHour.get(hour)))
+                            .orderCount(nullToZero(row.get(3, Long.class)))
+                            .itemQty(qtyByHour.getOrDefault(hour, 0L))
+                            .updatedAt(now)
+                            .build();
+                })
+                .sorted(Comparator.comparing(HourlySalesRollup::getSalesHour))
+                .toList();
+    }
 
+    @Override
+    public List<StatDto.DailyCategorySales> findDailyCategorySales(LocalDate startDate, LocalDate endDate) {
+        DateExpression<LocalDate> orderDate = Expressions.dateTemplate(LocalDate.class,
+                "cast({0} as LocalDate)", orders.orderedAt);
         return queryFactory
-                .select(Projections.fields(StatDto.DailySales.class,
-                        formattedDate.as("date"),
-                        orderItem.priceAtOrder.multiply(orderItem.qty).sum().longValue().as("totalSales"),
-                        orders.countDistinct().as("orderCount")))
+                .select(Projections.constructor(StatDto.DailyCategorySales.class,
+                        orderDate,
+                        category.categoryId,
+                        category.name,
+                        orderItem.qty.sum().longValue(),
+                        orderItem.priceAtOrder.multiply(orderItem.qty).sum().longValue()))
                 .from(orderItem)
+                .join(orderItem.product, product)
+                .join(product.category, category)
                 .join(orderItem.order, orders)
-                .where(
-                        orders.orderedAt.between(startDate.atStartOfDay(), endDate.atTime(23, 59, 59)),
-                        orders.status.ne("cancel") // 취소된 주문 제외
-                )
-                .groupBy(formattedDate)
-                .orderBy(formattedDate.asc())
+                .where(orders.orderedAt.goe(startDate.atStartOfDay()),
+                        orders.orderedAt.lt(endDate.plusDays(1).atStartOfDay()),
+                        orders.status.in(OrderStatus.SALES)) // 취소된 주문 제외
+                .groupBy(orderDate, category.categoryId, category.name)
                 .fetch();
     }
 
     @Override
-    public List<StatDto.CategorySales> findCategorySales() {
+    public List<StatDto.OrderCategorySales> findCategorySalesByOrderIds(Collection<Long> orderIds) {
         return queryFactory
-                .select(Projections.fields(StatDto.CategorySales.class,
-                        category.name.as("categoryName"),
-                        orderItem.qty.sum().longValue().as("totalQty"),
-                        orderItem.priceAtOrder.multiply(orderItem.qty).sum().longValue().as("totalSales")))
+                .select(Projections.constructor(StatDto.OrderCategorySales.class,
+                        orderItem.order.orderId,
+                        category.categoryId,
+                        category.name,
+                        orderItem.qty.sum().longValue(),
+                        orderItem.priceAtOrder.multiply(orderItem.qty).sum().longValue()))
+                .from(orderItem)
+                .join(orderItem.product, product)
+                .join(product.category, category)
+                .where(orderItem.order.orderId.in(orderIds))
+                .groupBy(orderItem.order.orderId, category.categoryId, category.name)
+                .fetch();
+    }
+
+    @Override
+    public List<OrderItemFact> findOrderItemFacts(long afterOrderItemId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(OrderItemFact.class,
+                        orderItem.orderItemId,
+                        product.productId,
+                        category.categoryId,
+                        category.name,
+                        orders.orderedAt,
+                        orderItem.qty,
+                        orderItem.priceAtOrder))
                 .from(orderItem)
                 .join(orderItem.product, product)
                 .join(product.category, category)
                 .join(orderItem.order, orders)
-                .where(orders.status.ne("cancel")) // 취소된 주문 제외
-                .groupBy(category.name)
-                .orderBy(orderItem.qty.sum().desc()) // 많이 팔린 순
+                .where(orderItem.orderItemId.gt(afterOrderItemId),
+                        orders.status.in(OrderStatus.SALES)) // 취소된 주문 제외
+                .orderBy(orderItem.orderItemId.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    @Override
+    public List<StatDto.SalesDashboardRow> findSalesDashboard(LocalDate startDate, LocalDate endDate) {
+        LocalDate calendarStart = startDate.withDayOfMonth(1).isBefore(startDate.minusDays(6))
+                ? startDate.withDayOfMonth(1)
+                : startDate.minusDays(6);
+        LocalDate calendarEnd = endDate.withDayOfMonth(endDate.lengthOfMonth());
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(SALES_DASHBOARD_SQL)
+                .setParameter("calendarStart", calendarStart)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .setParameter("calendarEnd", calendarEnd)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new StatDto.SalesDashboardRow(
+                        toLocalDate(row[0]).toString(),
+                        ((Number) row[1]).longValue(),
+                        ((Number) row[2]).longValue(),
+                        ((Number) row[3]).longValue(),
+                        ((Number) row[4]).doubleValue(),
+                        ((Number) row[5]).longValue(),
+                        ((Number) row[6]).longValue(),
+                        ((Number) row[7]).longValue()))
+                .toList();
+    }
+
+    // 네이티브 쿼리의 DATE 컬럼은 드라이버에 따라 java.sql.Date 또는 LocalDate로 반환됨
+    private LocalDate toLocalDate(Object value) {
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
 }
@@ -1,6 +1,12 @@
 package com.example.shopping.domain.repository;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.example.shopping.domain.entity.user.UserAuth;
 
 /**
@@ -25,4 +31,19 @@ import com.example.shopping.domain.entity.user.UserAuth;
  */
 public interface UserAuthRepository extends JpaRepository<UserAuth, Long> {
 
+    // 연속 로그인 실패가 기준에 도달했을 때 잠금 상태 저장
+    @Modifying
+    @Query("update UserAuth a set a.failedLoginCount = a.failedLoginCount + :failures, a.lockedUntil = :lockedUntil "
+            + "where a.userId = :userId")
+    int lock(@Param("userId") Long userId, @Param("failures") int failures, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    // 로그인 성공 시 잠금 상태 초기화
+    @Modifying
+    @Query("update UserAuth a set a.failedLoginCount = 0, a.lockedUntil = null where a.userId = :userId")
+    int unlock(@Param("userId") Long userId);
+
+    // 같은 비밀번호를 높은 비용으로 다시 해시 (비밀번호 변경 시간은 유지)
+    @Modifying
+    @Query("update UserAuth a set a.passwordHash = :passwordHash where a.userId = :userId")
+    int updatePasswordHash(@Param("userId") Long userId, @Param("passwordHash") String passwordHash);
 }
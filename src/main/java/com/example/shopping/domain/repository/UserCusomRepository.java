@@ -3,9 +3,11 @@ package com.example.shopping.domain.repository;
 import java.util.List;
 
 import com.example.shopping.domain.dto.AdminDto;
+import com.example.shopping.domain.entity.user.Role;
 
 public interface UserCusomRepository {
-    boolean isAdmin(Long userId);
+    // 사용자의 역할 목록 (user_role_map 조인, UserRoleCache에서만 사용)
+    List<Role> findRoles(Long userId);
 
     List<AdminDto.UserResponse> findAllUsers();
 }
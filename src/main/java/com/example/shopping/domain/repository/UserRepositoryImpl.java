@@ -7,24 +7,25 @@ import static com.example.shopping.domain.entity.user.QUserProfile.userProfile;
 import java.util.List;
 
 import com.example.shopping.domain.dto.AdminDto;
+import com.example.shopping.domain.entity.user.Role;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
 public class UserRepositoryImpl implements UserCusomRepository {
 
-    JPAQueryFactory queryFactory;
+    private final JPAQueryFactory queryFactory;
 
     @Override
-    public boolean isAdmin(Long userId) {
-        Integer fetchOne = queryFactory
-                .selectOne()
+    public List<Role> findRoles(Long userId) {
+        return queryFactory
+                .select(role)
                 .from(user)
                 .join(user.roles, role) // User 엔티티의 roles 필드를 통해 조인
-                .where(user.userId.eq(userId)
-                        .and(role.roleType.eq("ADMIN"))) // role_type이 ADMIN인지 확인
-                .fetchFirst();
-
-        return fetchOne != null;
+                .where(user.userId.eq(userId))
+                .fetch();
     }
 
     @Override
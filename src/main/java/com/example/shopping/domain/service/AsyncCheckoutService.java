@@ -0,0 +1,283 @@
+package com.example.shopping.domain.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.shopping.domain.dto.OrderDto;
+import com.example.shopping.domain.enums.CheckoutStatus;
+import com.example.shopping.domain.exception.BusinessException;
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.exception.RetryLaterException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 주문 접수 서비스
+ *
+ * <p>
+ * 주문 요청을 검증한 뒤 크기가 제한된 메모리 큐에 넣고 접수 번호(ticket)를 즉시 반환합니다.
+ * 가상 스레드 워커가 큐에서 요청을 꺼내 기존 OrderService.createOrder 로직으로 주문을 생성합니다.
+ *
+ * <p>
+ * 부하 제어:
+ * <ul>
+ * <li>요청 스레드는 주문 트랜잭션을 기다리지 않으므로 Tomcat 스레드와 DB 커넥션을 오래 점유하지 않습니다.</li>
+ * <li>동시에 주문 트랜잭션을 실행하는 수는 워커 수로 제한되므로 커넥션 풀 크기보다 작게 설정해야 합니다.</li>
+ * <li>큐가 가득 차면 429와 Retry-After 헤더로 요청을 거절하여 부하를 덜어냅니다.</li>
+ * <li>사용자마다 대기 중이거나 처리 중인 접수는 하나뿐입니다. 중복 요청(더블 탭)에는 새로 접수하지 않고 기존 접수를 반환합니다.</li>
+ * <li>Idempotency-Key가 있으면 같은 키의 재시도에는 같은 접수를 반환하고, 워커는 {@link OrderIdempotencyService}로
+ * 주문을 만들므로 접수 정보가 정리된 뒤나 다른 서버로 재시도해도 주문은 한 번만 생성됩니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>큐와 접수 상태는 메모리에만 있으므로 서버 재시작 시 대기 중인 요청은 유실됩니다.</li>
+ * <li>처리가 끝난 접수 정보는 ticket-ttl-millis 이후 정리됩니다.</li>
+ * <li>queued-ttl-millis 동안 처리를 시작하지 못한 접수는 큐에서 빼고 실패(CHECKOUT_QUEUE_TIMEOUT)로 처리한 뒤 같은 방식으로 정리됩니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AsyncCheckoutService {
+
+    private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+
+    @Value("${order.async-checkout.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${order.async-checkout.workers:8}")
+    private int workerCount;
+
+    @Value("${order.async-checkout.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    @Value("${order.async-checkout.ticket-ttl-millis:600000}")
+    private long ticketTtlMillis;
+
+    @Value("${order.async-checkout.queued-ttl-millis:300000}")
+    private long queuedTtlMillis;
+
+    /** 처리 대기 중인 접수 요청 */
+    private BlockingQueue<Ticket> queue;
+
+    /** 접수 번호별 처리 상태 (상태 조회용) */
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    /** "사용자 ID:Idempotency-Key" → 접수 (접수 정보와 함께 정리) */
+    private final Map<String, Ticket> ticketsByKey = new ConcurrentHashMap<>();
+
+    /** 사용자별 대기 중이거나 처리 중인 접수 */
+    private final Map<Long, Ticket> inFlightByUser = new ConcurrentHashMap<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("order-intake-" + i).start(this::drain));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 주문 요청을 접수합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 접수 번호와 QUEUED 상태를 담은 응답 (이미 처리 전인 접수가 있으면 그 접수)
+     * @throws BusinessException 장바구니가 비어있는 경우
+     * @throws RetryLaterException 큐가 가득 찬 경우 (429)
+     */
+    public OrderDto.CheckoutTicketResponse submit(Long userId) {
+        return submit(userId, null);
+    }
+
+    /**
+     * Idempotency-Key와 함께 주문 요청을 접수합니다.
+     *
+     * @param userId         사용자 ID
+     * @param idempotencyKey Idempotency-Key 헤더 값 (null이면 키 없이 접수)
+     * @return 접수 번호와 상태를 담은 응답 (같은 키로 접수된 적이 있으면 그 접수)
+     * @throws BusinessException 키 형식이 잘못되었거나 장바구니가 비어있는 경우
+     * @throws RetryLaterException 큐가 가득 찬 경우 (429)
+     */
+    public OrderDto.CheckoutTicketResponse submit(Long userId, String idempotencyKey) {
+        String storageKey = null;
+        if (idempotencyKey != null) {
+            orderIdempotencyService.validateKey(idempotencyKey);
+            storageKey = userId + ":" + idempotencyKey;
+            Ticket previous = ticketsByKey.get(storageKey);
+            // 실패한 접수는 동기 주문과 같이 기록하지 않은 것으로 보고 다시 접수
+            if (previous != null && previous.status != CheckoutStatus.FAILED) {
+                return previous.toResponse();
+            }
+        }
+        Ticket inFlight = inFlightByUser.get(userId);
+        if (inFlight != null) {
+            return inFlight.toResponse();
+        }
+        orderService.validateCheckout(userId);
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), userId, idempotencyKey, storageKey);
+        inFlight = inFlightByUser.putIfAbsent(userId, ticket);
+        if (inFlight != null) {
+            return inFlight.toResponse(); // 동시에 들어온 중복 요청
+        }
+        tickets.put(ticket.id, ticket);
+        if (storageKey != null) {
+            ticketsByKey.put(storageKey, ticket);
+        }
+        if (!queue.offer(ticket)) {
+            forget(ticket);
+            inFlightByUser.remove(userId, ticket);
+            throw new RetryLaterException(ErrorCode.ORDER_QUEUE_FULL, retryAfterSeconds);
+        }
+        return ticket.toResponse();
+    }
+
+    /**
+     * 접수 번호의 처리 상태를 조회합니다.
+     *
+     * @param userId   사용자 ID
+     * @param ticketId 접수 번호
+     * @return 처리 상태 응답
+     * @throws BusinessException 접수 정보가 없거나(만료 포함) 다른 사용자의 접수인 경우
+     */
+    public OrderDto.CheckoutTicketResponse getStatus(Long userId, String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new BusinessException(ErrorCode.CHECKOUT_TICKET_NOT_FOUND);
+        }
+        if (!ticket.userId.equals(userId)) {
+            throw new BusinessException(ErrorCode.NOT_HAVE_PERMISSION);
+        }
+        return ticket.toResponse();
+    }
+
+    /** 현재 큐에 대기 중인 요청 수 */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void drain() {
+        while (running) {
+            Ticket ticket;
+            try {
+                ticket = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            ticket.status = CheckoutStatus.PROCESSING;
+            try {
+                ticket.complete(ticket.idempotencyKey == null
+                        ? orderService.createOrder(ticket.userId)
+                        : orderIdempotencyService.createOrder(ticket.userId, ticket.idempotencyKey));
+            } catch (BusinessException e) {
+                ticket.fail(e.getErrorCode());
+            } catch (Exception e) {
+                log.error("비동기 주문 처리 실패: ticketId={}", ticket.id, e);
+                ticket.fail(ErrorCode.INTERNAL_SERVER_ERROR);
+            } finally {
+                inFlightByUser.remove(ticket.userId, ticket);
+            }
+        }
+    }
+
+    // 너무 오래 대기한 접수는 실패 처리하고, 처리가 끝나고 TTL이 지난 접수 정보 정리
+    @Scheduled(fixedDelayString = "${order.async-checkout.cleanup-interval-millis:60000}")
+    void evictFinishedTickets() {
+        long now = System.currentTimeMillis();
+        for (Ticket ticket : tickets.values()) {
+            // 워커가 이미 꺼낸 접수는 remove가 false이므로 그대로 처리됨
+            if (ticket.status == CheckoutStatus.QUEUED && now - ticket.createdAt > queuedTtlMillis
+                    && queue.remove(ticket)) {
+                ticket.fail(ErrorCode.CHECKOUT_QUEUE_TIMEOUT);
+                inFlightByUser.remove(ticket.userId, ticket);
+            }
+        }
+        for (Ticket ticket : tickets.values()) {
+            if (ticket.finishedAt > 0 && now - ticket.finishedAt > ticketTtlMillis) {
+                forget(ticket);
+            }
+        }
+    }
+
+    private void forget(Ticket ticket) {
+        tickets.remove(ticket.id);
+        if (ticket.storageKey != null) {
+            ticketsByKey.remove(ticket.storageKey, ticket);
+        }
+    }
+
+    /** 접수 요청 및 처리 상태 */
+    private static class Ticket {
+        private final String id;
+        private final Long userId;
+        private final String idempotencyKey;
+        private final String storageKey;
+        private final long createdAt = System.currentTimeMillis();
+        private volatile CheckoutStatus status = CheckoutStatus.QUEUED;
+        private volatile Long orderId;
+        private volatile ErrorCode errorCode;
+        private volatile long finishedAt;
+
+        private Ticket(String id, Long userId, String idempotencyKey, String storageKey) {
+            this.id = id;
+            this.userId = userId;
+            this.idempotencyKey = idempotencyKey;
+            this.storageKey = storageKey;
+        }
+
+        private void complete(Long orderId) {
+            this.orderId = orderId;
+            this.status = CheckoutStatus.COMPLETED;
+            this.finishedAt = System.currentTimeMillis();
+        }
+
+        private void fail(ErrorCode errorCode) {
+            this.errorCode = errorCode;
+            this.status = CheckoutStatus.FAILED;
+            this.finishedAt = System.currentTimeMillis();
+        }
+
+        private OrderDto.CheckoutTicketResponse toResponse() {
+            OrderDto.CheckoutTicketResponse res = new OrderDto.CheckoutTicketResponse();
+            res.setTicketId(id);
+            res.setStatus(status.name());
+            res.setOrderId(orderId);
+            if (errorCode != null) {
+                res.setErrorCode(errorCode.getCode());
+                res.setMessage(errorCode.getMessage());
+            }
+            return res;
+        }
+    }
+}
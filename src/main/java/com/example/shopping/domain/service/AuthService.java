@@ -1,25 +1,32 @@
 package com.example.shopping.domain.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.time.Duration;
+import java.time.LocalDateTime;
 
 import com.example.shopping.domain.dto.AuthDto;
 import com.example.shopping.domain.exception.BusinessException;
 import com.example.shopping.domain.exception.ErrorCode;
-import com.example.shopping.domain.entity.user.RefreshToken;
+import com.example.shopping.domain.exception.RetryLaterException;
 import com.example.shopping.domain.entity.user.User;
 import com.example.shopping.domain.entity.user.UserAuth;
 import com.example.shopping.domain.entity.user.UserProfile;
 import com.example.shopping.domain.enums.JoinType;
 import com.example.shopping.domain.enums.UserStatus;
-import com.example.shopping.domain.repository.RefreshTokenRepository;
 import com.example.shopping.domain.repository.UserAuthRepository;
 import com.example.shopping.domain.repository.UserProfileRepository;
 import com.example.shopping.domain.repository.UserRepository;
 import com.example.shopping.global.security.JwtTokenProvider;
+import com.example.shopping.global.security.LoginThrottle;
+import com.example.shopping.global.security.PasswordHasher;
+import com.example.shopping.global.security.RefreshTokenStore;
+import com.example.shopping.global.security.TokenRevocationList;
+import com.example.shopping.global.security.UserPrincipal;
+import com.example.shopping.global.security.UserRoleCache;
 
 import io.jsonwebtoken.Claims;
 
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.stereotype.Service;
 import lombok.RequiredArgsConstructor;
 
@@ -43,7 +50,7 @@ import lombok.RequiredArgsConstructor;
  * 
  * <p>보안:
  * <ul>
- *   <li>비밀번호는 PasswordEncoder를 사용하여 해시화하여 저장합니다.</li>
+ *   <li>비밀번호는 PasswordHasher의 전용 스레드 풀에서 BCrypt로 해시화하여 저장합니다.</li>
  *   <li>로그인 시 비밀번호는 평문과 해시값을 비교하여 검증합니다.</li>
  *   <li>JWT 토큰을 사용하여 사용자 인증을 관리합니다.</li>
  * </ul>
@@ -63,13 +70,25 @@ public class AuthService {
     /** 사용자 프로필 Repository */
     private final UserProfileRepository userProfileRepository;
     
-    /** 비밀번호 암호화 인코더 */
-    private final PasswordEncoder passwordEncoder;
+    /** 비밀번호 해시 전용 실행기 (BCrypt) */
+    private final PasswordHasher passwordHasher;
     
     /** JWT 토큰 제공자 */
     private final JwtTokenProvider tokenProvider;
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    /** 리프레시 토큰 저장소 (메모리 + 로컬 로그, 또는 DB) */
+    private final RefreshTokenStore refreshTokenStore;
+
+    /** 로그아웃한 액세스 토큰 폐기 목록 */
+    private final TokenRevocationList tokenRevocationList;
+
+    /** 로그인 ID별, IP별 시도 제한 */
+    private final LoginThrottle loginThrottle;
+
+    /** 토큰 roles 클레임용 권한 캐시 */
+    private final UserRoleCache userRoleCache;
+
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 회원가입을 처리합니다.
@@ -121,7 +140,7 @@ public class AuthService {
 
         UserAuth userAuth = UserAuth.builder()
                 .user(saveUser)
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHasher.encode(request.getPassword()))
                 .build();
 
         userAuthRepository.save(userAuth);
@@ -130,24 +149,72 @@ public class AuthService {
     }
 
 
-    // 로그인 (수정: Refresh Token 생성 및 저장)
-    @Transactional
-    public AuthDto.TokenResponse login(AuthDto.LoginRequest request) {
-        // ... (기존 ID/PW 검증 로직) ...
-        User user = userRepository.findByLoginId(request.getLoginId())
-                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        // ... (비밀번호 체크 로직) ...
+    /**
+     * 로그인을 처리합니다.
+     *
+     * <p>
+     * 실패 시 롤백되지 않아야 하는 잠금 저장이 있고, BCrypt 검증을 기다리는 동안 DB 커넥션을 잡고 있지 않도록
+     * 메서드 전체를 트랜잭션으로 묶지 않고 쓰기만 짧은 트랜잭션으로 실행합니다.
+     *
+     * @param request  로그인 요청 DTO
+     * @param clientIp 클라이언트 IP (시도 제한용)
+     * @return 액세스 토큰과 리프레시 토큰
+     * @throws RetryLaterException 시도 한도를 넘었거나(429) 계정이 잠긴 경우(423)
+     */
+    public AuthDto.TokenResponse login(AuthDto.LoginRequest request, String clientIp) {
+        // 사용자 조회와 BCrypt 전에 시도 제한 확인
+        loginThrottle.acquire(request.getLoginId(), clientIp);
+
+        User user = userRepository.findByLoginId(request.getLoginId()).orElse(null);
+        if (user == null) {
+            loginThrottle.recordFailure(request.getLoginId());
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        UserAuth userAuth = userAuthRepository.findById(user.getUserId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        // 다른 서버에서 잠긴 계정
+        LocalDateTime now = LocalDateTime.now();
+        if (userAuth.getLockedUntil() != null && userAuth.getLockedUntil().isAfter(now)) {
+            throw new RetryLaterException(ErrorCode.ACCOUNT_LOCKED,
+                    Math.max(1, Duration.between(now, userAuth.getLockedUntil()).toSeconds()));
+        }
+
+        // 비밀번호 검증
+        if (!passwordHasher.matches(request.getPassword(), userAuth.getPasswordHash())) {
+            if (loginThrottle.recordFailure(request.getLoginId())) {
+                // 잠금 기준에 도달한 경우에만 저장
+                LocalDateTime lockedUntil = now.plus(Duration.ofMillis(loginThrottle.getLockoutMillis()));
+                transactionTemplate.executeWithoutResult(status -> userAuthRepository.lock(
+                        user.getUserId(), loginThrottle.getLockoutThreshold(), lockedUntil));
+            }
+            throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+        }
+        loginThrottle.recordSuccess(request.getLoginId());
+
+        // 잠금 이력 초기화, 저장된 해시의 비용이 현재 설정보다 낮으면 로그인한 비밀번호로 다시 해시
+        boolean wasLocked = userAuth.getFailedLoginCount() > 0 || userAuth.getLockedUntil() != null;
+        String rehashed = passwordHasher.needsRehash(userAuth.getPasswordHash())
+                ? passwordHasher.encode(request.getPassword())
+                : null;
+        if (wasLocked || rehashed != null) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (wasLocked) {
+                    userAuthRepository.unlock(user.getUserId());
+                }
+                if (rehashed != null) {
+                    userAuthRepository.updatePasswordHash(user.getUserId(), rehashed);
+                }
+            });
+        }
 
         // 토큰 생성
-        String accessToken = tokenProvider.createToken(String.valueOf(user.getUserId()), "ROLE_USER");
+        String accessToken = tokenProvider.createToken(String.valueOf(user.getUserId()),
+                userRoleCache.getRoles(user.getUserId()));
         String refreshToken = tokenProvider.createRefreshToken(); // *Provider에 메서드 추가 필요 (아래 참고)
 
-        // Refresh Token DB 저장
-        RefreshToken rt = RefreshToken.builder()
-                .key(String.valueOf(user.getUserId()))
-                .value(refreshToken)
-                .build();
-        refreshTokenRepository.save(rt);
+        // Refresh Token 저장
+        refreshTokenStore.save(String.valueOf(user.getUserId()), refreshToken, refreshTokenExpiresAt());
 
         return new AuthDto.TokenResponse("Bearer", accessToken, refreshToken, 1800000L); // 30분
     }
@@ -164,39 +231,35 @@ public class AuthService {
         Claims claims = tokenProvider.parseClaims(request.getAccessToken());
         String userId = claims.getSubject();
 
-        // 3. 저장소에서 User ID를 기반으로 Refresh Token 가져오기
-        RefreshToken refreshToken = refreshTokenRepository.findByKey(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_LOGGED_OUT));
+        // 3. 새로운 토큰 생성
+        // 권한은 기존 토큰이 아닌 현재 역할 기준 (역할 변경이 재발급 때 반영됨)
+        String newAccessToken = tokenProvider.createToken(userId, userRoleCache.getRoles(Long.valueOf(userId)));
+        String newRefreshToken = tokenProvider.createRefreshToken();
 
-        // 4. Refresh Token 일치하는지 검사
-        if (!refreshToken.getValue().equals(request.getRefreshToken())) {
+        // 4. 저장된 Refresh Token과 일치하면 새 토큰으로 교체
+        RefreshTokenStore.RotateResult result = refreshTokenStore.rotate(userId, request.getRefreshToken(),
+                newRefreshToken, refreshTokenExpiresAt());
+        if (result == RefreshTokenStore.RotateResult.NOT_FOUND) {
+            throw new BusinessException(ErrorCode.USER_LOGGED_OUT);
+        }
+        if (result == RefreshTokenStore.RotateResult.MISMATCH) {
             throw new BusinessException(ErrorCode.TOKEN_USER_MISMATCH);
         }
 
-        // 5. 새로운 토큰 생성
-        String newAccessToken = tokenProvider.createToken(userId, (String)claims.get("role"));
-        String newRefreshToken = tokenProvider.createRefreshToken();
-
-        // 6. DB 정보 업데이트
-        refreshToken.updateValue(newRefreshToken);
-
         return new AuthDto.TokenResponse("Bearer", newAccessToken, newRefreshToken, 1800000L);
     }
 
-    // 로그아웃
+    // 로그아웃 (토큰은 JwtAuthenticationFilter에서 이미 검증됨)
     @Transactional
-    public void logout(String accessToken) {
-         // 1. Access Token 검증
-        if (!tokenProvider.validateToken(accessToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
+    public void logout(UserPrincipal principal) {
+        // 1. Refresh Token 삭제
+        refreshTokenStore.remove(String.valueOf(principal.userId()));
 
-        // 2. Access Token에서 User ID를 가져옴
-        Claims claims = tokenProvider.parseClaims(accessToken);
-        String userId = claims.getSubject();
+        // 2. Access Token은 만료 시각까지 폐기 목록에 등록 (jti가 없는 이전 토큰은 만료까지 유효)
+        tokenRevocationList.revoke(principal.tokenId(), principal.expiresAt());
+    }
 
-        // 3. DB에서 Refresh Token 삭제
-        refreshTokenRepository.findByKey(userId)
-                .ifPresent(refreshTokenRepository::delete);
+    private long refreshTokenExpiresAt() {
+        return System.currentTimeMillis() + tokenProvider.getRefreshTokenValidityInMilliseconds();
     }
 }
@@ -0,0 +1,98 @@
+package com.example.shopping.domain.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.shopping.domain.dto.ProductDto;
+import com.example.shopping.domain.enums.OrderEventType;
+import com.example.shopping.domain.event.OrderSalesEvent;
+import com.example.shopping.domain.exception.BusinessException;
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.stats.WindowedTopK;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 베스트셀러 서비스
+ *
+ * <p>
+ * 최근 1시간, 1일 동안 많이 팔린 상품을 주문 테이블 집계 없이 메모리에서 제공합니다.
+ * 주문 생성 트랜잭션이 커밋된 뒤 OrderSalesEvent를 받아 상품별 판매 수량을 구간별 추적기(WindowedTopK)에 더합니다.
+ *
+ * <p>
+ * 구간:
+ * <ul>
+ * <li>hour: 5분 버킷 12개 (최근 60~65분)</li>
+ * <li>day: 1시간 버킷 24개 (최근 24~25시간)</li>
+ * </ul>
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>상품 수와 관계없이 버킷마다 capacity 개 카운터만 유지하므로 순위와 수량은 추정값입니다.
+ * 실제 판매 수량보다 최대 error 만큼 크게 나올 수 있습니다.</li>
+ * <li>취소는 반영하지 않으며 (주문 시점의 인기 기준), 서버별로 유지되고 재시작 시 비워집니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Service
+public class BestSellerService {
+
+    @Value("${product.best-sellers.capacity:100}")
+    private int capacity;
+
+    @Value("${product.best-sellers.max-limit:50}")
+    private int maxLimit;
+
+    private WindowedTopK lastHour;
+    private WindowedTopK lastDay;
+
+    @PostConstruct
+    void init() {
+        lastHour = new WindowedTopK(Duration.ofHours(1).toMillis(), 12, capacity);
+        lastDay = new WindowedTopK(Duration.ofDays(1).toMillis(), 24, capacity);
+    }
+
+    /**
+     * 커밋된 주문의 판매 수량을 더합니다.
+     *
+     * @param event 주문 판매 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderSales(OrderSalesEvent event) {
+        if (event.getEventType() != OrderEventType.ORDER_CREATED) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (OrderSalesEvent.Line line : event.getLines()) {
+            lastHour.offer(now, line.getProductId(), line.getProductName(), line.getQty());
+            lastDay.offer(now, line.getProductId(), line.getProductName(), line.getQty());
+        }
+    }
+
+    /**
+     * 구간별 베스트셀러를 조회합니다.
+     *
+     * @param window hour 또는 day
+     * @param limit  최대 개수 (최대 max-limit)
+     * @return 추정 판매 수량 내림차순 상품 목록
+     */
+    public List<ProductDto.BestSeller> getBestSellers(String window, int limit) {
+        WindowedTopK topK = switch (window == null ? "" : window.toLowerCase()) {
+            case "hour" -> lastHour;
+            case "day" -> lastDay;
+            default -> throw new BusinessException(ErrorCode.INVALID_BEST_SELLER_WINDOW);
+        };
+        int size = Math.min(Math.max(limit, 1), maxLimit);
+        return topK.top(System.currentTimeMillis(), size).stream()
+                .map(item -> new ProductDto.BestSeller(item.key(), item.label(), item.count(), item.error()))
+                .toList();
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.shopping.domain.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.entity.stats.SalesCounterSnapshot;
+import com.example.shopping.domain.enums.OrderEventType;
+import com.example.shopping.domain.event.OrderSalesEvent;
+import com.example.shopping.domain.repository.SalesCounterSnapshotRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실시간 매출 카운터 서비스
+ *
+ * <p>
+ * 관리자 대시보드의 실시간 매출을 DB 집계 없이 메모리에서 제공합니다.
+ * 주문 생성/취소 트랜잭션이 커밋된 뒤 OrderSalesEvent를 받아 날짜별, 카테고리별 카운터를 갱신합니다.
+ *
+ * <p>
+ * 동시성:
+ * <ul>
+ * <li>카운터는 날짜 → 카테고리로 나뉜 LongAdder이므로, 여러 요청 스레드가 동시에 더해도 잠금 경합이 없습니다.</li>
+ * <li>조회와 스냅샷은 LongAdder.sum()으로 읽으므로 갱신 중인 값이 일부만 반영될 수 있습니다 (실시간 표시용).</li>
+ * </ul>
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>카운터는 서버별로 유지되며, 스냅샷도 서버 ID(instance-id)별 행에 저장하고 재시작 시 자기 행만 복원합니다.
+ * 따라서 instance-id는 서버마다 다르고 재시작해도 바뀌지 않아야 합니다 (기본값: HOSTNAME 환경 변수).</li>
+ * <li>마지막 스냅샷 이후의 주문은 복원되지 않습니다. 정확한 값은 일별 매출 집계(daily_sales)를 사용합니다.</li>
+ * <li>최근 retention-days 일의 카운터만 메모리에 유지합니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveSalesCounterService {
+
+    private final SalesCounterSnapshotRepository salesCounterSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${stats.live.retention-days:2}")
+    private int retentionDays;
+
+    /** 스냅샷 행을 구분하는 서버 ID */
+    @Value("${stats.live.instance-id:${HOSTNAME:local}}")
+    private String instanceId;
+
+    /** 스냅샷 복원 전에는 DB 스냅샷을 덮어쓰지 않음 */
+    private volatile boolean restored;
+
+    /** 날짜별 카운터 (최근 날짜 순 조회를 위해 정렬된 맵) */
+    private final ConcurrentSkipListMap<LocalDate, DayCounters> days = new ConcurrentSkipListMap<>();
+
+    /**
+     * 커밋된 주문 생성/취소를 카운터에 반영합니다.
+     *
+     * @param event 주문 판매 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onOrderSales(OrderSalesEvent event) {
+        LocalDate date = event.getOrderedAt().toLocalDate();
+        if (date.isBefore(oldestRetainedDate())) {
+            return;
+        }
+        int sign = event.getEventType() == OrderEventType.ORDER_CANCELLED ? -1 : 1;
+        DayCounters day = days.computeIfAbsent(date, d -> new DayCounters());
+
+        Set<Long> categoryIds = new HashSet<>();
+        for (OrderSalesEvent.Line line : event.getLines()) {
+            day.total.add(sign * line.amount(), sign * line.getQty(), 0);
+            day.category(line.getCategoryId(), line.getCategoryName())
+                    .add(sign * line.amount(), sign * line.getQty(), categoryIds.add(line.getCategoryId()) ? sign : 0);
+        }
+        day.total.orders.add(sign);
+    }
+
+    /**
+     * 최근 days일의 실시간 매출을 메모리에서 조회합니다.
+     *
+     * @param dayCount 조회할 일 수 (오늘 포함, 최대 retention-days)
+     * @return 날짜 내림차순 실시간 매출 목록
+     */
+    public List<StatDto.LiveSales> getLiveSales(int dayCount) {
+        LocalDate from = LocalDate.now().minusDays(Math.min(Math.max(dayCount, 1), retentionDays) - 1L);
+        List<StatDto.LiveSales> result = new ArrayList<>();
+        days.tailMap(from, true).descendingMap().forEach((date, day) -> {
+            StatDto.LiveSales res = new StatDto.LiveSales();
+            res.setDate(date.toString());
+            res.setTotalSales(day.total.sales.sum());
+            res.setItemQty(day.total.qty.sum());
+            res.setOrderCount(day.total.orders.sum());
+            res.setCategories(day.categories.entrySet().stream()
+                    .map(entry -> {
+                        StatDto.LiveCategorySales cat = new StatDto.LiveCategorySales();
+                        cat.setCategoryId(entry.getKey());
+                        cat.setCategoryName(entry.getValue().name);
+                        cat.setTotalSales(entry.getValue().sales.sum());
+                        cat.setTotalQty(entry.getValue().qty.sum());
+                        cat.setOrderCount(entry.getValue().orders.sum());
+                        return cat;
+                    })
+                    .sorted(Comparator.comparing(StatDto.LiveCategorySales::getTotalSales).reversed())
+                    .toList());
+            result.add(res);
+        });
+        return result;
+    }
+
+    // 카운터를 DB에 주기적으로 저장하고, 보관 기간이 지난 날짜를 메모리와 DB에서 제거
+    @Scheduled(initialDelayString = "${stats.live.snapshot-interval-millis:10000}",
+            fixedDelayString = "${stats.live.snapshot-interval-millis:10000}")
+    public void snapshot() {
+        if (!restored) {
+            return;
+        }
+        LocalDate oldest = oldestRetainedDate();
+        days.headMap(oldest).clear();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SalesCounterSnapshot> rows = new ArrayList<>();
+        days.forEach((date, day) -> {
+            rows.add(day.total.toSnapshot(instanceId, date, SalesCounterSnapshot.TOTAL_CATEGORY_ID, now));
+            day.categories.forEach((categoryId, counters) ->
+                    rows.add(counters.toSnapshot(instanceId, date, categoryId, now)));
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (SalesCounterSnapshot row : rows) {
+                salesCounterSnapshotRepository.upsert(row.getInstanceId(), row.getSalesDate(), row.getCategoryId(),
+                        row.getCategoryName(), row.getTotalSales(), row.getItemQty(), row.getOrderCount(), now);
+            }
+            salesCounterSnapshotRepository.deleteOlderThan(oldest);
+        });
+    }
+
+    // 서버 시작 시 이 서버의 마지막 스냅샷으로 카운터 복원 (시작 후 들어온 주문에 더함)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            for (SalesCounterSnapshot row : salesCounterSnapshotRepository
+                    .findAllByInstanceIdAndSalesDateGreaterThanEqual(instanceId, oldestRetainedDate())) {
+                DayCounters day = days.computeIfAbsent(row.getSalesDate(), d -> new DayCounters());
+                Counters counters = row.getCategoryId() == SalesCounterSnapshot.TOTAL_CATEGORY_ID
+                        ? day.total
+                        : day.category(row.getCategoryId(), row.getCategoryName());
+                counters.add(row.getTotalSales(), row.getItemQty(), row.getOrderCount());
+            }
+        } catch (Exception e) {
+            log.error("실시간 매출 카운터 복원 실패", e);
+        } finally {
+            restored = true;
+        }
+    }
+
+    private LocalDate oldestRetainedDate() {
+        return LocalDate.now().minusDays(retentionDays - 1L);
+    }
+
+    /** 하루치 카운터 (전체 합계 + 카테고리별) */
+    private static class DayCounters {
+        private final Counters total = new Counters(null);
+        private final Map<Long, Counters> categories = new ConcurrentHashMap<>();
+
+        private Counters category(Long categoryId, String name) {
+            return categories.computeIfAbsent(categoryId, id -> new Counters(name));
+        }
+    }
+
+    /** 매출액, 판매 수량, 주문 건수 카운터 */
+    private static class Counters {
+        private final String name;
+        private final LongAdder sales = new LongAdder();
+        private final LongAdder qty = new LongAdder();
+        private final LongAdder orders = new LongAdder();
+
+        private Counters(String name) {
+            this.name = name;
+        }
+
+        private void add(long salesDelta, long qtyDelta, long ordersDelta) {
+            sales.add(salesDelta);
+            qty.add(qtyDelta);
+            if (ordersDelta != 0) {
+                orders.add(ordersDelta);
+            }
+        }
+
+        private SalesCounterSnapshot toSnapshot(String instanceId, LocalDate date, Long categoryId, LocalDateTime now) {
+            return SalesCounterSnapshot.builder()
+                    .instanceId(instanceId)
+                    .salesDate(date)
+                    .categoryId(categoryId)
+                    .categoryName(name)
+                    .totalSales(sales.sum())
+                    .itemQty(qty.sum())
+                    .orderCount(orders.sum())
+                    .updatedAt(now)
+                    .build();
+        }
+    }
+}
@@ -1,37 +1,367 @@
 package com.example.shopping.domain.service;
 
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.shopping.domain.event.MailRequestedEvent;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 비동기 메일 발송 서비스
+ *
+ * <p>
+ * 메일 요청을 스풀 파일({@link MailSpool})에 쓰고 크기가 제한된 메모리 큐에 넣은 뒤 바로 반환합니다.
+ * 가상 스레드 워커가 큐에서 최대 batch-size 건을 꺼내 SMTP 연결 하나로 함께 보냅니다.
+ * 트랜잭션 안의 요청은 {@link MailRequestedEvent}로 발행하면 커밋 후에 큐에 들어가므로,
+ * SMTP 지연이나 장애가 DB 트랜잭션과 요청 스레드를 붙잡지 않습니다.
+ *
+ * <p>
+ * 실패 처리:
+ * <ul>
+ * <li>발송에 실패한 메일은 시도 횟수와 다음 시도 시각을 스풀에 기록하고, initial-backoff-millis부터 두 배씩
+ * (최대 max-backoff-millis) 기다린 뒤 다시 보냅니다.</li>
+ * <li>max-attempts번 실패한 메일은 스풀의 failed 디렉터리로 옮기고 더 이상 보내지 않습니다.</li>
+ * <li>큐가 가득 차면 메일은 스풀에만 남고, spool-scan-interval-millis마다 스풀을 확인할 때 다시 큐에 넣습니다.</li>
+ * <li>서버가 종료되어도 발송하지 못한 메일은 스풀에 남아 재시작 후 발송됩니다 (최소 한 번 발송, 중복 가능).</li>
+ * <li>메일마다 만료 시각(요청의 ttl, 없으면 default-ttl-millis)이 있으며, 만료되었거나 다음 재시도 전에 만료되는 메일은
+ * 보내거나 failed로 옮기지 않고 스풀 파일을 지웁니다. 인증코드가 유효 시간이 지난 뒤 도착하거나 디스크에 계속 남지 않습니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 지표: mail.queue.depth(큐 대기 수), mail.spool.size(발송 전 스풀 파일 수), mail.sent, mail.retries, mail.dead,
+ * mail.expired(만료되어 지운 메일 수)
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
     private final JavaMailSender javaMailSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mail.async.from:no-reply@shopping.local}")
+    private String from;
+
+    @Value("${mail.async.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${mail.async.workers:2}")
+    private int workerCount;
+
+    /** SMTP 연결 하나로 보내는 최대 메일 수 */
+    @Value("${mail.async.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.async.spool-dir:./data/mail-spool}")
+    private String spoolDir;
+
+    @Value("${mail.async.fsync:false}")
+    private boolean fsync;
+
+    @Value("${mail.async.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${mail.async.initial-backoff-millis:5000}")
+    private long initialBackoffMillis;
+
+    @Value("${mail.async.max-backoff-millis:600000}")
+    private long maxBackoffMillis;
+
+    /** 만료 시간을 지정하지 않은 메일의 만료 시간 */
+    @Value("${mail.async.default-ttl-millis:86400000}")
+    private long defaultTtlMillis;
+
+    private MailSpool spool;
+
+    /** 발송 대기 중인 메일 */
+    private BlockingQueue<MailSpool.Entry> queue;
+
+    /** 큐에 있거나 발송 중인 메일 ID (스풀 확인 시 중복으로 넣지 않음) */
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    /** 발송 전 스풀 파일 수 */
+    private final AtomicInteger spooled = new AtomicInteger();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
 
+    private Counter sentCounter;
+    private Counter retryCounter;
+    private Counter deadCounter;
+    private Counter expiredCounter;
+
+    @PostConstruct
+    void start() {
+        spool = new MailSpool(Path.of(spoolDir), fsync);
+        spool.open();
+        spooled.set(spool.list().size());
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("mail.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("mail.spool.size", spooled, AtomicInteger::get).register(meterRegistry);
+        sentCounter = Counter.builder("mail.sent").register(meterRegistry);
+        retryCounter = Counter.builder("mail.retries").register(meterRegistry);
+        deadCounter = Counter.builder("mail.dead").register(meterRegistry);
+        expiredCounter = Counter.builder("mail.expired").register(meterRegistry);
+
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Thread.ofVirtual().name("mail-sender-" + i).start(this::drain));
+        }
+        if (spooled.get() > 0) {
+            log.info("발송하지 못한 메일 {}건을 스풀에서 복원합니다", spooled.get());
+            scanSpool();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * 메일 발송을 요청합니다 (트랜잭션 밖에서 호출할 때).
+     *
+     * @param toEmail 받는 사람
+     * @param title   제목
+     * @param text    본문
+     */
     public void sendEmail(String toEmail, String title, String text) {
-        // 실제 메일 발송 시도
+        sendEmail(toEmail, title, text, 0L);
+    }
+
+    /**
+     * 만료 시간이 있는 메일 발송을 요청합니다 (인증코드처럼 유효 시간이 지나면 의미 없는 메일).
+     * 만료된 메일은 재시도하거나 failed로 옮기지 않고 스풀 파일을 지웁니다.
+     *
+     * @param toEmail   받는 사람
+     * @param title     제목
+     * @param text      본문
+     * @param ttlMillis 만료 시간 (0 이하이면 default-ttl-millis)
+     */
+    public void sendEmail(String toEmail, String title, String text, long ttlMillis) {
+        long expiresAt = System.currentTimeMillis() + (ttlMillis > 0 ? ttlMillis : defaultTtlMillis);
+        MailSpool.Entry entry;
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(toEmail);
-            message.setSubject(title);
-            message.setText(text);
-            javaMailSender.send(message);
-        } catch (Exception e) {
-            // SMTP 설정이 없거나 실패해도 튜토리얼 진행을 위해 로그만 남기고 넘어감
-            log.error("메일 발송 실패 (SMTP 설정을 확인하세요): {}", e.getMessage());
-        }
-        
-        // 개발용: 콘솔에 내용 출력
-        log.info("==========================================");
-        log.info("To: {}", toEmail);
-        log.info("Subject: {}", title);
-        log.info("Text: {}", text);
-        log.info("==========================================");
-    }
-}
\ No newline at end of file
+            entry = spool.create(toEmail, title, text, expiresAt);
+        } catch (UncheckedIOException e) {
+            log.error("메일 스풀 기록 실패로 메일을 보내지 못했습니다: to={}", toEmail, e);
+            return;
+        }
+        spooled.incrementAndGet();
+        enqueue(entry);
+    }
+
+    /**
+     * 커밋된 트랜잭션의 메일 요청을 발송 큐에 넣습니다 (트랜잭션 없이 발행하면 바로 넣음).
+     *
+     * @param event 메일 발송 요청 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMailRequested(MailRequestedEvent event) {
+        sendEmail(event.getTo(), event.getSubject(), event.getText(), event.getTtlMillis());
+    }
+
+    /** 현재 큐에 대기 중인 메일 수 */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /** 발송 전 스풀 파일 수 (큐 대기, 발송 중, 재시도 대기 포함) */
+    public int getSpoolSize() {
+        return spooled.get();
+    }
+
+    /** 재시도 시각이 된 메일과 큐가 가득 차 넣지 못한 메일을 스풀에서 다시 큐에 넣고, 만료된 메일은 지웁니다. */
+    @Scheduled(fixedDelayString = "${mail.async.spool-scan-interval-millis:10000}")
+    public void scanSpool() {
+        long now = System.currentTimeMillis();
+        int purged = spool.purgeExpiredFailed(now);
+        if (purged > 0) {
+            expiredCounter.increment(purged);
+            log.info("만료된 failed 메일 {}건 삭제", purged);
+        }
+        if (spooled.get() <= inFlight.size()) {
+            return;
+        }
+        for (String id : spool.list()) {
+            if (inFlight.contains(id)) {
+                continue;
+            }
+            MailSpool.Entry entry = spool.read(id);
+            if (entry == null || expire(entry, now)) {
+                continue;
+            }
+            if (entry.nextAttemptAt() <= now && !enqueue(entry)) {
+                break; // 큐가 가득 참
+            }
+        }
+    }
+
+    private boolean enqueue(MailSpool.Entry entry) {
+        if (!inFlight.add(entry.id())) {
+            return true;
+        }
+        if (!queue.offer(entry)) {
+            inFlight.remove(entry.id());
+            log.warn("메일 큐가 가득 차 스풀에서 다시 시도합니다: {}", entry.id());
+            return false;
+        }
+        return true;
+    }
+
+    private void drain() {
+        List<MailSpool.Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            // 큐에서 기다리는 동안 만료된 메일은 보내지 않음
+            long now = System.currentTimeMillis();
+            batch.removeIf(entry -> expire(entry, now));
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                send(batch);
+            } catch (Exception e) {
+                log.error("메일 발송 처리 실패", e);
+                batch.forEach(entry -> inFlight.remove(entry.id()));
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 메일 묶음을 SMTP 연결 하나로 보냅니다.
+     * JavaMailSender.send(SimpleMailMessage...)는 연결을 한 번 열어 모든 메일을 보내고, 실패한 메일만 예외에 담습니다.
+     */
+    private void send(List<MailSpool.Entry> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = toMessage(batch.get(i));
+        }
+
+        Set<Object> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        Exception cause = null;
+        try {
+            javaMailSender.send(messages);
+        } catch (MailSendException e) {
+            cause = e;
+            failed.addAll(e.getFailedMessages().keySet());
+            if (failed.isEmpty()) {
+                failed.addAll(List.of(messages));
+            }
+        } catch (MailException e) {
+            cause = e;
+            failed.addAll(List.of(messages));
+        }
+
+        for (int i = 0; i < messages.length; i++) {
+            if (failed.contains(messages[i])) {
+                retryLater(batch.get(i), cause);
+            } else {
+                complete(batch.get(i));
+            }
+        }
+    }
+
+    private SimpleMailMessage toMessage(MailSpool.Entry entry) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(entry.to());
+        message.setSubject(entry.subject());
+        message.setText(entry.text());
+        return message;
+    }
+
+    private void complete(MailSpool.Entry entry) {
+        spool.delete(entry.id());
+        spooled.decrementAndGet();
+        inFlight.remove(entry.id());
+        sentCounter.increment();
+        log.debug("메일 발송 완료: to={}, subject={}", entry.to(), entry.subject());
+    }
+
+    private void retryLater(MailSpool.Entry entry, Exception cause) {
+        String reason = cause != null ? cause.getMessage() : "알 수 없음";
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(entry.attempts(), 20));
+        // 다음 시도 전에 만료되는 메일은 재시도하거나 failed로 옮기지 않고 지움
+        if (expire(entry, System.currentTimeMillis() + backoff)) {
+            return;
+        }
+        if (entry.attempts() + 1 >= maxAttempts) {
+            spool.moveToFailed(entry.id());
+            spooled.decrementAndGet();
+            inFlight.remove(entry.id());
+            deadCounter.increment();
+            log.error("메일 발송 포기 ({}회 실패): id={}, to={}, 원인={}", maxAttempts, entry.id(), entry.to(), reason);
+            return;
+        }
+
+        MailSpool.Entry retry = entry.retryAt(System.currentTimeMillis() + backoff);
+        try {
+            spool.write(retry);
+        } catch (UncheckedIOException e) {
+            log.error("메일 재시도 정보 기록 실패 (이전 상태로 다시 시도): {}", entry.id(), e);
+        }
+        inFlight.remove(entry.id());
+        retryCounter.increment();
+        log.warn("메일 발송 실패, {}ms 후 재시도 ({}/{}): id={}, 원인={}", backoff, retry.attempts(), maxAttempts,
+                entry.id(), reason);
+    }
+
+    /**
+     * time 시각에 만료되는 메일이면 스풀 파일을 지우고 true를 반환합니다.
+     *
+     * @param entry 메일
+     * @param time  만료 여부를 확인할 시각 (epoch millis)
+     * @return 만료되어 지웠으면 true
+     */
+    private boolean expire(MailSpool.Entry entry, long time) {
+        if (!entry.expiredBy(time)) {
+            return false;
+        }
+        spool.delete(entry.id());
+        spooled.decrementAndGet();
+        inFlight.remove(entry.id());
+        expiredCounter.increment();
+        log.warn("만료된 메일 삭제 ({}회 시도): id={}, to={}", entry.attempts(), entry.id(), entry.to());
+        return true;
+    }
+}
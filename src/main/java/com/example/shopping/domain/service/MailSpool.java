@@ -0,0 +1,212 @@
+package com.example.shopping.domain.service;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메일 스풀 (발송 대기 메일의 파일 저장소)
+ *
+ * <p>
+ * 발송 요청마다 파일 하나(ID.mail)를 쓰고 발송에 성공하면 지웁니다. 서버가 발송 전에 종료되어도
+ * 재시작 후 남은 파일을 다시 읽어 발송하므로 메일이 유실되지 않습니다 (대신 중복 발송될 수 있음).
+ *
+ * <p>
+ * 파일:
+ * <ul>
+ * <li>ID.mail: 받는 사람, 제목, 본문, 시도 횟수, 다음 시도 시각, 만료 시각 (Properties 형식, UTF-8)</li>
+ * <li>failed/ID.mail: 최대 시도 횟수를 넘긴 메일 (확인 후 수동으로 스풀에 되돌리면 다시 발송, 만료되면 삭제)</li>
+ * </ul>
+ * 본문(인증코드 등)이 평문으로 남으므로 메일마다 만료 시각을 두고, 만료된 메일은 발송하거나 failed로 옮기지 않고 파일을 지웁니다.
+ * 파일은 임시 파일에 쓴 뒤 이름을 바꾸므로 중간에 종료되어도 반쯤 쓰인 파일이 남지 않습니다.
+ * ID는 생성 시각으로 시작하므로 이름순이 요청 순서입니다.
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+class MailSpool {
+
+    private static final String SUFFIX = ".mail";
+    private static final String FAILED_DIR = "failed";
+
+    private final Path dir;
+    private final boolean fsync;
+
+    MailSpool(Path dir, boolean fsync) {
+        this.dir = dir;
+        this.fsync = fsync;
+    }
+
+    void open() {
+        try {
+            Files.createDirectories(dir.resolve(FAILED_DIR));
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 스풀 디렉터리를 만들 수 없습니다: " + dir, e);
+        }
+    }
+
+    /**
+     * 새 메일을 스풀에 씁니다.
+     *
+     * @param expiresAt 만료 시각 (epoch millis, 이후에는 발송하지 않고 삭제)
+     * @return 스풀에 쓴 메일 (바로 발송 가능)
+     */
+    Entry create(String to, String subject, String text, long expiresAt) {
+        String id = String.format("%013d-%s", System.currentTimeMillis(), UUID.randomUUID());
+        Entry entry = new Entry(id, to, subject, text, 0, 0L, expiresAt);
+        write(entry);
+        return entry;
+    }
+
+    /** 메일을 새로 쓰거나 덮어씁니다 (재시도 정보 갱신). */
+    void write(Entry entry) {
+        Properties props = new Properties();
+        props.setProperty("to", entry.to());
+        props.setProperty("subject", entry.subject());
+        props.setProperty("text", entry.text());
+        props.setProperty("attempts", String.valueOf(entry.attempts()));
+        props.setProperty("nextAttemptAt", String.valueOf(entry.nextAttemptAt()));
+        props.setProperty("expiresAt", String.valueOf(entry.expiresAt()));
+
+        Path tmp = dir.resolve(entry.id() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                    Writer writer = new OutputStreamWriter(Channels.newOutputStream(channel),
+                            StandardCharsets.UTF_8)) {
+                props.store(writer, null);
+                writer.flush();
+                if (fsync) {
+                    channel.force(true);
+                }
+            }
+            Files.move(tmp, path(entry.id()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 스풀 기록 실패: " + entry.id(), e);
+        }
+    }
+
+    /** 발송에 성공한 메일을 지웁니다. */
+    void delete(String id) {
+        try {
+            Files.deleteIfExists(path(id));
+        } catch (IOException e) {
+            log.warn("메일 스풀 삭제 실패 (다시 발송될 수 있음): {}", id, e);
+        }
+    }
+
+    /** 더 이상 재시도하지 않을 메일을 failed 디렉터리로 옮깁니다. */
+    void moveToFailed(String id) {
+        try {
+            Files.move(path(id), dir.resolve(FAILED_DIR).resolve(id + SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("메일 스풀 이동 실패: {}", id, e);
+        }
+    }
+
+    /**
+     * failed 디렉터리에서 만료된 메일을 지웁니다 (만료 시각이 없거나 읽을 수 없는 파일은 확인용으로 남김).
+     *
+     * @return 지운 메일 수
+     */
+    int purgeExpiredFailed(long now) {
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir.resolve(FAILED_DIR), "*" + SUFFIX)) {
+            for (Path file : files) {
+                Properties props = new Properties();
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    props.load(reader);
+                    long expiresAt = Long.parseLong(props.getProperty("expiresAt", "0"));
+                    if (expiresAt > 0 && expiresAt <= now && Files.deleteIfExists(file)) {
+                        purged++;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.debug("만료 확인을 건너뛴 failed 메일: {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("failed 메일 목록 조회 실패: {}", dir, e);
+        }
+        return purged;
+    }
+
+    /** 스풀에 있는 메일 ID 목록 (요청 순서) */
+    List<String> list() {
+        List<String> ids = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                ids.add(name.substring(0, name.length() - SUFFIX.length()));
+            }
+        } catch (IOException e) {
+            log.warn("메일 스풀 목록 조회 실패: {}", dir, e);
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    /**
+     * 스풀에서 메일을 읽습니다.
+     *
+     * @return 메일, 이미 지워졌거나 읽을 수 없으면 null (읽을 수 없는 파일은 failed로 이동)
+     */
+    Entry read(String id) {
+        Path file = path(id);
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(reader);
+            return new Entry(id, props.getProperty("to"), props.getProperty("subject"), props.getProperty("text"),
+                    Integer.parseInt(props.getProperty("attempts", "0")),
+                    Long.parseLong(props.getProperty("nextAttemptAt", "0")),
+                    Long.parseLong(props.getProperty("expiresAt", "0")));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.error("메일 스풀 파일을 읽을 수 없습니다: {}", file, e);
+            moveToFailed(id);
+            return null;
+        }
+    }
+
+    private Path path(String id) {
+        return dir.resolve(id + SUFFIX);
+    }
+
+    /**
+     * 스풀의 메일 한 건
+     *
+     * @param attempts      실패한 발송 시도 횟수
+     * @param nextAttemptAt 다음 발송 시도 시각 (epoch millis, 0이면 바로)
+     * @param expiresAt     만료 시각 (epoch millis, 0이면 만료 없음: 만료 시각 도입 전에 스풀에 쓴 메일)
+     */
+    record Entry(String id, String to, String subject, String text, int attempts, long nextAttemptAt,
+            long expiresAt) {
+
+        Entry retryAt(long nextAttemptAt) {
+            return new Entry(id, to, subject, text, attempts + 1, nextAttemptAt, expiresAt);
+        }
+
+        /** time 시각에 이미 만료되었는지 */
+        boolean expiredBy(long time) {
+            return expiresAt > 0 && expiresAt <= time;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.shopping.domain.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.entity.order.IdempotencyKey;
+import com.example.shopping.domain.exception.BusinessException;
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.exception.RetryLaterException;
+import com.example.shopping.domain.repository.IdempotencyKeyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등 주문 생성 서비스
+ *
+ * <p>
+ * Idempotency-Key 헤더가 있는 주문 생성 요청을 한 번만 실행하고,
+ * 같은 키로 재시도된 요청에는 처음 생성된 주문 ID를 그대로 반환합니다.
+ *
+ * <p>
+ * 처리 과정:
+ * <ol>
+ * <li>메모리 저장소에서 키를 조회합니다. 처리가 끝난 키는 이 한 번의 조회로 응답합니다.</li>
+ * <li>같은 키가 처리 중이면 새로 실행하지 않고 처리 결과를 기다립니다.</li>
+ * <li>메모리에 없으면 DB 테이블을 조회합니다 (서버 재시작, 다른 서버에서 처리된 경우).</li>
+ * <li>어디에도 없으면 키를 먼저 저장한 뒤 같은 트랜잭션에서 주문을 생성합니다.</li>
+ * </ol>
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>주문 생성이 실패한 키는 기록하지 않으므로, 재시도하면 다시 실행됩니다.</li>
+ * <li>키는 ttl-millis 동안 유지되며 이후 메모리와 DB에서 정리됩니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+
+    /** 헤더 값 최대 길이 ("사용자 ID:" 접두사를 붙여도 컬럼 길이 100을 넘지 않도록 제한) */
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final OrderService orderService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.idempotency.ttl-millis:86400000}")
+    private long ttlMillis;
+
+    @Value("${order.idempotency.wait-timeout-millis:10000}")
+    private long waitTimeoutMillis;
+
+    @Value("${order.idempotency.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    /** 키별 처리 결과 (처리 중인 요청은 완료되지 않은 future) */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Idempotency-Key 기준으로 한 번만 주문을 생성합니다.
+     *
+     * @param userId         사용자 ID
+     * @param idempotencyKey Idempotency-Key 헤더 값
+     * @return 생성된(또는 이전에 생성된) 주문 ID
+     * @throws BusinessException 키 형식이 잘못되었거나 주문 생성에 실패한 경우
+     * @throws RetryLaterException 같은 키의 요청이 대기 시간 안에 끝나지 않은 경우 (409)
+     */
+    public Long createOrder(Long userId, String idempotencyKey) {
+        validateKey(idempotencyKey);
+        String storageKey = userId + ":" + idempotencyKey;
+        long now = System.currentTimeMillis();
+
+        Entry mine = new Entry(new CompletableFuture<>(), now + ttlMillis);
+        Entry existing = entries.compute(storageKey,
+                (key, current) -> current == null || current.isExpired(now) ? mine : current);
+        if (existing != mine) {
+            return await(existing.result);
+        }
+
+        try {
+            Long orderId = findRecordedOrderId(storageKey);
+            if (orderId == null) {
+                orderId = createOnce(userId, storageKey);
+            }
+            mine.result.complete(orderId);
+            return orderId;
+        } catch (RuntimeException e) {
+            // 실패한 요청은 기록하지 않음 (재시도 시 다시 실행)
+            entries.remove(storageKey, mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Idempotency-Key 헤더 값의 형식을 확인합니다.
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 값
+     * @throws BusinessException 비어 있거나 너무 긴 경우
+     */
+    public void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+    }
+
+    private Long findRecordedOrderId(String storageKey) {
+        return idempotencyKeyRepository.findById(storageKey)
+                .filter(key -> !key.isExpired(LocalDateTime.now()))
+                .map(IdempotencyKey::getOrderId)
+                .orElse(null);
+    }
+
+    private Long createOnce(Long userId, String storageKey) {
+        Long created = transactionTemplate.execute(status -> {
+            idempotencyKeyRepository.deleteExpired(storageKey, LocalDateTime.now());
+            // 키를 먼저 INSERT (Persistable.isNew → persist): 다른 서버의 같은 키 요청은
+            // 이 행의 잠금을 기다린 뒤 PK 충돌(DataIntegrityViolationException)로 실패
+            IdempotencyKey key;
+            try {
+                key = idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+                        .key(storageKey)
+                        .userId(userId)
+                        .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(ttlMillis)))
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                status.setRollbackOnly();
+                return null; // 다른 서버에서 같은 키로 먼저 처리됨
+            }
+            // 주문 생성의 제약 조건 위반 등은 그대로 전달 (키도 함께 롤백되므로 재시도 시 다시 실행)
+            Long orderId = orderService.createOrder(userId);
+            key.assignOrder(orderId);
+            return orderId;
+        });
+        if (created != null) {
+            return created;
+        }
+        Long orderId = findRecordedOrderId(storageKey);
+        if (orderId == null) {
+            throw new RetryLaterException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, 1);
+        }
+        return orderId;
+    }
+
+    private Long await(CompletableFuture<Long> result) {
+        try {
+            return result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        } catch (TimeoutException e) {
+            throw new RetryLaterException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RetryLaterException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, 1);
+        }
+    }
+
+    // 만료된 키 정리 (메모리 + DB 배치 삭제)
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-millis:600000}")
+    void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        LocalDateTime cutoff = LocalDateTime.now();
+        int deleted = 0;
+        List<String> keys;
+        do {
+            keys = idempotencyKeyRepository.findExpiredKeys(cutoff, PageRequest.of(0, purgeBatchSize));
+            if (!keys.isEmpty()) {
+                idempotencyKeyRepository.deleteAllByIdInBatch(keys);
+                deleted += keys.size();
+            }
+        } while (keys.size() == purgeBatchSize);
+
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 정리: {}건", deleted);
+        }
+    }
+
+    /** 키별 처리 결과와 만료 시각 */
+    private record Entry(CompletableFuture<Long> result, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return expiresAtMillis < now;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.shopping.domain.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.exception.BusinessException;
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.repository.StatisticsRepository;
+import com.example.shopping.domain.stats.ColumnarAggregator;
+import com.example.shopping.domain.stats.ColumnarQuery;
+import com.example.shopping.domain.stats.OrderItemColumns;
+import com.example.shopping.domain.stats.OrderItemFact;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 항목 분석 스냅샷 서비스
+ *
+ * <p>
+ * 취소되지 않은 주문 항목 전체를 메모리의 컬럼형 스냅샷(OrderItemColumns)으로 주기적으로 다시 만들고,
+ * 관리자의 임의 집계(카테고리별 주간 매출, 단가 구간 분포 등)를 스냅샷의 병렬 스캔으로 처리합니다.
+ * 새 집계가 필요할 때마다 QueryDSL 쿼리를 추가하거나 order_item 테이블을 전체 조회하지 않습니다.
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>결과는 마지막 스냅샷 시점 기준이며 refresh-interval-millis 만큼 늦을 수 있습니다.</li>
+ * <li>스냅샷은 page-size 건씩 나누어 읽고, 완성된 뒤에 한 번에 교체되므로 조회는 이전 스냅샷을 계속 사용합니다.</li>
+ * <li>주문 항목 한 건에 약 32바이트를 사용하므로, 주문 항목 수에 맞게 힙 크기를 잡거나 enabled=false로 끕니다.
+ * 꺼져 있으면 스냅샷을 만들지 않고 집계 요청은 STATS_SNAPSHOT_DISABLED(503)로 거절합니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderItemSnapshotService {
+
+    private final StatisticsRepository statisticsRepository;
+
+    @Value("${stats.columnar.enabled:true}")
+    private boolean enabled;
+
+    @Value("${stats.columnar.page-size:10000}")
+    private int pageSize;
+
+    private volatile OrderItemColumns snapshot;
+
+    @Scheduled(initialDelayString = "${stats.columnar.initial-delay-millis:60000}",
+            fixedDelayString = "${stats.columnar.refresh-interval-millis:600000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("주문 항목 스냅샷 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 주문 항목 스냅샷을 다시 만듭니다.
+     *
+     * @return 새 스냅샷
+     */
+    public synchronized OrderItemColumns refresh() {
+        long started = System.currentTimeMillis();
+        OrderItemColumns.Builder builder = OrderItemColumns.builder();
+        long cursor = 0L;
+        while (true) {
+            List<OrderItemFact> page = statisticsRepository.findOrderItemFacts(cursor, pageSize);
+            page.forEach(builder::add);
+            if (page.size() < pageSize) {
+                break;
+            }
+            cursor = page.get(page.size() - 1).orderItemId();
+        }
+        OrderItemColumns built = builder.build();
+        snapshot = built;
+        log.info("주문 항목 스냅샷 갱신: {}건, {}ms", built.size(), System.currentTimeMillis() - started);
+        return built;
+    }
+
+    /**
+     * 스냅샷에서 주문 항목을 조건에 맞게 집계합니다.
+     *
+     * @param groupBy        집계 기준 (CATEGORY, PRODUCT, DAY, WEEK, MONTH, PRICE_BAND 중 최대 2개)
+     * @param from           시작일 (포함, null이면 전체)
+     * @param to             종료일 (포함, null이면 전체)
+     * @param categoryId     카테고리 ID (null이면 전체)
+     * @param minPrice       최소 단가 (null이면 제한 없음)
+     * @param maxPrice       최대 단가 (null이면 제한 없음)
+     * @param priceBandWidth PRICE_BAND 구간 폭 (단위: 원)
+     * @return 판매 금액 내림차순 집계 결과
+     * @throws BusinessException stats.columnar.enabled=false인 경우 (STATS_SNAPSHOT_DISABLED)
+     */
+    public List<StatDto.ItemAggregate> aggregate(List<String> groupBy, LocalDate from, LocalDate to,
+            Long categoryId, Integer minPrice, Integer maxPrice, int priceBandWidth) {
+        List<ColumnarQuery.Dimension> dimensions = parseDimensions(groupBy);
+        if (priceBandWidth <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_STATS_DIMENSION);
+        }
+        OrderItemColumns columns = current();
+
+        int categoryCode = -1;
+        if (categoryId != null) {
+            categoryCode = columns.categoryCodeOf(categoryId);
+            if (categoryCode < 0) {
+                return List.of();
+            }
+        }
+        ColumnarQuery query = new ColumnarQuery(dimensions,
+                from == null ? Integer.MIN_VALUE : (int) from.toEpochDay(),
+                to == null ? Integer.MAX_VALUE : (int) to.toEpochDay(),
+                categoryCode,
+                minPrice == null ? Integer.MIN_VALUE : minPrice,
+                maxPrice == null ? Integer.MAX_VALUE : maxPrice,
+                priceBandWidth);
+
+        Map<Long, long[]> groups = ColumnarAggregator.aggregate(columns, query);
+        List<StatDto.ItemAggregate> result = new ArrayList<>(groups.size());
+        groups.forEach((key, sum) -> result.add(
+                new StatDto.ItemAggregate(query.labels(columns, key), sum[0], sum[1], sum[2])));
+        result.sort(Comparator.comparing(StatDto.ItemAggregate::getTotalSales).reversed());
+        return result;
+    }
+
+    // 스냅샷이 아직 없으면 (서버 시작 직후) 바로 만듦, 꺼져 있으면 주문 항목 전체를 읽지 않도록 거절
+    private OrderItemColumns current() {
+        if (!enabled) {
+            throw new BusinessException(ErrorCode.STATS_SNAPSHOT_DISABLED);
+        }
+        OrderItemColumns columns = snapshot;
+        return columns != null ? columns : refresh();
+    }
+
+    private List<ColumnarQuery.Dimension> parseDimensions(List<String> groupBy) {
+        if (groupBy == null) {
+            return List.of();
+        }
+        if (groupBy.size() > 2) {
+            throw new BusinessException(ErrorCode.INVALID_STATS_DIMENSION);
+        }
+        List<ColumnarQuery.Dimension> dimensions = new ArrayList<>(groupBy.size());
+        for (String value : groupBy) {
+            try {
+                dimensions.add(ColumnarQuery.Dimension.valueOf(value.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_STATS_DIMENSION);
+            }
+        }
+        return dimensions;
+    }
+}
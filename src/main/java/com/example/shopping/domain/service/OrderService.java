@@ -1,8 +1,10 @@
 package com.example.shopping.domain.service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,15 +14,24 @@ import com.example.shopping.domain.exception.BusinessException;
 import com.example.shopping.domain.exception.ErrorCode;
 import com.example.shopping.domain.entity.order.Cart;
 import com.example.shopping.domain.entity.order.CartItem;
+import com.example.shopping.domain.entity.order.OrderArchive;
 import com.example.shopping.domain.entity.order.OrderItem;
+import com.example.shopping.domain.entity.order.OrderItemArchive;
+import com.example.shopping.domain.entity.order.OrderOutboxEvent;
 import com.example.shopping.domain.entity.order.Orders;
 import com.example.shopping.domain.entity.product.Product;
+import com.example.shopping.domain.enums.OrderEventType;
+import com.example.shopping.domain.enums.OrderStatus;
+import com.example.shopping.domain.event.OrderSalesEvent;
 import com.example.shopping.domain.repository.CartItemRepository;
 import com.example.shopping.domain.repository.CartRepository;
+import com.example.shopping.domain.repository.OrderArchiveRepository;
+import com.example.shopping.domain.repository.OrderItemArchiveRepository;
 import com.example.shopping.domain.repository.OrderItemRepository;
+import com.example.shopping.domain.repository.OrderOutboxEventRepository;
 import com.example.shopping.domain.repository.OrdersRepository;
 import com.example.shopping.domain.repository.ProductRepository;
-import com.example.shopping.domain.repository.UserRepository;
+import com.example.shopping.global.security.UserRoleCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -54,6 +65,13 @@ import lombok.RequiredArgsConstructor;
  * <li>재고 부족 시 예외가 발생하여 전체 트랜잭션이 롤백됩니다.</li>
  * </ul>
  * 
+ * <p>
+ * 주문 이벤트:
+ * <ul>
+ * <li>주문 생성, 취소, 상태 변경 시 같은 트랜잭션에서 아웃박스(order_outbox)에 이벤트를 기록합니다.</li>
+ * <li>통계, 메일 등 후속 처리는 OrderEventSubscriber로 구현하여 주문 트랜잭션 밖에서 처리합니다.</li>
+ * </ul>
+ * 
  * @author shopping-server
  * @since 1.0
  */
@@ -76,7 +94,19 @@ public class OrderService {
     /** 주문 항목 Repository */
     private final OrderItemRepository orderItemRepository;
 
-    private final UserRepository userRepository;
+    /** 주문 아웃박스 Repository */
+    private final OrderOutboxEventRepository orderOutboxEventRepository;
+
+    /** 보관 주문 Repository (오래된 주문의 상세 조회용) */
+    private final OrderArchiveRepository orderArchiveRepository;
+
+    private final OrderItemArchiveRepository orderItemArchiveRepository;
+
+    /** 관리자 권한 확인용 권한 캐시 */
+    private final UserRoleCache userRoleCache;
+
+    /** 커밋 후 메모리 통계 갱신용 이벤트 발행 */
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 장바구니에 상품을 담습니다.
@@ -220,8 +250,8 @@ public class OrderService {
      */
     @Transactional
     public Long createOrder(Long userId) {
-        // 1. 장바구니 조회
-        Cart cart = cartRepository.findByUserId(userId)
+        // 1. 장바구니 조회 (행 잠금: 같은 장바구니의 동시 주문은 차례로 처리되어 두 번째는 빈 장바구니를 봄)
+        Cart cart = cartRepository.findByUserIdForUpdate(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CART_EMPTY));
 
         List<CartItem> cartItems = cartItemRepository.findAllByCart_CartId(cart.getCartId());
@@ -229,14 +259,23 @@ public class OrderService {
             throw new BusinessException(ErrorCode.NO_ITEMS_TO_ORDER);
         }
 
-        // 2. 주문 생성
+        // 2. 주문 생성 (총액, 항목 수, 대표 상품명을 함께 기록하여 조회 시 재계산을 피함)
+        int totalAmount = cartItems.stream()
+                .mapToInt(item -> item.getProduct().getPrice() * item.getQty())
+                .sum();
+
         Orders order = Orders.builder()
                 .userId(userId)
-                .status("complete")
+                .status(OrderStatus.COMPLETE)
+                .totalAmount(totalAmount)
+                .itemCount(cartItems.size())
+                .representativeProductName(
+                        Orders.representativeNameOf(cartItems.get(0).getProduct().getName(), cartItems.size()))
                 .build();
         ordersRepository.save(order);
 
         // 3. 주문 상품 생성 및 재고 차감 (핵심)
+        List<OrderSalesEvent.Line> lines = new ArrayList<>(cartItems.size());
         for (CartItem cartItem : cartItems) {
             Product product = cartItem.getProduct();
 
@@ -251,14 +290,40 @@ public class OrderService {
                     .priceAtOrder(product.getPrice())
                     .build();
             orderItemRepository.save(orderItem);
+            lines.add(OrderSalesEvent.Line.of(product, cartItem.getQty(), product.getPrice()));
         }
 
         // 4. 장바구니 비우기
         cartItemRepository.deleteAllByCart_CartId(cart.getCartId());
 
+        // 5. 주문 생성 이벤트 기록 (같은 트랜잭션)
+        int itemQty = cartItems.stream().mapToInt(CartItem::getQty).sum();
+        orderOutboxEventRepository.save(OrderOutboxEvent.of(OrderEventType.ORDER_CREATED, order, itemQty));
+        eventPublisher.publishEvent(
+                new OrderSalesEvent(OrderEventType.ORDER_CREATED, order.getOrderId(), order.getOrderedAt(), lines));
+
         return order.getOrderId();
     }
 
+    /**
+     * 주문 가능한 상태인지 빠르게 검증합니다.
+     * 
+     * <p>비동기 주문 접수 시 큐에 넣기 전에 호출하여, 처리할 수 없는 요청이
+     * 큐와 워커를 차지하지 않도록 합니다. 재고 등 최종 검증은 createOrder에서 수행됩니다.
+     * 
+     * @param userId 사용자 ID
+     * @throws BusinessException 장바구니가 없거나 비어있는 경우
+     */
+    @Transactional(readOnly = true)
+    public void validateCheckout(Long userId) {
+        Cart cart = cartRepository.findByUserId(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CART_EMPTY));
+
+        if (!cartItemRepository.existsByCart_CartId(cart.getCartId())) {
+            throw new BusinessException(ErrorCode.NO_ITEMS_TO_ORDER);
+        }
+    }
+
     @Transactional
     public void updateCartItemQty(Long userId, Long cartItemId, int qty) {
         CartItem cartItem = cartItemRepository.findById(cartItemId)
@@ -293,8 +358,8 @@ public class OrderService {
 
     @Transactional(readOnly = true)
     public List<OrderDto.OrderResponse> getOrderList(Long userId) {
-        // 1. 한방 쿼리로 데이터 가져오기 (N+1 문제 해결)
-        List<Orders> orders = ordersRepository.findByUserIdWithItems(userId);
+        // 1. 주문 테이블만 조회 (총액, 대표 상품명은 주문 생성 시 기록된 값을 사용)
+        List<Orders> orders = ordersRepository.findAllByUserIdOrderByOrderIdDesc(userId);
 
         // 2. 메모리에서 DTO 변환
         return orders.stream()
@@ -304,18 +369,19 @@ public class OrderService {
                     res.setStatus(order.getStatus());
                     res.setOrderedAt(order.getOrderedAt());
 
-                    // 주문 상품 리스트 (이미 fetchJoin으로 영속성 컨텍스트에 있음)
-                    List<OrderItem> items = order.getOrderItems(); // Entity에 @OneToMany 필드 필요 *아래 참고
-
-                    if (!items.isEmpty()) {
-                        // 대표 상품명 생성
-                        String name = items.get(0).getProduct().getName();
-                        if (items.size() > 1) {
-                            name += " 외 " + (items.size() - 1) + "건";
+                    if (order.hasSummary()) {
+                        res.setRepresentativeProductName(order.getRepresentativeProductName());
+                        res.setItemCount(order.getItemCount());
+                        res.setTotalAmount(order.getTotalAmount());
+                    } else {
+                        // 백필 전의 과거 주문은 주문 항목에서 계산
+                        List<OrderItem> items = order.getOrderItems();
+                        if (!items.isEmpty()) {
+                            res.setRepresentativeProductName(
+                                    Orders.representativeNameOf(items.get(0).getProduct().getName(), items.size()));
+                            res.setItemCount(items.size());
+                            res.setTotalAmount(sumAmount(items));
                         }
-                        res.setRepresentativeProductName(name);
-                        // 총 금액 계산
-                        res.setTotalAmount(items.stream().mapToInt(i -> i.getPriceAtOrder() * i.getQty()).sum());
                     }
                     return res;
                 })
@@ -325,9 +391,11 @@ public class OrderService {
     // 주문 상세 조회 (QueryDSL 적용 버전)
     @Transactional(readOnly = true)
     public OrderDto.OrderDetailResponse getOrderDetail(Long userId, Long orderId) {
-        // 1. 한방 쿼리로 상세 정보 가져오기
-        Orders order = ordersRepository.findOrderDetail(orderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        // 1. 한방 쿼리로 상세 정보 가져오기 (없으면 보관된 주문에서 조회)
+        Orders order = ordersRepository.findOrderDetail(orderId).orElse(null);
+        if (order == null) {
+            return getArchivedOrderDetail(userId, orderId);
+        }
 
         if (!order.getUserId().equals(userId)) {
             throw new BusinessException(ErrorCode.NOT_HAVE_PERMISSION);
@@ -340,7 +408,7 @@ public class OrderService {
 
         // Entity -> DTO 변환
         List<OrderItem> items = order.getOrderItems();
-        res.setTotalAmount(items.stream().mapToInt(i -> i.getPriceAtOrder() * i.getQty()).sum());
+        res.setTotalAmount(order.hasSummary() ? order.getTotalAmount() : sumAmount(items));
 
         res.setOrderItems(items.stream().map(item -> {
             OrderDto.CartItemResponse itemRes = new OrderDto.CartItemResponse();
@@ -354,6 +422,36 @@ public class OrderService {
         return res;
     }
 
+    // 보관된 주문 상세 조회 (보관 시점의 상품명 사용)
+    private OrderDto.OrderDetailResponse getArchivedOrderDetail(Long userId, Long orderId) {
+        OrderArchive order = orderArchiveRepository.findById(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+
+        if (!order.getUserId().equals(userId)) {
+            throw new BusinessException(ErrorCode.NOT_HAVE_PERMISSION);
+        }
+
+        List<OrderItemArchive> items = orderItemArchiveRepository.findAllByOrderIdOrderByOrderItemIdAsc(orderId);
+
+        OrderDto.OrderDetailResponse res = new OrderDto.OrderDetailResponse();
+        res.setOrderId(order.getOrderId());
+        res.setStatus(order.getStatus());
+        res.setOrderedAt(order.getOrderedAt());
+        res.setTotalAmount(order.getTotalAmount() != null ? order.getTotalAmount()
+                : items.stream().mapToInt(i -> i.getPriceAtOrder() * i.getQty()).sum());
+
+        res.setOrderItems(items.stream().map(item -> {
+            OrderDto.CartItemResponse itemRes = new OrderDto.CartItemResponse();
+            itemRes.setProductId(item.getProductId());
+            itemRes.setProductName(item.getProductName());
+            itemRes.setPrice(item.getPriceAtOrder());
+            itemRes.setQty(item.getQty());
+            return itemRes;
+        }).collect(Collectors.toList()));
+
+        return res;
+    }
+
     // 주문 취소
     @Transactional
     public void cancelOrder(Long userId, Long orderId) {
@@ -361,19 +459,11 @@ public class OrderService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
         if (!order.getUserId().equals(userId))
             throw new BusinessException(ErrorCode.NOT_HAVE_PERMISSION);
-        if ("cancel".equals(order.getStatus()))
-            throw new BusinessException(ErrorCode.ORDER_ALREADY_CANCELLED);
 
-        order.cancel(); // 상태 변경
-
-        // 재고 복구
-        // (FetchJoin이 안 된 상태라면 LazyLoading 발생. 성능 중요시 findOrderDetail 사용 권장)
-        List<OrderItem> items = orderItemRepository.findAll(); // *최적화 필요: findAllByOrder_OrderId(orderId)
-        for (OrderItem item : items) {
-            if (item.getOrder().getOrderId().equals(orderId)) {
-                item.getProduct().addStock(item.getQty());
-            }
-        }
+        // 상태 변경 (이미 취소되었거나 배송이 시작된 주문은 예외 발생)
+        // 총액 등 요약 정보는 주문 당시 값을 유지하고, 통계에서는 상태로 제외
+        order.cancel();
+        publishCancelled(order, restoreStock(orderId));
     }
 
 
@@ -392,8 +482,8 @@ public class OrderService {
     // 주문 상태 및 배송 정보 변경 (관리자)
     @Transactional
     public void updateOrderStatus(Long userId, Long orderId, OrderDto.UpdateStatus request) {
-        // 1. 관리자 권한 체크 (QueryDSL)
-        if (!userRepository.isAdmin(userId)) {
+        // 1. 관리자 권한 체크 (권한 캐시)
+        if (!userRoleCache.isAdmin(userId)) {
             throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
         }
 
@@ -401,7 +491,43 @@ public class OrderService {
         Orders order = ordersRepository.findById(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
 
-        order.updateDeliveryInfo(request.getStatus(), request.getCarrier(), request.getTrackingNumber());
+        OrderStatus status;
+        try {
+            status = OrderStatus.fromLabel(request.getStatus());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_ORDER_STATUS);
+        }
+
+        OrderStatus before = order.getStatus();
+        order.updateDeliveryInfo(status, request.getCarrier(), request.getTrackingNumber());
+        if (before != OrderStatus.CANCEL && status == OrderStatus.CANCEL) {
+            // 관리자 취소도 사용자 취소와 같이 재고 복구 및 취소 이벤트 기록
+            publishCancelled(order, restoreStock(orderId));
+            return;
+        }
+
+        orderOutboxEventRepository.save(OrderOutboxEvent.of(OrderEventType.ORDER_STATUS_CHANGED, order));
+    }
+
+    // 재고 복구 (해당 주문의 항목만 조회), 복구한 주문 항목 반환
+    private List<OrderItem> restoreStock(Long orderId) {
+        List<OrderItem> items = orderItemRepository.findAllByOrder_OrderId(orderId);
+        for (OrderItem item : items) {
+            item.getProduct().addStock(item.getQty());
+        }
+        return items;
+    }
+
+    // 취소 이벤트 기록 (아웃박스 + 커밋 후 메모리 통계)
+    private void publishCancelled(Orders order, List<OrderItem> items) {
+        int itemQty = items.stream().mapToInt(OrderItem::getQty).sum();
+        orderOutboxEventRepository.save(OrderOutboxEvent.of(OrderEventType.ORDER_CANCELLED, order, itemQty));
+        eventPublisher.publishEvent(new OrderSalesEvent(OrderEventType.ORDER_CANCELLED, order.getOrderId(),
+                order.getOrderedAt(), items.stream().map(OrderSalesEvent.Line::of).toList()));
+    }
+
+    private int sumAmount(List<OrderItem> items) {
+        return items.stream().mapToInt(i -> i.getPriceAtOrder() * i.getQty()).sum();
     }
 
     private void validateCartOwner(Long userId, CartItem cartItem) {
@@ -425,6 +551,7 @@ public class OrderService {
      * 성능 최적화:
      * <ul>
      * <li>QueryDSL의 DTO Projection을 사용하여 필요한 필드만 조회합니다.</li>
+     * <li>대표 상품명과 총액은 주문 생성 시 기록된 값을 사용하므로 주문 항목을 조인하지 않습니다.</li>
      * <li>@Transactional(readOnly = true)를 사용하여 읽기 전용 트랜잭션으로 설정합니다.</li>
      * </ul>
      * 
@@ -434,22 +561,9 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public List<AdminDto.AdminOrderResponse> getAllOrders(Long adminId) {
-        if (!userRepository.isAdmin(adminId)) throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
+        if (!userRoleCache.isAdmin(adminId)) throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
 
-        List<Orders> orders = ordersRepository.findAll(); // findAllOrdersForAdmin 대신 N+1 해결된 fetchJoin 사용 권장
-        // 혹은 findAllByUserIdWithItems 로직을 전체 조회용으로 변형하여 사용
-        
-        // 간소하게 JPA findAll 사용 후 변환
-        return orders.stream()
-            .sorted((a, b) -> b.getOrderId().compareTo(a.getOrderId()))
-            .map(order -> {
-                AdminDto.AdminOrderResponse res = new AdminDto.AdminOrderResponse();
-                res.setOrderId(order.getOrderId());
-                res.setUserId(order.getUserId());
-                res.setStatus(order.getStatus());
-                res.setOrderedAt(order.getOrderedAt());
-                // ... 이름 및 금액 계산 로직 (Step 14와 동일)
-                return res;
-            }).collect(Collectors.toList());
+        // 주문자명, 대표 상품명, 총액을 DTO Projection으로 한 번에 조회
+        return ordersRepository.findAllOrdersForAdmin();
     }
 }
\ No newline at end of file
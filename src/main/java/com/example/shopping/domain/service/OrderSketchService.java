@@ -0,0 +1,150 @@
+package com.example.shopping.domain.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.entity.stats.DailyOrderSketch;
+import com.example.shopping.domain.enums.OrderEventType;
+import com.example.shopping.domain.event.OrderEvent;
+import com.example.shopping.domain.event.OrderEventSubscriber;
+import com.example.shopping.domain.repository.DailyOrderSketchRepository;
+import com.example.shopping.domain.stats.HyperLogLog;
+import com.example.shopping.domain.stats.TDigest;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 근사 통계 서비스
+ *
+ * <p>
+ * 주문 생성 이벤트를 구독하여 날짜별 구매자 HyperLogLog와 주문 금액 t-digest를 갱신하고,
+ * 기간의 스케치를 합쳐 고유 구매자 수와 주문 금액 분위수(p50, p90, p99)를 제공합니다.
+ * COUNT(DISTINCT user_id)나 분위수 쿼리로 주문 테이블을 조회하지 않습니다.
+ *
+ * <p>
+ * 갱신:
+ * <ul>
+ * <li>한 배치의 이벤트를 날짜별로 나누어 날짜마다 스케치를 한 번 읽고 한 번 저장합니다.</li>
+ * <li>오프셋 갱신과 같은 트랜잭션에서 실행되며, 오프셋 행 잠금으로 한 번에 한 서버만 갱신합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>구매자 수는 약 0.8%(precision 14), 분위수는 compression에 따른 근사값입니다.</li>
+ * <li>취소된 주문은 빼지 않으므로 주문 시점 기준의 값입니다.</li>
+ * <li>hll-precision을 바꾸면 새로 만드는 날짜의 스케치부터 적용되고, 기존 날짜는 저장된 precision을 유지합니다.
+ * 기간 조회 시 precision이 섞여 있으면 가장 낮은 precision으로 변환하여 합칩니다.</li>
+ * <li>배포 전 주문은 아웃박스에 남아 있는 이벤트까지만 반영됩니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderSketchService implements OrderEventSubscriber {
+
+    /** 아웃박스 구독자 이름 (오프셋 저장 키) */
+    public static final String SUBSCRIBER_NAME = "order-sketch";
+
+    private final DailyOrderSketchRepository dailyOrderSketchRepository;
+
+    @Value("${stats.sketch.hll-precision:14}")
+    private int hllPrecision;
+
+    @Value("${stats.sketch.digest-compression:100}")
+    private double digestCompression;
+
+    @Override
+    public String name() {
+        return SUBSCRIBER_NAME;
+    }
+
+    @Override
+    public void onEvents(List<OrderEvent> events) {
+        Map<LocalDate, List<OrderEvent>> byDate = new TreeMap<>();
+        for (OrderEvent event : events) {
+            if (event.getEventType() == OrderEventType.ORDER_CREATED && event.getOrderedAt() != null) {
+                byDate.computeIfAbsent(event.getOrderedAt().toLocalDate(), d -> new ArrayList<>()).add(event);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        byDate.forEach((date, dayEvents) -> {
+            DailyOrderSketch row = dailyOrderSketchRepository.findById(date).orElse(null);
+            HyperLogLog buyers = row == null ? new HyperLogLog(hllPrecision) : HyperLogLog.fromBytes(row.getBuyersHll());
+            TDigest orderValues = row == null ? new TDigest(digestCompression) : TDigest.fromBytes(row.getOrderValueDigest());
+            for (OrderEvent event : dayEvents) {
+                buyers.add(event.getUserId());
+                if (event.getTotalAmount() != null) {
+                    orderValues.add(event.getTotalAmount());
+                }
+            }
+
+            if (row == null) {
+                dailyOrderSketchRepository.save(DailyOrderSketch.builder()
+                        .salesDate(date)
+                        .buyersHll(buyers.toBytes())
+                        .orderValueDigest(orderValues.toBytes())
+                        .updatedAt(now)
+                        .build());
+            } else {
+                row.update(buyers.toBytes(), orderValues.toBytes(), now);
+            }
+        });
+    }
+
+    /**
+     * 기간의 일별 값과 기간 전체 값을 스케치로 계산합니다.
+     *
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     * @return 기간 전체 값과 날짜 오름차순 일별 값
+     */
+    public StatDto.OrderSketchReport getReport(LocalDate from, LocalDate to) {
+        List<DailyOrderSketch> rows = dailyOrderSketchRepository.findAllBySalesDateBetweenOrderBySalesDateAsc(from, to);
+        List<HyperLogLog> buyersByDay = rows.stream()
+                .map(row -> HyperLogLog.fromBytes(row.getBuyersHll()))
+                .toList();
+        // hll-precision 변경 전후의 스케치가 섞여 있으면 가장 낮은 precision으로 합침
+        int precision = buyersByDay.stream()
+                .mapToInt(HyperLogLog::getPrecision)
+                .min()
+                .orElse(hllPrecision);
+
+        HyperLogLog totalBuyers = new HyperLogLog(precision);
+        TDigest totalValues = new TDigest(digestCompression);
+        List<StatDto.OrderSketchStats> days = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            HyperLogLog buyers = buyersByDay.get(i);
+            TDigest orderValues = TDigest.fromBytes(rows.get(i).getOrderValueDigest());
+            days.add(toStats(rows.get(i).getSalesDate().toString(), buyers, orderValues));
+            totalBuyers.merge(buyers);
+            totalValues.merge(orderValues);
+        }
+        return new StatDto.OrderSketchReport(toStats(from + "~" + to, totalBuyers, totalValues), days);
+    }
+
+    private StatDto.OrderSketchStats toStats(String period, HyperLogLog buyers, TDigest orderValues) {
+        return new StatDto.OrderSketchStats(period,
+                buyers.estimate(),
+                orderValues.size(),
+                quantile(orderValues, 0.5),
+                quantile(orderValues, 0.9),
+                quantile(orderValues, 0.99));
+    }
+
+    private Long quantile(TDigest digest, double q) {
+        double value = digest.quantile(q);
+        return Double.isNaN(value) ? null : Math.round(value);
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.shopping.domain.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.entity.order.OutboxOffset;
+import com.example.shopping.domain.entity.stats.DailyCategorySalesRollup;
+import com.example.shopping.domain.entity.stats.DailySalesRollup;
+import com.example.shopping.domain.entity.stats.SalesRollupAppliedEvent;
+import com.example.shopping.domain.event.OrderEvent;
+import com.example.shopping.domain.event.OrderEventSubscriber;
+import com.example.shopping.domain.repository.DailyCategorySalesRollupRepository;
+import com.example.shopping.domain.repository.DailySalesRollupRepository;
+import com.example.shopping.domain.repository.HourlySalesRollupRepository;
+import com.example.shopping.domain.repository.OrderOutboxEventRepository;
+import com.example.shopping.domain.repository.OutboxOffsetRepository;
+import com.example.shopping.domain.repository.SalesRollupAppliedEventRepository;
+import com.example.shopping.domain.repository.StatisticsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매출 집계 서비스
+ *
+ * <p>
+ * 주문 이벤트를 구독하여 시간별(hourly_sales), 일별(daily_sales), 일별 카테고리별(daily_category_sales)
+ * 매출 집계 테이블에 증감분을 반영하고,
+ * 주문 테이블에서 기간 단위로 다시 계산하는 복구 기능을 제공합니다.
+ * 주, 월 단위 통계는 별도 테이블 없이 일별 집계를 합쳐서 만듭니다 (StatisticsService.getSales).
+ *
+ * <p>
+ * 증감분 반영:
+ * <ul>
+ * <li>ORDER_CREATED: 매출액, 주문 건수, 판매 수량을 더합니다.</li>
+ * <li>ORDER_CANCELLED: 주문 시각의 값에서 같은 값을 뺍니다.</li>
+ * <li>한 배치의 이벤트를 시간/날짜별로 합친 뒤 행마다 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 더합니다.</li>
+ * <li>카테고리별 증감분은 배치에 포함된 주문의 주문 항목을 한 번의 쿼리로 조회하여 계산합니다.</li>
+ * <li>오프셋 갱신과 같은 트랜잭션에서 실행되므로 집계 값과 오프셋이 함께 커밋되고, 커밋된 이벤트는 다시 전달되지 않습니다.</li>
+ * <li>복구 작업이 재계산에 이미 포함한 이벤트(sales_rollup_applied_event)는 건너뜁니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 복구:
+ * <ul>
+ * <li>이 구독자의 오프셋 행을 잠근 상태에서 기간의 행을 지우고 다시 계산합니다.</li>
+ * <li>오프셋은 옮기지 않고, 재계산과 같은 스냅샷에서 보인 미전달 이벤트의 ID를 기록하여 전달될 때 건너뛰게 합니다.
+ * 재계산 시점에 커밋되지 않았던 주문의 이벤트는 기록되지 않으므로 나중에 전달되어 정상적으로 더해집니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService implements OrderEventSubscriber {
+
+    /** 아웃박스 구독자 이름 (오프셋 저장 키, 기존 오프셋을 이어받도록 유지) */
+    public static final String SUBSCRIBER_NAME = "daily-sales-rollup";
+
+    /** 재계산에 포함된 이벤트를 기록할 때 한 번에 조회하는 ID 수 (IN 절 크기) */
+    private static final int MARK_CHUNK_SIZE = 1000;
+
+    private final DailySalesRollupRepository dailySalesRollupRepository;
+    private final DailyCategorySalesRollupRepository dailyCategorySalesRollupRepository;
+    private final HourlySalesRollupRepository hourlySalesRollupRepository;
+    private final StatisticsRepository statisticsRepository;
+    private final OrderOutboxEventRepository orderOutboxEventRepository;
+    private final OutboxOffsetRepository outboxOffsetRepository;
+    private final SalesRollupAppliedEventRepository salesRollupAppliedEventRepository;
+
+    @Override
+    public String name() {
+        return SUBSCRIBER_NAME;
+    }
+
+    @Override
+    public void onEvents(List<OrderEvent> events) {
+        events = skipRebuilt(events);
+
+        // 시간별 증감분 합산 (매출액, 주문 건수, 판매 수량), 일별 증감분은 시간별 값을 다시 합산
+        Map<LocalDateTime, long[]> hourly = new TreeMap<>();
+        for (OrderEvent event : events) {
+            int sign = switch (event.getEventType()) {
+                case ORDER_CREATED -> 1;
+                case ORDER_CANCELLED -> -1;
+                default -> 0;
+            };
+            if (sign == 0 || event.getOrderedAt() == null) {
+                continue;
+            }
+            long[] delta = hourly.computeIfAbsent(event.getOrderedAt().truncatedTo(ChronoUnit.HOURS), h -> new long[3]);
+            delta[0] += sign * (long) valueOf(event.getTotalAmount());
+            delta[1] += sign;
+            delta[2] += sign * (long) valueOf(event.getItemQty());
+        }
+
+        Map<LocalDate, long[]> daily = new TreeMap<>();
+        hourly.forEach((hour, delta) -> {
+            long[] day = daily.computeIfAbsent(hour.toLocalDate(), d -> new long[3]);
+            for (int i = 0; i < 3; i++) {
+                day[i] += delta[i];
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        hourly.forEach((hour, delta) ->
+                hourlySalesRollupRepository.upsertDelta(hour, delta[0], delta[1], delta[2], now));
+        daily.forEach((date, delta) ->
+                dailySalesRollupRepository.upsertDelta(date, delta[0], delta[1], delta[2], now));
+
+        applyCategoryDeltas(events, now);
+    }
+
+    // 복구 작업의 재계산에 이미 포함된 이벤트를 제외 (이 배치보다 앞선 기록은 다시 필요 없으므로 삭제)
+    private List<OrderEvent> skipRebuilt(List<OrderEvent> events) {
+        if (events.isEmpty()) {
+            return events;
+        }
+        List<Long> eventIds = events.stream().map(OrderEvent::getEventId).toList();
+        salesRollupAppliedEventRepository.deleteBefore(Collections.min(eventIds));
+        Set<Long> rebuilt = new HashSet<>(salesRollupAppliedEventRepository.findAppliedIds(eventIds));
+        if (rebuilt.isEmpty()) {
+            return events;
+        }
+        return events.stream()
+                .filter(event -> !rebuilt.contains(event.getEventId()))
+                .toList();
+    }
+
+    // 카테고리별 증감분: 배치의 주문 항목을 한 번에 조회하여 (주문일, 카테고리)별로 합산
+    private void applyCategoryDeltas(List<OrderEvent> events, LocalDateTime now) {
+        // 같은 배치에서 생성 후 취소된 주문은 합이 0이므로 제외
+        Map<Long, Integer> signByOrder = new HashMap<>();
+        Map<Long, LocalDate> dateByOrder = new HashMap<>();
+        for (OrderEvent event : events) {
+            int sign = switch (event.getEventType()) {
+                case ORDER_CREATED -> 1;
+                case ORDER_CANCELLED -> -1;
+                default -> 0;
+            };
+            if (sign == 0 || event.getOrderedAt() == null) {
+                continue;
+            }
+            signByOrder.merge(event.getOrderId(), sign, Integer::sum);
+            dateByOrder.put(event.getOrderId(), event.getOrderedAt().toLocalDate());
+        }
+        signByOrder.values().removeIf(sign -> sign == 0);
+        if (signByOrder.isEmpty()) {
+            return;
+        }
+
+        Map<DailyCategorySalesRollup.Key, long[]> deltas = new LinkedHashMap<>();
+        Map<DailyCategorySalesRollup.Key, String> names = new HashMap<>();
+        for (StatDto.OrderCategorySales row : statisticsRepository.findCategorySalesByOrderIds(signByOrder.keySet())) {
+            int sign = signByOrder.get(row.getOrderId());
+            DailyCategorySalesRollup.Key key = new DailyCategorySalesRollup.Key(
+                    dateByOrder.get(row.getOrderId()), row.getCategoryId());
+            long[] delta = deltas.computeIfAbsent(key, k -> new long[2]);
+            delta[0] += sign * row.getTotalQty();
+            delta[1] += sign * row.getTotalSales();
+            names.put(key, row.getCategoryName());
+        }
+
+        deltas.forEach((key, delta) -> dailyCategorySalesRollupRepository.upsertDelta(key.getSalesDate(),
+                key.getCategoryId(), names.get(key), delta[0], delta[1], now));
+    }
+
+    /**
+     * startDate부터 오늘까지의 시간별, 일별, 일별 카테고리별 매출을 주문 테이블에서 다시 계산합니다.
+     *
+     * <p>미전달 이벤트 ID와 주문 집계를 같은 스냅샷에서 읽어야 하므로 REPEATABLE READ로 실행하고,
+     * 잠금 없는 조회인 이벤트 ID 조회를 집계보다 먼저 실행하여 스냅샷을 고정합니다.
+     *
+     * @param startDate 다시 계산할 시작일
+     * @return 다시 계산된 날짜 수
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int rebuild(LocalDate startDate) {
+        // 증감분 반영과 동시에 실행되지 않도록 오프셋 행 잠금
+        OutboxOffset offset = outboxOffsetRepository.findForUpdate(SUBSCRIBER_NAME)
+                .orElseGet(() -> outboxOffsetRepository.saveAndFlush(OutboxOffset.builder()
+                        .consumerName(SUBSCRIBER_NAME)
+                        .lastEventId(0L)
+                        .updatedAt(LocalDateTime.now())
+                        .build()));
+        // 아직 전달되지 않았지만 이미 커밋되어 재계산에 포함될 이벤트 (주문일이 재계산 기간인 것만)
+        List<Long> includedEventIds = orderOutboxEventRepository.findEventIdsAfter(offset.getLastEventId(),
+                startDate.atStartOfDay());
+        LocalDate endDate = LocalDate.now();
+
+        hourlySalesRollupRepository.deleteFrom(startDate.atStartOfDay());
+        hourlySalesRollupRepository.saveAll(statisticsRepository.aggregateHourlySales(startDate, endDate));
+
+        dailySalesRollupRepository.deleteFrom(startDate);
+        List<DailySalesRollup> rows = statisticsRepository.aggregateDailySales(startDate, endDate);
+        dailySalesRollupRepository.saveAll(rows);
+
+        LocalDateTime now = LocalDateTime.now();
+        dailyCategorySalesRollupRepository.deleteFrom(startDate);
+        dailyCategorySalesRollupRepository.saveAll(statisticsRepository.findDailyCategorySales(startDate, endDate).stream()
+                .map(row -> DailyCategorySalesRollup.builder()
+                        .salesDate(row.getSalesDate())
+                        .categoryId(row.getCategoryId())
+                        .categoryName(row.getCategoryName())
+                        .totalQty(row.getTotalQty())
+                        .totalSales(row.getTotalSales())
+                        .updatedAt(now)
+                        .build())
+                .toList());
+
+        markApplied(includedEventIds, now);
+        return rows.size();
+    }
+
+    // 재계산에 포함된 이벤트 기록 (이전 복구에서 이미 기록된 이벤트는 제외)
+    private void markApplied(List<Long> eventIds, LocalDateTime now) {
+        for (int from = 0; from < eventIds.size(); from += MARK_CHUNK_SIZE) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + MARK_CHUNK_SIZE, eventIds.size()));
+            Set<Long> recorded = new HashSet<>(salesRollupAppliedEventRepository.findAppliedIds(chunk));
+            salesRollupAppliedEventRepository.saveAll(chunk.stream()
+                    .filter(eventId -> !recorded.contains(eventId))
+                    .map(eventId -> SalesRollupAppliedEvent.builder()
+                            .eventId(eventId)
+                            .appliedAt(now)
+                            .build())
+                    .toList());
+        }
+    }
+
+    private int valueOf(Integer value) {
+        return value == null ? 0 : value;
+    }
+}
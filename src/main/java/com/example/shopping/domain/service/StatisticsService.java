@@ -1,16 +1,32 @@
 package com.example.shopping.domain.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.entity.stats.DailyCategorySalesRollup;
+import com.example.shopping.domain.entity.stats.DailySalesRollup;
+import com.example.shopping.domain.entity.stats.HourlySalesRollup;
+import com.example.shopping.domain.enums.StatsGranularity;
 import com.example.shopping.domain.exception.BusinessException;
 import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.repository.DailyCategorySalesRollupRepository;
+import com.example.shopping.domain.repository.DailySalesRollupRepository;
+import com.example.shopping.domain.repository.HourlySalesRollupRepository;
 import com.example.shopping.domain.repository.StatisticsRepository;
-import com.example.shopping.domain.repository.UserRepository;
+import com.example.shopping.global.security.UserRoleCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,28 +35,195 @@ import lombok.RequiredArgsConstructor;
 public class StatisticsService {
 
     private final StatisticsRepository statisticsRepository;
-    private final UserRepository userRepository; // 권한 체크용
+    private final DailySalesRollupRepository dailySalesRollupRepository;
+    private final HourlySalesRollupRepository hourlySalesRollupRepository;
+    private final DailyCategorySalesRollupRepository dailyCategorySalesRollupRepository;
+    private final LiveSalesCounterService liveSalesCounterService;
+    private final OrderItemSnapshotService orderItemSnapshotService;
+    private final OrderSketchService orderSketchService;
+    private final UserRoleCache userRoleCache; // 권한 체크용 (조회 쿼리 없이 캐시)
+
+    @Value("${stats.sales.max-hourly-days:31}")
+    private long maxHourlyDays;
+
+    @Value("${stats.sales.max-days:3660}")
+    private long maxDays;
+
+    @Value("${stats.sales.max-dashboard-days:366}")
+    private long maxDashboardDays;
 
     // 관리자 권한 체크 후 통계 반환
     @Transactional(readOnly = true)
     public List<StatDto.DailySales> getDailySales(Long userId) {
         checkAdmin(userId);
         
-        // 최근 30일간의 통계
+        // 최근 30일간의 통계 (주문 테이블을 집계하지 않고 일별 집계 테이블만 조회)
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(30);
         
-        return statisticsRepository.findDailySales(startDate, endDate);
+        return dailySalesRollupRepository.findAllBySalesDateBetweenOrderBySalesDateAsc(startDate, endDate).stream()
+                .map(row -> new StatDto.DailySales(row.getSalesDate().toString(),
+                        row.getTotalSales(), row.getOrderCount(), row.getItemQty()))
+                .collect(Collectors.toList());
     }
 
+    /**
+     * 기간별 매출 통계를 조회합니다.
+     *
+     * <p>HOUR는 시간별 집계(hourly_sales), DAY/WEEK/MONTH는 일별 집계(daily_sales) 행을 구간별로 합칩니다.
+     * 주문 테이블을 다시 집계하지 않으므로 비용은 읽는 집계 행 수(기간의 시간 수 또는 일 수)에만 비례합니다.
+     * 매출이 없는 구간도 0으로 채워 반환합니다.
+     *
+     * @param userId      요청한 관리자 ID
+     * @param from        시작일 (포함)
+     * @param to          종료일 (포함)
+     * @param granularity 집계 단위 (HOUR, DAY, WEEK, MONTH)
+     * @return 구간 시작 오름차순 매출 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StatDto.SalesBucket> getSales(Long userId, LocalDate from, LocalDate to, String granularity) {
+        checkAdmin(userId);
+        StatsGranularity unit = StatsGranularity.from(granularity);
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > (unit == StatsGranularity.HOUR ? maxHourlyDays : maxDays)) {
+            throw new BusinessException(ErrorCode.INVALID_STATS_RANGE);
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // 구간 시작 → {매출액, 주문 건수, 판매 수량}, 빈 구간은 0으로 미리 채움
+        Map<LocalDateTime, long[]> buckets = new TreeMap<>();
+        for (LocalDateTime bucket = unit.bucketStart(start); bucket.isBefore(end); bucket = unit.next(bucket)) {
+            buckets.put(bucket, new long[3]);
+        }
+
+        if (unit == StatsGranularity.HOUR) {
+            for (HourlySalesRollup row : hourlySalesRollupRepository
+                    .findAllBySalesHourGreaterThanEqualAndSalesHourLessThanOrderBySalesHourAsc(start, end)) {
+                merge(buckets.get(unit.bucketStart(row.getSalesHour())),
+                        row.getTotalSales(), row.getOrderCount(), row.getItemQty());
+            }
+        } else {
+            for (DailySalesRollup row : dailySalesRollupRepository.findAllBySalesDateBetweenOrderBySalesDateAsc(from, to)) {
+                merge(buckets.get(unit.bucketStart(row.getSalesDate().atStartOfDay())),
+                        row.getTotalSales(), row.getOrderCount(), row.getItemQty());
+            }
+        }
+
+        List<StatDto.SalesBucket> result = new ArrayList<>(buckets.size());
+        buckets.forEach((bucket, sum) -> result.add(new StatDto.SalesBucket(
+                unit == StatsGranularity.HOUR ? bucket.toString() : bucket.toLocalDate().toString(),
+                sum[0], sum[1], sum[2])));
+        return result;
+    }
+
+    // 실시간 매출 (DB 집계 없이 메모리 카운터만 조회)
+    public List<StatDto.LiveSales> getLiveSales(Long userId, int days) {
+        checkAdmin(userId);
+        return liveSalesCounterService.getLiveSales(days);
+    }
+
+    /**
+     * 전체 기간의 카테고리별 판매 통계를 조회합니다.
+     *
+     * <p>기간별 조회와 같이 일별 카테고리별 집계(daily_category_sales)를 합치므로
+     * 주문 항목 수와 관계없고, 보관(archive)된 주문도 그대로 포함됩니다.
+     *
+     * @param userId 요청한 관리자 ID
+     * @return 판매 수량 내림차순 카테고리별 판매 통계
+     */
     @Transactional(readOnly = true)
     public List<StatDto.CategorySales> getCategorySales(Long userId) {
         checkAdmin(userId);
-        return statisticsRepository.findCategorySales();
+        LocalDate from = dailyCategorySalesRollupRepository.findMinSalesDate();
+        if (from == null) {
+            return new ArrayList<>();
+        }
+        return sumCategorySales(from, LocalDate.now());
+    }
+
+    /**
+     * 기간별 카테고리 판매 통계를 조회합니다.
+     *
+     * <p>일별 카테고리별 집계(daily_category_sales)의 기간 행을 카테고리별로 합치므로
+     * 비용은 주문 항목 수가 아닌 (일 수 × 카테고리 수)에 비례합니다.
+     *
+     * @param userId 요청한 관리자 ID
+     * @param from   시작일 (포함)
+     * @param to     종료일 (포함)
+     * @return 판매 수량 내림차순 카테고리별 판매 통계
+     */
+    @Transactional(readOnly = true)
+    public List<StatDto.CategorySales> getCategorySales(Long userId, LocalDate from, LocalDate to) {
+        checkAdmin(userId);
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > maxDays) {
+            throw new BusinessException(ErrorCode.INVALID_STATS_RANGE);
+        }
+        return sumCategorySales(from, to);
+    }
+
+    // 기간의 일별 카테고리 집계 행을 카테고리별로 합침
+    private List<StatDto.CategorySales> sumCategorySales(LocalDate from, LocalDate to) {
+        // 카테고리 ID → {판매 수량, 판매 금액}, 이름은 가장 최근 날짜의 값 사용
+        Map<Long, long[]> sums = new HashMap<>();
+        Map<Long, String> names = new HashMap<>();
+        for (DailyCategorySalesRollup row : dailyCategorySalesRollupRepository.findAllBySalesDateBetween(from, to)) {
+            long[] sum = sums.computeIfAbsent(row.getCategoryId(), id -> new long[2]);
+            sum[0] += row.getTotalQty();
+            sum[1] += row.getTotalSales();
+            names.merge(row.getCategoryId(), row.getCategoryName(), (previous, current) -> current);
+        }
+
+        List<StatDto.CategorySales> result = new ArrayList<>(sums.size());
+        sums.forEach((categoryId, sum) -> {
+            if (sum[0] != 0 || sum[1] != 0) {
+                result.add(new StatDto.CategorySales(names.get(categoryId), sum[0], sum[1]));
+            }
+        });
+        result.sort(Comparator.comparing(StatDto.CategorySales::getTotalQty).reversed()); // 많이 팔린 순
+        return result;
     }
     
+    // 대시보드 매출 (일별, 월 누적, 7일 이동 평균, 월/기간 합계를 한 번의 쿼리로 조회)
+    @Transactional(readOnly = true)
+    public List<StatDto.SalesDashboardRow> getSalesDashboard(Long userId, LocalDate from, LocalDate to) {
+        checkAdmin(userId);
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        // 재귀 CTE 깊이 제한 (MySQL cte_max_recursion_depth 기본값 1000) 안에서 동작하도록 제한
+        if (days < 1 || days > maxDashboardDays) {
+            throw new BusinessException(ErrorCode.INVALID_STATS_RANGE);
+        }
+        return statisticsRepository.findSalesDashboard(from, to);
+    }
+
+    // 고유 구매자 수, 주문 금액 분위수 (일별 스케치를 합친 근사값)
+    @Transactional(readOnly = true)
+    public StatDto.OrderSketchReport getOrderSketchReport(Long userId, LocalDate from, LocalDate to) {
+        checkAdmin(userId);
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1 || days > maxDays) {
+            throw new BusinessException(ErrorCode.INVALID_STATS_RANGE);
+        }
+        return orderSketchService.getReport(from, to);
+    }
+
+    // 주문 항목 임의 집계 (메모리 컬럼형 스냅샷)
+    public List<StatDto.ItemAggregate> getItemAggregate(Long userId, List<String> groupBy, LocalDate from, LocalDate to,
+            Long categoryId, Integer minPrice, Integer maxPrice, int priceBandWidth) {
+        checkAdmin(userId);
+        return orderItemSnapshotService.aggregate(groupBy, from, to, categoryId, minPrice, maxPrice, priceBandWidth);
+    }
+
+    private void merge(long[] sum, Long totalSales, Long orderCount, Long itemQty) {
+        sum[0] += totalSales;
+        sum[1] += orderCount;
+        sum[2] += itemQty;
+    }
+
     private void checkAdmin(Long userId) {
-        if (!userRepository.isAdmin(userId)) {
+        if (!userRoleCache.isAdmin(userId)) {
             throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
         }
     }
@@ -1,26 +1,27 @@
 package com.example.shopping.domain.service;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.shopping.domain.dto.AdminDto;
 import com.example.shopping.domain.dto.UserDto;
-import com.example.shopping.domain.entity.user.EmailVerification;
 import com.example.shopping.domain.entity.user.User;
 import com.example.shopping.domain.entity.user.UserAuth;
 import com.example.shopping.domain.entity.user.UserProfile;
 import com.example.shopping.domain.enums.UserStatus;
+import com.example.shopping.domain.event.MailRequestedEvent;
 import com.example.shopping.domain.exception.BusinessException;
 import com.example.shopping.domain.exception.ErrorCode;
-import com.example.shopping.domain.repository.EmailVerificationRepository;
 import com.example.shopping.domain.repository.UserAuthRepository;
 import com.example.shopping.domain.repository.UserProfileRepository;
 import com.example.shopping.domain.repository.UserRepository;
+import com.example.shopping.global.security.PasswordHasher;
+import com.example.shopping.global.security.UserRoleCache;
+import com.example.shopping.global.security.VerificationCodeStore;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,9 +32,10 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
     private final UserAuthRepository userAuthRepository;
-    private final EmailVerificationRepository emailVerificationRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final MailService mailService;
+    private final VerificationCodeStore verificationCodeStore;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRoleCache userRoleCache;
 
     // 비밀번호 변경 (로그인 상태)
     @Transactional
@@ -41,11 +43,11 @@ public class UserService {
         UserAuth userAuth = userAuthRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        if (!passwordEncoder.matches(request.getCurrentPassword(), userAuth.getPasswordHash())) {
+        if (!passwordHasher.matches(request.getCurrentPassword(), userAuth.getPasswordHash())) {
             throw new BusinessException(ErrorCode.INVALID_CURRENT_PASSWORD);
         }
 
-        userAuth.updatePassword(passwordEncoder.encode(request.getNewPassword())); // *Entity에 메서드 추가 필요
+        userAuth.updatePassword(passwordHasher.encode(request.getNewPassword()));
     }
 
     // 프로필 수정
@@ -77,49 +79,43 @@ public class UserService {
 
         String code = UUID.randomUUID().toString().substring(0, 6); // 6자리 랜덤 코드
 
-        EmailVerification verification = EmailVerification.builder()
-                .email(email)
-                .verificationCode(code)
-                .expiresAt(LocalDateTime.now().plusMinutes(5)) // 5분 유효
-                .isVerified(false)
-                .build();
-        
-        emailVerificationRepository.save(verification);
-        mailService.sendEmail(email, "[쇼핑앱] 비밀번호 찾기 인증코드", "인증코드: " + code);
+        verificationCodeStore.save(email, code); // 5분 유효 (security.verification-code.ttl-millis)
+        // 커밋 후 비동기 발송 (SMTP 지연이 트랜잭션을 붙잡지 않음), 코드가 만료되면 재시도 중이어도 보내지 않음
+        eventPublisher.publishEvent(new MailRequestedEvent(email, "[쇼핑앱] 비밀번호 찾기 인증코드", "인증코드: " + code,
+                verificationCodeStore.getTtlMillis()));
     }
 
     // 비밀번호 찾기 2: 코드 검증 및 비밀번호 초기화
     @Transactional
     public void resetPassword(UserDto.ResetPassword request) {
-        // 1. 인증코드 검증
-        EmailVerification ev = emailVerificationRepository.findByEmailAndVerificationCode(request.getEmail(), request.getVerificationCode())
-                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_VERIFICATION_CODE));
-
-        if (ev.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new BusinessException(ErrorCode.VERIFICATION_CODE_EXPIRED);
+        // 1. 인증코드 검증 (성공하면 사용 처리)
+        switch (verificationCodeStore.verify(request.getEmail(), request.getVerificationCode())) {
+            case VERIFIED -> {
+            }
+            case EXPIRED -> throw new BusinessException(ErrorCode.VERIFICATION_CODE_EXPIRED);
+            case ATTEMPTS_EXCEEDED -> throw new BusinessException(ErrorCode.VERIFICATION_ATTEMPTS_EXCEEDED);
+            default -> throw new BusinessException(ErrorCode.INVALID_VERIFICATION_CODE);
         }
 
-        ev.verify(); // 사용 처리
-
         // 2. 비밀번호 변경
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         UserAuth userAuth = userAuthRepository.findById(user.getUserId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         
-        userAuth.updatePassword(passwordEncoder.encode(request.getNewPassword()));
+        userAuth.updatePassword(passwordHasher.encode(request.getNewPassword()));
     }
 
     @Transactional(readOnly = true)
     public List<AdminDto.UserResponse> getAllUsers(Long adminId) {
-        if (!userRepository.isAdmin(adminId)) throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
+        if (!userRoleCache.isAdmin(adminId)) throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
         return userRepository.findAllUsers();
     }
 
     // 회원 상태 변경 (정지/해제 등)
     @Transactional
     public void updateUserStatus(Long adminId, Long targetUserId, String statusStr) {
-        if (!userRepository.isAdmin(adminId)) throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
+        if (!userRoleCache.isAdmin(adminId)) throw new BusinessException(ErrorCode.ADMIN_PERMISSION_REQUIRED);
         
         User user = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -131,5 +127,6 @@ public class UserService {
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.INVALID_USER_STATUS);
         }
+        userRoleCache.invalidate(targetUserId); // 커밋 후 다음 로그인/재발급부터 다시 조회
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.example.shopping.domain.stats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 컬럼형 스냅샷 병렬 집계기
+ * 
+ * <p>행 범위를 반씩 나누어 fork-join 풀에서 병렬로 스캔하고,
+ * 각 범위의 그룹별 부분 합계(판매 수량, 판매 금액, 행 수)를 합쳐 결과를 만듭니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public final class ColumnarAggregator {
+
+    /** 이 행 수 이하의 범위는 더 나누지 않고 한 스레드에서 스캔 */
+    private static final int LEAF_ROWS = 1 << 15;
+
+    private ColumnarAggregator() {
+    }
+
+    /**
+     * 조건에 맞는 행을 그룹별로 집계합니다.
+     *
+     * @param columns 컬럼형 스냅샷
+     * @param query   집계 조건
+     * @return 그룹 키 → {판매 수량, 판매 금액, 행 수}
+     */
+    public static Map<Long, long[]> aggregate(OrderItemColumns columns, ColumnarQuery query) {
+        return ForkJoinPool.commonPool().invoke(new ScanTask(columns, query, 0, columns.size()));
+    }
+
+    private static class ScanTask extends RecursiveTask<Map<Long, long[]>> {
+        private final OrderItemColumns columns;
+        private final ColumnarQuery query;
+        private final int from;
+        private final int to;
+
+        private ScanTask(OrderItemColumns columns, ColumnarQuery query, int from, int to) {
+            this.columns = columns;
+            this.query = query;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Long, long[]> compute() {
+            if (to - from <= LEAF_ROWS) {
+                return scan();
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(columns, query, from, mid);
+            left.fork();
+            Map<Long, long[]> right = new ScanTask(columns, query, mid, to).compute();
+            Map<Long, long[]> result = left.join();
+            right.forEach((key, value) -> {
+                long[] sum = result.computeIfAbsent(key, k -> new long[3]);
+                sum[0] += value[0];
+                sum[1] += value[1];
+                sum[2] += value[2];
+            });
+            return result;
+        }
+
+        private Map<Long, long[]> scan() {
+            Map<Long, long[]> groups = new HashMap<>();
+            for (int row = from; row < to; row++) {
+                if (!query.matches(columns, row)) {
+                    continue;
+                }
+                long[] sum = groups.computeIfAbsent(query.groupKey(columns, row), k -> new long[3]);
+                int qty = columns.qty(row);
+                sum[0] += qty;
+                sum[1] += (long) qty * columns.price(row);
+                sum[2]++;
+            }
+            return groups;
+        }
+    }
+}
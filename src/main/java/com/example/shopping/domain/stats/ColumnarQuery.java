@@ -0,0 +1,101 @@
+package com.example.shopping.domain.stats;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 컬럼형 스냅샷 집계 조건
+ *
+ * @param groupBy        묶을 기준 (최대 2개)
+ * @param fromEpochDay   시작일 (포함, epoch day)
+ * @param toEpochDay     종료일 (포함, epoch day)
+ * @param categoryCode   카테고리 사전 코드 (-1이면 전체)
+ * @param minPrice       최소 단가 (포함)
+ * @param maxPrice       최대 단가 (포함)
+ * @param priceBandWidth PRICE_BAND 기준의 구간 폭 (단위: 원)
+ */
+public record ColumnarQuery(List<Dimension> groupBy, int fromEpochDay, int toEpochDay, int categoryCode,
+        int minPrice, int maxPrice, int priceBandWidth) {
+
+    public boolean matches(OrderItemColumns columns, int row) {
+        int day = columns.epochDay(row);
+        int price = columns.price(row);
+        return day >= fromEpochDay && day <= toEpochDay
+                && price >= minPrice && price <= maxPrice
+                && (categoryCode < 0 || columns.categoryCode(row) == categoryCode);
+    }
+
+    /**
+     * 행의 그룹 키를 계산합니다 (기준 2개는 상위/하위 32비트에 나누어 담음).
+     */
+    public long groupKey(OrderItemColumns columns, int row) {
+        if (groupBy.isEmpty()) {
+            return 0L;
+        }
+        long first = groupBy.get(0).key(columns, row, priceBandWidth);
+        if (groupBy.size() == 1) {
+            return first;
+        }
+        return (first << 32) | (groupBy.get(1).key(columns, row, priceBandWidth) & 0xffffffffL);
+    }
+
+    /**
+     * 그룹 키를 기준별 표시 값으로 바꿉니다.
+     */
+    public List<String> labels(OrderItemColumns columns, long groupKey) {
+        if (groupBy.isEmpty()) {
+            return List.of();
+        }
+        if (groupBy.size() == 1) {
+            return List.of(groupBy.get(0).label(columns, (int) groupKey, priceBandWidth));
+        }
+        return List.of(groupBy.get(0).label(columns, (int) (groupKey >> 32), priceBandWidth),
+                groupBy.get(1).label(columns, (int) groupKey, priceBandWidth));
+    }
+
+    /**
+     * 집계 기준
+     */
+    public enum Dimension {
+        /** 카테고리 (이름) */
+        CATEGORY,
+
+        /** 상품 ID */
+        PRODUCT,
+
+        /** 주문일 */
+        DAY,
+
+        /** 주문 주 (월요일 시작일) */
+        WEEK,
+
+        /** 주문 월 (YYYY-MM) */
+        MONTH,
+
+        /** 단가 구간 (priceBandWidth 단위) */
+        PRICE_BAND;
+
+        int key(OrderItemColumns columns, int row, int bandWidth) {
+            return switch (this) {
+                case CATEGORY -> columns.categoryCode(row);
+                case PRODUCT -> (int) columns.productId(row);
+                case DAY -> columns.epochDay(row);
+                // 1970-01-01은 목요일이므로 +3 하여 월요일을 0으로 맞춤
+                case WEEK -> columns.epochDay(row) - Math.floorMod(columns.epochDay(row) + 3, 7);
+                case MONTH -> columns.epochMonth(row);
+                case PRICE_BAND -> columns.price(row) / bandWidth;
+            };
+        }
+
+        String label(OrderItemColumns columns, int key, int bandWidth) {
+            return switch (this) {
+                case CATEGORY -> columns.categoryName(key);
+                case PRODUCT -> String.valueOf(key);
+                case DAY, WEEK -> LocalDate.ofEpochDay(key).toString();
+                case MONTH -> YearMonth.of(1970 + key / 12, key % 12 + 1).toString();
+                case PRICE_BAND -> (long) key * bandWidth + "-" + ((long) (key + 1) * bandWidth - 1);
+            };
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.shopping.domain.stats;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 항목 컬럼형 스냅샷
+ * 
+ * <p>주문 항목을 행 객체 대신 컬럼별 기본형 배열로 보관하여, 집계 시 필요한 컬럼만 순서대로 읽습니다.
+ * 카테고리는 사전 인코딩(dictionary encoding)하여 0부터 시작하는 int 코드로 저장합니다.
+ * 
+ * <p>생성 후에는 변경되지 않으므로 여러 스레드가 잠금 없이 동시에 읽을 수 있습니다.
+ * 한 행에 약 32바이트를 사용합니다.
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public class OrderItemColumns {
+
+    private final int size;
+    private final long[] productIds;
+    private final int[] categoryCodes;
+    private final int[] epochDays;
+    private final int[] epochMonths;
+    private final int[] qtys;
+    private final int[] prices;
+
+    /** 카테고리 사전 (코드 → ID, 이름) */
+    private final long[] categoryIds;
+    private final String[] categoryNames;
+
+    private final LocalDateTime builtAt;
+
+    private OrderItemColumns(Builder builder) {
+        this.size = builder.size;
+        this.productIds = Arrays.copyOf(builder.productIds, size);
+        this.categoryCodes = Arrays.copyOf(builder.categoryCodes, size);
+        this.epochDays = Arrays.copyOf(builder.epochDays, size);
+        this.epochMonths = Arrays.copyOf(builder.epochMonths, size);
+        this.qtys = Arrays.copyOf(builder.qtys, size);
+        this.prices = Arrays.copyOf(builder.prices, size);
+        this.categoryIds = builder.categoryIds.stream().mapToLong(Long::longValue).toArray();
+        this.categoryNames = builder.categoryNames.toArray(String[]::new);
+        this.builtAt = LocalDateTime.now();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long productId(int row) {
+        return productIds[row];
+    }
+
+    public int categoryCode(int row) {
+        return categoryCodes[row];
+    }
+
+    public int epochDay(int row) {
+        return epochDays[row];
+    }
+
+    /** 1970-01 기준 월 번호 (year * 12 + month - 1) */
+    public int epochMonth(int row) {
+        return epochMonths[row];
+    }
+
+    public int qty(int row) {
+        return qtys[row];
+    }
+
+    public int price(int row) {
+        return prices[row];
+    }
+
+    public long categoryId(int code) {
+        return categoryIds[code];
+    }
+
+    public String categoryName(int code) {
+        return categoryNames[code];
+    }
+
+    /**
+     * 카테고리 ID의 사전 코드를 반환합니다.
+     *
+     * @param categoryId 카테고리 ID
+     * @return 사전 코드, 스냅샷에 없으면 -1
+     */
+    public int categoryCodeOf(long categoryId) {
+        for (int code = 0; code < categoryIds.length; code++) {
+            if (categoryIds[code] == categoryId) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 행을 하나씩 추가하여 스냅샷을 만드는 빌더 (배열은 두 배씩 늘림)
+     */
+    public static class Builder {
+        private int size;
+        private long[] productIds = new long[1024];
+        private int[] categoryCodes = new int[1024];
+        private int[] epochDays = new int[1024];
+        private int[] epochMonths = new int[1024];
+        private int[] qtys = new int[1024];
+        private int[] prices = new int[1024];
+
+        private final Map<Long, Integer> categoryCodeById = new HashMap<>();
+        private final List<Long> categoryIds = new ArrayList<>();
+        private final List<String> categoryNames = new ArrayList<>();
+
+        public Builder add(OrderItemFact fact) {
+            if (size == productIds.length) {
+                int capacity = size * 2;
+                productIds = Arrays.copyOf(productIds, capacity);
+                categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+                epochDays = Arrays.copyOf(epochDays, capacity);
+                epochMonths = Arrays.copyOf(epochMonths, capacity);
+                qtys = Arrays.copyOf(qtys, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+            }
+            LocalDate date = fact.orderedAt().toLocalDate();
+            productIds[size] = fact.productId();
+            categoryCodes[size] = categoryCodeById.computeIfAbsent(fact.categoryId(), id -> {
+                categoryIds.add(id);
+                categoryNames.add(fact.categoryName());
+                return categoryIds.size() - 1;
+            });
+            epochDays[size] = (int) date.toEpochDay();
+            epochMonths[size] = (date.getYear() - 1970) * 12 + date.getMonthValue() - 1;
+            qtys[size] = fact.qty();
+            prices[size] = fact.price();
+            size++;
+            return this;
+        }
+
+        public OrderItemColumns build() {
+            return new OrderItemColumns(this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.shopping.domain.stats;
+
+import java.time.LocalDateTime;
+
+/**
+ * 컬럼형 스냅샷을 만들기 위해 읽는 주문 항목 한 행
+ *
+ * @param orderItemId  주문 항목 ID (페이지 조회 커서)
+ * @param productId    상품 ID
+ * @param categoryId   카테고리 ID
+ * @param categoryName 카테고리 이름
+ * @param orderedAt    주문 시간
+ * @param qty          수량
+ * @param price        주문 시점 단가 (단위: 원)
+ */
+public record OrderItemFact(Long orderItemId, Long productId, Long categoryId, String categoryName,
+        LocalDateTime orderedAt, Integer qty, Integer price) {
+}
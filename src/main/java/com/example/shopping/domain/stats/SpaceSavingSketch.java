@@ -0,0 +1,167 @@
+package com.example.shopping.domain.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 빈도 항목(heavy hitters) 스케치
+ * 
+ * <p>최대 capacity 개의 카운터만 유지하면서 가중치(판매 수량)가 큰 키를 추정합니다.
+ * 카운터가 가득 찬 상태에서 새 키가 들어오면 가장 작은 카운터를 새 키에 넘겨주고,
+ * 넘겨받은 값은 오차(error)로 기록합니다.
+ * 
+ * <p>보장:
+ * <ul>
+ *   <li>추정값(count)은 실제 값 이상이며, count - error 이하로 떨어지지 않습니다.</li>
+ *   <li>전체 가중치의 1/capacity 보다 많이 팔린 키는 반드시 카운터에 남아 있습니다.</li>
+ *   <li>메모리는 키 종류 수와 관계없이 capacity 개 카운터로 고정됩니다.</li>
+ * </ul>
+ * 
+ * <p>스레드 안전하지 않으므로 호출 측에서 동기화합니다 (WindowedTopK).
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<Long, Counter> counters;
+
+    /** 합친 스케치에서 카운터가 없는 키의 최대 가중치 (합친 적이 없으면 -1) */
+    private long mergedUnseenBound = -1;
+
+    public SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키에 가중치를 더합니다.
+     *
+     * @param key    키 (상품 ID)
+     * @param label  표시 이름 (상품명, 마지막 값으로 갱신)
+     * @param weight 가중치 (판매 수량)
+     */
+    public void offer(long key, String label, long weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            counter.label = label;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, label, weight, 0));
+            return;
+        }
+        // 가장 작은 카운터를 새 키로 교체 (capacity가 작으므로 선형 탐색)
+        Counter min = null;
+        for (Counter c : counters.values()) {
+            if (min == null || c.count < min.count) {
+                min = c;
+            }
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, label, min.count + weight, min.count));
+    }
+
+    /**
+     * 다른 스케치의 카운터를 더합니다 (여러 시간 구간을 합칠 때 사용).
+     * 결과는 capacity 제한 없이 두 스케치의 키를 모두 유지합니다.
+     *
+     * <p>한쪽 스케치에만 있는 키는 다른 쪽에서 밀려났을 수 있으므로, 다른 쪽에 없는 키가 가질 수 있는
+     * 최대 가중치({@link #unseenBound()})를 추정값과 오차에 함께 더합니다 (Space-Saving 병합 규칙).
+     * 그래야 합친 추정값도 실제 값 이상이라는 보장이 유지됩니다.
+     *
+     * @param other 더할 스케치
+     */
+    public void mergeFrom(SpaceSavingSketch other) {
+        long thisUnseen = unseenBound();
+        long otherUnseen = other.unseenBound();
+        for (Counter counter : counters.values()) {
+            if (!other.counters.containsKey(counter.key)) {
+                counter.count += otherUnseen;
+                counter.error += otherUnseen;
+            }
+        }
+        for (Counter c : other.counters.values()) {
+            Counter counter = counters.get(c.key);
+            if (counter == null) {
+                counters.put(c.key, new Counter(c.key, c.label, c.count + thisUnseen, c.error + thisUnseen));
+            } else {
+                counter.count += c.count;
+                counter.error += c.error;
+                counter.label = c.label;
+            }
+        }
+        mergedUnseenBound = thisUnseen + otherUnseen;
+    }
+
+    /**
+     * 카운터가 없는 키가 가질 수 있는 최대 가중치를 반환합니다.
+     * 카운터가 가득 차지 않았으면 밀려난 키가 없으므로 0, 가득 찼으면 가장 작은 카운터 값입니다.
+     *
+     * @return 카운터가 없는 키의 최대 가중치
+     */
+    public long unseenBound() {
+        if (mergedUnseenBound >= 0) {
+            return mergedUnseenBound;
+        }
+        if (counters.isEmpty() || counters.size() < capacity) {
+            return 0;
+        }
+        long min = Long.MAX_VALUE;
+        for (Counter c : counters.values()) {
+            min = Math.min(min, c.count);
+        }
+        return min;
+    }
+
+    /**
+     * 추정값 내림차순 상위 limit 개 항목을 반환합니다.
+     *
+     * @param limit 반환할 최대 개수
+     * @return 상위 항목 목록
+     */
+    public List<Item> top(int limit) {
+        List<Counter> sorted = new ArrayList<>(counters.values());
+        sorted.sort(Comparator.comparingLong((Counter c) -> c.count).reversed()
+                .thenComparingLong(c -> c.key));
+        List<Item> items = new ArrayList<>(Math.min(limit, sorted.size()));
+        for (Counter c : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            items.add(new Item(c.key, c.label, c.count, c.error));
+        }
+        return items;
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty();
+    }
+
+    /**
+     * 상위 항목
+     *
+     * @param key   키 (상품 ID)
+     * @param label 표시 이름
+     * @param count 추정 가중치 (실제 값 이상)
+     * @param error 최대 과대 추정량
+     */
+    public record Item(long key, String label, long count, long error) {
+    }
+
+    private static class Counter {
+        private final long key;
+        private String label;
+        private long count;
+        private long error;
+
+        private Counter(long key, String label, long count, long error) {
+            this.key = key;
+            this.label = label;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.shopping.domain.stats;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * t-digest 분위수 추정 스케치 (merging 방식)
+ * 
+ * <p>값을 버퍼에 모았다가 정렬하여 인접한 값을 중심점(centroid)으로 합칩니다.
+ * 중심점 하나가 가질 수 있는 가중치는 분위수 q에서 4 × n × q(1 - q) / compression 이하로 제한되므로,
+ * 양 끝(p1, p99 등)은 촘촘하고 가운데는 성기게 유지되어 꼬리 분위수의 정확도가 높습니다.
+ * 
+ * <ul>
+ *   <li>중심점 수는 값의 개수와 관계없이 대략 compression 이하로 유지됩니다.</li>
+ *   <li>같은 방식으로 다른 스케치의 중심점을 버퍼에 넣어 합칠 수 있습니다.</li>
+ * </ul>
+ * 
+ * <p>직렬화 형식: [버전(1바이트)][compression(double)][min(double)][max(double)][중심점 수(int)][(평균(double), 가중치(long))...]
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public class TDigest {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final double compression;
+
+    private double[] means;
+    private long[] weights;
+    private int centroidCount;
+
+    private double[] bufferMeans;
+    private long[] bufferWeights;
+    private int bufferCount;
+
+    private long totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest(double compression) {
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) * 2 + 10;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new long[capacity * 5];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, long weight) {
+        if (bufferCount == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 스케치를 합칩니다.
+     *
+     * @param other 합칠 스케치
+     */
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroidCount; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * 분위수 추정값을 반환합니다.
+     *
+     * @param q 분위수 (0 ~ 1)
+     * @return 추정값, 값이 없으면 NaN
+     */
+    public double quantile(double q) {
+        compress();
+        if (centroidCount == 0) {
+            return Double.NaN;
+        }
+        if (centroidCount == 1) {
+            return means[0];
+        }
+        double index = q * totalWeight;
+        // 첫 중심점의 중앙 이전: 최소값과 첫 중심점 사이 보간
+        double firstCenter = weights[0] / 2.0;
+        if (index <= firstCenter) {
+            return min + (means[0] - min) * (firstCenter == 0 ? 0 : index / firstCenter);
+        }
+        double cumulative = 0;
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double center = cumulative + weights[i] / 2.0;
+            double nextCenter = cumulative + weights[i] + weights[i + 1] / 2.0;
+            if (index <= nextCenter) {
+                double fraction = (index - center) / (nextCenter - center);
+                return means[i] + (means[i + 1] - means[i]) * fraction;
+            }
+            cumulative += weights[i];
+        }
+        // 마지막 중심점의 중앙 이후: 마지막 중심점과 최대값 사이 보간
+        int last = centroidCount - 1;
+        double lastCenter = totalWeight - weights[last] / 2.0;
+        double fraction = (index - lastCenter) / (totalWeight - lastCenter);
+        return means[last] + (max - means[last]) * Math.min(1, fraction);
+    }
+
+    public long size() {
+        return totalWeight;
+    }
+
+    // 기존 중심점과 버퍼를 평균 순으로 정렬한 뒤, 가중치 한도 안에서 인접한 값을 합침
+    private void compress() {
+        if (bufferCount == 0) {
+            return;
+        }
+        int n = centroidCount + bufferCount;
+        Integer[] order = new Integer[n];
+        double[] allMeans = new double[n];
+        long[] allWeights = new long[n];
+        System.arraycopy(means, 0, allMeans, 0, centroidCount);
+        System.arraycopy(weights, 0, allWeights, 0, centroidCount);
+        System.arraycopy(bufferMeans, 0, allMeans, centroidCount, bufferCount);
+        System.arraycopy(bufferWeights, 0, allWeights, centroidCount, bufferCount);
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        double[] newMeans = new double[n];
+        long[] newWeights = new long[n];
+        int count = 0;
+        long weightSoFar = 0;
+        newMeans[0] = allMeans[order[0]];
+        newWeights[0] = allWeights[order[0]];
+        for (int i = 1; i < n; i++) {
+            int next = order[i];
+            long proposed = newWeights[count] + allWeights[next];
+            double q = (weightSoFar + proposed / 2.0) / totalWeight;
+            double limit = 4 * totalWeight * q * (1 - q) / compression;
+            if (proposed <= limit) {
+                newMeans[count] += (allMeans[next] - newMeans[count]) * allWeights[next] / proposed;
+                newWeights[count] = proposed;
+            } else {
+                weightSoFar += newWeights[count];
+                count++;
+                newMeans[count] = allMeans[next];
+                newWeights[count] = allWeights[next];
+            }
+        }
+        centroidCount = count + 1;
+        if (centroidCount > means.length) {
+            means = new double[centroidCount];
+            weights = new long[centroidCount];
+        }
+        System.arraycopy(newMeans, 0, means, 0, centroidCount);
+        System.arraycopy(newWeights, 0, weights, 0, centroidCount);
+        bufferCount = 0;
+    }
+
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 * 3 + 4 + centroidCount * 16)
+                .put(FORMAT_VERSION)
+                .putDouble(compression)
+                .putDouble(min)
+                .putDouble(max)
+                .putInt(centroidCount);
+        for (int i = 0; i < centroidCount; i++) {
+            buffer.putDouble(means[i]).putLong(weights[i]);
+        }
+        return buffer.array();
+    }
+
+    public static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 t-digest 형식입니다: " + version);
+        }
+        TDigest digest = new TDigest(buffer.getDouble());
+        double min = buffer.getDouble();
+        double max = buffer.getDouble();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            digest.add(buffer.getDouble(), buffer.getLong());
+        }
+        digest.min = min;
+        digest.max = max;
+        return digest;
+    }
+}
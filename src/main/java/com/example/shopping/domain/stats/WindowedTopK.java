@@ -0,0 +1,147 @@
+package com.example.shopping.domain.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회전 버킷 방식의 시간 구간 상위 항목 추적기
+ * 
+ * <p>구간(window)을 bucketCount 개의 버킷으로 나누고 버킷마다 SpaceSavingSketch를 둡니다.
+ * 현재 시각의 버킷에만 더하고, 조회 시 구간 안의 버킷을 합쳐 상위 항목을 계산합니다.
+ * 구간을 벗어난 버킷은 다음에 같은 자리를 쓸 때 비워지므로 별도의 정리 작업이 필요 없습니다.
+ * 
+ * <p>지난 버킷은 더 이상 바뀌지 않으므로, 현재 버킷을 뺀 나머지를 합친 결과를 버킷이 바뀔 때 한 번만 계산해 둡니다.
+ * 조회할 때는 잠금 안에서 현재 버킷만 복사하고, 잠금 밖에서 현재 버킷의 키와 지난 버킷의 상위 limit 개만 합칩니다.
+ * 
+ * <p>메모리는 bucketCount × capacity 개 카운터로 고정되며,
+ * 조회 결과는 버킷 크기만큼 오래된 값까지 포함할 수 있습니다 (예: 1시간 구간, 5분 버킷이면 최대 65분).
+ * 
+ * @author shopping-server
+ * @since 1.0
+ */
+public class WindowedTopK {
+
+    private static final Comparator<SpaceSavingSketch.Item> BY_COUNT_DESC =
+            Comparator.comparingLong(SpaceSavingSketch.Item::count).reversed()
+                    .thenComparingLong(SpaceSavingSketch.Item::key);
+
+    private final long bucketMillis;
+    private final int capacity;
+    private final SpaceSavingSketch[] buckets;
+
+    /** 버킷 자리마다 담고 있는 버킷 번호 (epoch millis / bucketMillis) */
+    private final long[] bucketIndexes;
+
+    /** 현재 버킷을 뺀 구간 안의 버킷을 합친 결과 (현재 버킷 번호가 바뀌면 다시 계산) */
+    private ClosedBuckets closed;
+
+    public WindowedTopK(long windowMillis, int bucketCount, int capacity) {
+        this.bucketMillis = windowMillis / bucketCount;
+        this.capacity = capacity;
+        this.buckets = new SpaceSavingSketch[bucketCount];
+        this.bucketIndexes = new long[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new SpaceSavingSketch(capacity);
+            bucketIndexes[i] = -1;
+        }
+    }
+
+    /**
+     * 현재 시각의 버킷에 가중치를 더합니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param key       키 (상품 ID)
+     * @param label     표시 이름
+     * @param weight    가중치 (판매 수량)
+     */
+    public synchronized void offer(long nowMillis, long key, String label, long weight) {
+        long index = nowMillis / bucketMillis;
+        int slot = (int) (index % buckets.length);
+        if (bucketIndexes[slot] != index) {
+            buckets[slot] = new SpaceSavingSketch(capacity);
+            bucketIndexes[slot] = index;
+        }
+        buckets[slot].offer(key, label, weight);
+    }
+
+    /**
+     * 구간 안의 버킷을 합쳐 상위 limit 개 항목을 반환합니다.
+     *
+     * <p>결과는 모든 버킷을 {@link SpaceSavingSketch#mergeFrom}으로 합친 것과 같습니다.
+     * 현재 버킷에 없는 키는 모두 같은 값(현재 버킷의 unseenBound)이 더해지므로,
+     * 그런 키는 지난 버킷의 상위 limit 개만 후보로 보면 됩니다.
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param limit     반환할 최대 개수
+     * @return 추정값 내림차순 상위 항목
+     */
+    public List<SpaceSavingSketch.Item> top(long nowMillis, int limit) {
+        long current = nowMillis / bucketMillis;
+        ClosedBuckets past;
+        List<SpaceSavingSketch.Item> recent;
+        long recentUnseen;
+        synchronized (this) {
+            if (closed == null || closed.index() != current) {
+                closed = mergeClosed(current);
+            }
+            past = closed;
+            int slot = (int) (current % buckets.length);
+            SpaceSavingSketch bucket = bucketIndexes[slot] == current ? buckets[slot] : null;
+            recent = bucket != null ? bucket.top(capacity) : List.of();
+            recentUnseen = bucket != null ? bucket.unseenBound() : 0;
+        }
+
+        Map<Long, SpaceSavingSketch.Item> candidates = new HashMap<>();
+        for (SpaceSavingSketch.Item item : recent) {
+            SpaceSavingSketch.Item old = past.byKey().get(item.key());
+            long count = old != null ? old.count() : past.unseenBound();
+            long error = old != null ? old.error() : past.unseenBound();
+            candidates.put(item.key(), new SpaceSavingSketch.Item(item.key(), item.label(),
+                    count + item.count(), error + item.error()));
+        }
+        int added = 0;
+        for (SpaceSavingSketch.Item item : past.sorted()) {
+            if (added >= limit) {
+                break;
+            }
+            if (!candidates.containsKey(item.key())) {
+                candidates.put(item.key(), new SpaceSavingSketch.Item(item.key(), item.label(),
+                        item.count() + recentUnseen, item.error() + recentUnseen));
+                added++;
+            }
+        }
+
+        List<SpaceSavingSketch.Item> items = new ArrayList<>(candidates.values());
+        items.sort(BY_COUNT_DESC);
+        return items.subList(0, Math.min(limit, items.size()));
+    }
+
+    // 현재 버킷을 뺀 구간 안의 버킷 합치기
+    private ClosedBuckets mergeClosed(long current) {
+        SpaceSavingSketch merged = new SpaceSavingSketch(capacity);
+        for (int slot = 0; slot < buckets.length; slot++) {
+            if (bucketIndexes[slot] > current - buckets.length && bucketIndexes[slot] < current) {
+                merged.mergeFrom(buckets[slot]);
+            }
+        }
+        List<SpaceSavingSketch.Item> sorted = merged.top(Integer.MAX_VALUE);
+        Map<Long, SpaceSavingSketch.Item> byKey = new HashMap<>(sorted.size() * 2);
+        sorted.forEach(item -> byKey.put(item.key(), item));
+        return new ClosedBuckets(current, sorted, byKey, merged.unseenBound());
+    }
+
+    /**
+     * 지난 버킷을 합친 결과
+     *
+     * @param index       계산 시점의 현재 버킷 번호
+     * @param sorted      추정값 내림차순 항목
+     * @param byKey       키별 항목
+     * @param unseenBound 항목에 없는 키의 최대 가중치
+     */
+    private record ClosedBuckets(long index, List<SpaceSavingSketch.Item> sorted,
+            Map<Long, SpaceSavingSketch.Item> byKey, long unseenBound) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.shopping.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * <p>백필, 정리 작업 등 domain.batch 패키지의 주기 작업(@Scheduled)을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,7 +1,10 @@
 package com.example.shopping.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -9,14 +12,32 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import com.example.shopping.global.security.JwtAuthenticationFilter;
+import com.example.shopping.global.security.JwtTokenProvider;
+import com.example.shopping.global.security.TokenRevocationList;
+import com.example.shopping.global.security.VerifiedTokenCache;
+
+import lombok.RequiredArgsConstructor;
 
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    // BCrypt 비용 (2^strength 회 반복, 기존 해시는 로그인 성공 시 이 값으로 다시 해시됨)
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -32,11 +53,27 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 로그아웃은 폐기할 액세스 토큰이 필요하므로 인증 필요
+                        .requestMatchers("/api/auth/logout").authenticated()
                         // 회원가입, 로그인은 누구나 접근 가능
                         .requestMatchers("/api/auth/**").permitAll()
+                        // 비밀번호 찾기는 로그인 불필요
+                        .requestMatchers("/api/users/password/recovery/**").permitAll()
+                        // 베스트셀러는 상점 화면에서 비로그인으로 조회
+                        .requestMatchers(HttpMethod.GET, "/api/products/best-sellers").permitAll()
+                        // 관리자 API는 토큰의 roles 클레임으로 인가 (권한 조회 쿼리 없음)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PATCH, "/api/orders/*/status").hasRole("ADMIN")
                         // 그 외 요청은 인증 필요
                         .anyRequest().authenticated()
-                );
+                )
+                // 인증 실패 시 로그인 페이지 대신 401
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                // 요청마다 토큰을 한 번 검증하여 SecurityContext에 사용자 정보 저장
+                // (빈으로 등록하면 서블릿 필터로도 중복 등록되므로 시큐리티 필터 체인에만 추가)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, verifiedTokenCache, tokenRevocationList),
+                        UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
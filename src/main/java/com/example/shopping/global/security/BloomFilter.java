@@ -0,0 +1,96 @@
+package com.example.shopping.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter
+ *
+ * <p>m개의 비트와 k개의 해시로 집합 소속 여부를 확인합니다. mightContain이 false면 확실히 없는 값이고,
+ * true면 false-positive-rate 확률로 잘못된 양성일 수 있으므로 정확한 저장소로 다시 확인해야 합니다.
+ *
+ * <ul>
+ *   <li>크기: m = -n ln p / (ln 2)^2, k = m / n × ln 2 (n: 예상 원소 수, p: 잘못된 양성 비율)</li>
+ *   <li>n = 100,000, p = 1% 일 때 약 117KB, k = 7</li>
+ *   <li>인덱스는 64비트 해시 두 개의 조합(h1 + i × h2)으로 구합니다 (Kirsch-Mitzenmacher).</li>
+ * </ul>
+ *
+ * <p>비트는 AtomicLongArray에 있으므로 add와 mightContain을 잠금 없이 여러 스레드에서 호출할 수 있습니다.
+ * 원소를 지울 수 없으므로, 만료되는 원소를 다룰 때는 주기적으로 새 필터를 만들어 교체합니다.
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다");
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 값 (토큰 ID 등)
+     */
+    public void add(String value) {
+        long h1 = hash(value);
+        long h2 = mix64(h1 ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /**
+     * 값이 추가되었을 수 있는지 확인합니다.
+     *
+     * @param value 값
+     * @return false면 추가된 적 없음, true면 추가되었거나 잘못된 양성
+     */
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix64(h1 ^ 0x9e3779b97f4a7c15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xff)) * 0x100000001b3L; // FNV-1a
+        }
+        return mix64(h);
+    }
+
+    // 비트가 고르게 퍼지도록 섞음 (MurmurHash3 fmix64)
+    private static long mix64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
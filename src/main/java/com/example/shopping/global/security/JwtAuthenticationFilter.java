@@ -0,0 +1,94 @@
+package com.example.shopping.global.security;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 인증 필터
+ *
+ * <p>
+ * 요청마다 Authorization 헤더의 Bearer 토큰을 한 번만 검증하여 {@link UserPrincipal}을 SecurityContext에 넣습니다.
+ * 이후 컨트롤러는 {@link LoginUser}로 사용자 ID를 받으므로 토큰을 다시 파싱하지 않습니다.
+ *
+ * <p>
+ * 처리 순서:
+ * <ul>
+ * <li>{@link VerifiedTokenCache}에 있으면 서명 검증 없이 캐시된 principal을 사용합니다.</li>
+ * <li>없으면 JwtTokenProvider의 재사용 파서로 서명과 만료를 검증하고 캐시에 넣습니다.</li>
+ * <li>캐시 여부와 관계없이 {@link TokenRevocationList}에서 로그아웃으로 폐기된 토큰인지 확인합니다.</li>
+ * <li>토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘기고, 인증이 필요한 경로는 401로 거절됩니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            UserPrincipal principal = resolve(header.substring(BEARER_PREFIX.length()));
+            if (principal != null && !tokenRevocationList.isRevoked(principal.tokenId())) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal, null, principal.roles().stream().map(SimpleGrantedAuthority::new).toList());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // roles 클레임 (이전에 발급된 토큰은 단일 role 클레임)
+    private List<String> roles(Claims claims) {
+        Object roles = claims.get("roles");
+        if (roles instanceof List<?> list && !list.isEmpty()) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        String role = claims.get("role", String.class);
+        return List.of(role != null ? role : UserRoleCache.ROLE_USER);
+    }
+
+    private UserPrincipal resolve(String token) {
+        UserPrincipal cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            Claims claims = jwtTokenProvider.verify(token);
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return null; // 리프레시 토큰 등 subject가 없는 토큰
+            }
+            UserPrincipal principal = new UserPrincipal(Long.parseLong(claims.getSubject()),
+                    roles(claims), claims.getId(), claims.getExpiration().getTime());
+            verifiedTokenCache.put(token, principal, claims.getExpiration().getTime());
+            return principal;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 JWT: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.example.shopping.global.security;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -14,23 +16,31 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProvider {
     private final Key key;
     private final long tokenValidityInMilliseconds;
+    private final long refreshTokenValidityInMilliseconds;
+
+    /** 서명 검증 파서 (불변, 스레드 안전하므로 한 번만 생성하여 재사용) */
+    private final JwtParser parser;
 
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
-            @Value("${jwt.access-token-expiration}") long tokenValidityInMilliseconds) {
+            @Value("${jwt.access-token-expiration}") long tokenValidityInMilliseconds,
+            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenValidityInMilliseconds) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.tokenValidityInMilliseconds = tokenValidityInMilliseconds;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInMilliseconds;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     // 토큰 생성
-    public String createToken(String userPk, String role) {
+    public String createToken(String userPk, List<String> roles) {
         Claims claims = Jwts.claims().setSubject(userPk); // JWT payload 에 저장되는 정보단위
-        claims.put("role", role); // 정보는 key / value 쌍으로 저장된다.
+        claims.put("roles", roles); // 권한 코드 목록 (요청마다 권한 조회 없이 인가)
         Date now = new Date();
         Date validity = new Date(now.getTime() + tokenValidityInMilliseconds);
 
         return Jwts.builder()
                 .setClaims(claims) // 정보 저장
+                .setId(UUID.randomUUID().toString()) // 토큰 ID (jti, 로그아웃 시 폐기용)
                 .setIssuedAt(now) // 토큰 발행 시간 정보
                 .setExpiration(validity) // set Expire Time
                 .signWith(key, SignatureAlgorithm.HS256) // 사용할 암호화 알고리즘
@@ -39,14 +49,18 @@ public class JwtTokenProvider {
 
     // 토큰에서 회원 정보 추출
     public String getUserPk(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    // 서명과 만료일자를 검증하고 Claims 반환 (유효하지 않으면 JwtException)
+    public Claims verify(String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 
     // 토큰의 유효성 + 만료일자 확인
     public boolean validateToken(String jwtToken) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwtToken);
+            Jws<Claims> claims = parser.parseClaimsJws(jwtToken);
             return !claims.getBody().getExpiration().before(new Date());
         } catch (Exception e) {
             return false;
@@ -56,7 +70,7 @@ public class JwtTokenProvider {
     // 토큰에서 Claims 추출 (만료된 토큰이어도 추출 가능하도록 예외 처리)
     public Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
+            return parser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -64,17 +78,20 @@ public class JwtTokenProvider {
 
     // 남은 유효시간 계산
     public long getExpiration(String accessToken) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody()
-                .getExpiration();
+        Date expiration = parser.parseClaimsJws(accessToken).getBody().getExpiration();
         long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
 
+    public long getRefreshTokenValidityInMilliseconds() {
+        return refreshTokenValidityInMilliseconds;
+    }
+
     public String createRefreshToken() {
         Date now = new Date();
         return Jwts.builder()
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + 604800000)) // 7일
+                .setExpiration(new Date(now.getTime() + refreshTokenValidityInMilliseconds))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -0,0 +1,242 @@
+package com.example.shopping.global.security;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.exception.RetryLaterException;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 로그인 시도 제한
+ *
+ * <p>
+ * 로그인 ID별, 클라이언트 IP별 토큰 버킷으로 로그인 시도 횟수를 제한합니다. 시도마다 두 버킷에서 토큰을 하나씩 쓰고,
+ * 어느 한쪽이라도 비어 있으면 사용자 조회와 BCrypt 검증 전에 429(Retry-After)로 거절합니다.
+ * 크리덴셜 스터핑 공격 중에도 실패마다 DB에 쓰지 않습니다.
+ *
+ * <p>
+ * 잠금:
+ * <ul>
+ * <li>로그인 ID별 연속 실패 횟수를 메모리에서 세고, lockout-threshold에 도달한 순간에만
+ * {@link #recordFailure(String)}가 true를 반환하여 호출자가 잠금 상태를 DB에 저장하게 합니다.</li>
+ * <li>잠긴 로그인 ID는 잠금이 끝날 때까지 메모리에서 바로 거절합니다 (다른 서버의 잠금은 DB의 locked_until로 확인).</li>
+ * <li>로그인에 성공하면 그 로그인 ID의 실패 횟수와 버킷을 초기화합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 구조:
+ * <ul>
+ * <li>키를 해시하여 stripes개의 구간으로 나누고, 구간마다 잠금과 접근 순서 LinkedHashMap을 둡니다.
+ * 서로 다른 구간의 시도는 경합하지 않습니다.</li>
+ * <li>구간마다 max-entries-per-stripe를 넘으면 가장 오래 사용하지 않은 항목부터 버리고,
+ * idle-ttl-millis 동안 사용하지 않은 항목은 주기적으로 정리하므로 메모리가 제한됩니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Component
+public class LoginThrottle {
+
+    @Value("${security.login-throttle.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.login-throttle.stripes:32}")
+    private int stripeCount;
+
+    @Value("${security.login-throttle.max-entries-per-stripe:4096}")
+    private int maxEntriesPerStripe;
+
+    @Value("${security.login-throttle.idle-ttl-millis:3600000}")
+    private long idleTtlMillis;
+
+    /** 로그인 ID별 버킷: 최대 시도 수, 토큰 하나가 다시 채워지는 시간 */
+    @Value("${security.login-throttle.login-id.capacity:5}")
+    private double loginIdCapacity;
+
+    @Value("${security.login-throttle.login-id.refill-millis:60000}")
+    private long loginIdRefillMillis;
+
+    /** IP별 버킷 */
+    @Value("${security.login-throttle.ip.capacity:20}")
+    private double ipCapacity;
+
+    @Value("${security.login-throttle.ip.refill-millis:6000}")
+    private long ipRefillMillis;
+
+    /** 연속 실패 횟수가 이 값에 도달하면 잠금 */
+    @Value("${security.login-throttle.lockout-threshold:10}")
+    private int lockoutThreshold;
+
+    @Value("${security.login-throttle.lockout-millis:900000}")
+    private long lockoutMillis;
+
+    private Stripe[] stripes;
+
+    @PostConstruct
+    void init() {
+        stripes = new Stripe[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(maxEntriesPerStripe);
+        }
+    }
+
+    /**
+     * 로그인 시도를 허용할지 확인하고 두 버킷에서 토큰을 하나씩 씁니다.
+     *
+     * @param loginId  로그인 ID
+     * @param clientIp 클라이언트 IP
+     * @throws RetryLaterException 시도 한도를 넘은 경우 (429) 또는 잠긴 로그인 ID인 경우 (423)
+     */
+    public void acquire(String loginId, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long waitMillis = take("id:" + loginId, loginIdCapacity, loginIdRefillMillis, now);
+        if (waitMillis > 0) {
+            throw new RetryLaterException(ErrorCode.LOGIN_THROTTLED, toSeconds(waitMillis));
+        }
+        waitMillis = take("ip:" + clientIp, ipCapacity, ipRefillMillis, now);
+        if (waitMillis > 0) {
+            throw new RetryLaterException(ErrorCode.LOGIN_THROTTLED, toSeconds(waitMillis));
+        }
+    }
+
+    /**
+     * 로그인 실패를 기록합니다.
+     *
+     * @param loginId 로그인 ID
+     * @return 이번 실패로 잠금 기준에 도달했으면 true (호출자가 잠금 상태를 저장)
+     */
+    public boolean recordFailure(String loginId) {
+        if (!enabled) {
+            return false;
+        }
+        String key = "id:" + loginId;
+        long now = System.currentTimeMillis();
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry entry = stripe.entries.computeIfAbsent(key, k -> new Entry(loginIdCapacity, now));
+            entry.lastUsedAt = now;
+            entry.failures++;
+            if (entry.failures >= lockoutThreshold) {
+                entry.failures = 0;
+                entry.lockedUntil = now + lockoutMillis;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 로그인 성공 시 로그인 ID의 실패 횟수와 버킷을 초기화합니다.
+     *
+     * @param loginId 로그인 ID
+     */
+    public void recordSuccess(String loginId) {
+        if (!enabled) {
+            return;
+        }
+        String key = "id:" + loginId;
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.entries.remove(key);
+        }
+    }
+
+    /** 잠금 시간 (millis) */
+    public long getLockoutMillis() {
+        return lockoutMillis;
+    }
+
+    /** 잠금 기준 연속 실패 횟수 */
+    public int getLockoutThreshold() {
+        return lockoutThreshold;
+    }
+
+    /** 오래 사용하지 않은 항목을 정리합니다. */
+    @Scheduled(fixedDelayString = "${security.login-throttle.sweep-interval-millis:60000}")
+    public void sweep() {
+        if (stripes == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                // 접근 순서이므로 앞에서부터 오래된 항목
+                Iterator<Entry> it = stripe.entries.values().iterator();
+                while (it.hasNext()) {
+                    Entry entry = it.next();
+                    if (now - entry.lastUsedAt < idleTtlMillis) {
+                        break;
+                    }
+                    if (entry.lockedUntil <= now) {
+                        it.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    // 토큰을 하나 쓰고 0을, 비어 있으면 다음 토큰까지 기다릴 시간을 반환
+    private long take(String key, double capacity, long refillMillis, long now) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            Entry entry = stripe.entries.computeIfAbsent(key, k -> new Entry(capacity, now));
+            entry.lastUsedAt = now;
+            if (entry.lockedUntil > now) {
+                throw new RetryLaterException(ErrorCode.ACCOUNT_LOCKED, toSeconds(entry.lockedUntil - now));
+            }
+            entry.tokens = Math.min(capacity, entry.tokens + (double) (now - entry.refilledAt) / refillMillis);
+            entry.refilledAt = now;
+            if (entry.tokens < 1) {
+                return (long) Math.ceil((1 - entry.tokens) * refillMillis);
+            }
+            entry.tokens -= 1;
+            return 0;
+        }
+    }
+
+    private Stripe stripeOf(String key) {
+        return stripes[Math.floorMod(key.hashCode(), stripes.length)];
+    }
+
+    private long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static final class Stripe {
+        private final Map<String, Entry> entries;
+
+        Stripe(int maxEntries) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    private static final class Entry {
+        private double tokens;
+        private long refilledAt;
+        private long lastUsedAt;
+        private int failures;
+        private long lockedUntil;
+
+        Entry(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+            this.lastUsedAt = now;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.shopping.global.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 사용자 ID 주입
+ *
+ * <p>
+ * 컨트롤러 메서드의 Long 파라미터에 붙이면 SecurityContext의 {@link UserPrincipal}에서 userId를 꺼내 넣고,
+ * UserPrincipal 파라미터에 붙이면 principal을 그대로 넣습니다 (토큰 ID가 필요한 로그아웃 등).
+ * 토큰은 필터에서 이미 검증되었으므로 컨트롤러에서 Authorization 헤더를 다시 파싱하지 않습니다.
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
@@ -0,0 +1,40 @@
+package com.example.shopping.global.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.example.shopping.domain.exception.BusinessException;
+import com.example.shopping.domain.exception.ErrorCode;
+
+/**
+ * {@link LoginUser} 파라미터에 SecurityContext의 사용자 ID(Long) 또는 {@link UserPrincipal}을 주입합니다.
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Component
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && (Long.class.equals(parameter.getParameterType())
+                        || UserPrincipal.class.equals(parameter.getParameterType()));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        return UserPrincipal.class.equals(parameter.getParameterType()) ? principal : principal.userId();
+    }
+}
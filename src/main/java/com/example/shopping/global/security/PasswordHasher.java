@@ -0,0 +1,157 @@
+package com.example.shopping.global.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.exception.RetryLaterException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * <p>
+ * BCrypt 해시와 검증(요청당 수십 ms의 CPU)을 크기가 제한된 전용 스레드 풀에서 실행합니다.
+ * 로그인이 몰려도 동시에 BCrypt를 계산하는 스레드 수는 threads로 제한되므로 다른 API가 쓸 CPU를 빼앗지 않습니다.
+ * 요청 스레드는 결과가 나올 때까지 기다리므로 해시하는 동안 풀려나지는 않으며, 대신 대기 시간이
+ * 최대 queue-timeout-millis의 두 배로 제한됩니다.
+ *
+ * <p>
+ * 부하 제어:
+ * <ul>
+ * <li>대기열(queue-capacity)이 가득 차면 바로 429(Retry-After)로 거절합니다.</li>
+ * <li>대기열에서 queue-timeout-millis 안에 시작하지 못한 작업은 실행하지 않고 429로 거절합니다.
+ * 클라이언트가 이미 포기했을 요청의 해시를 계산하느라 CPU를 쓰지 않습니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 비밀번호 비용(cost factor)은 security.password.bcrypt-strength로 설정하며, {@link #needsRehash(String)}로
+ * 저장된 해시의 비용이 설정보다 낮은지 확인하여 로그인 성공 시 다시 해시할 수 있습니다.
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${security.password.threads:2}")
+    private int threads;
+
+    @Value("${security.password.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${security.password.queue-timeout-millis:2000}")
+    private long queueTimeoutMillis;
+
+    @Value("${security.password.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 비밀번호를 해시합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시값
+     * @throws RetryLaterException 해시 실행기가 바쁜 경우 (429)
+     */
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호가 해시값과 일치하는지 확인합니다.
+     *
+     * @param rawPassword 평문 비밀번호
+     * @param hash        저장된 해시값
+     * @return 일치하면 true
+     * @throws RetryLaterException 해시 실행기가 바쁜 경우 (429)
+     */
+    public boolean matches(String rawPassword, String hash) {
+        if (rawPassword == null || hash == null) {
+            return false;
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, hash));
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮아 다시 해시해야 하는지 확인합니다 (해시 계산 없음).
+     *
+     * @param hash 저장된 해시값
+     * @return 다시 해시해야 하면 true
+     */
+    public boolean needsRehash(String hash) {
+        return hash != null && passwordEncoder.upgradeEncoding(hash);
+    }
+
+    private <T> T run(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (System.nanoTime() - submittedAt > timeoutNanos) {
+                    throw new TimeoutException("대기 시간 초과");
+                }
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            throw new RetryLaterException(ErrorCode.PASSWORD_HASHING_BUSY, retryAfterSeconds);
+        }
+
+        try {
+            // 요청 스레드는 여기서 기다림 (대기 시간 + 해시 계산 여유 시간)
+            return future.get(timeoutNanos * 2, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RetryLaterException(ErrorCode.PASSWORD_HASHING_BUSY, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RetryLaterException(ErrorCode.PASSWORD_HASHING_BUSY, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new RetryLaterException(ErrorCode.PASSWORD_HASHING_BUSY, retryAfterSeconds);
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.shopping.global.security;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 추가 전용 로그
+ *
+ * <p>
+ * RefreshTokenStore의 변경(저장, 삭제)을 한 줄씩 파일 끝에 추가하고, 서버 재시작 시 스냅샷과 로그를 차례로 읽어
+ * 메모리 상태를 복원합니다. 토큰 원문은 기록하지 않고 SHA-256 다이제스트만 기록합니다.
+ *
+ * <p>
+ * 파일:
+ * <ul>
+ * <li>refresh-tokens.log: 현재 로그 (P 사용자키 만료시각 다이제스트 / D 사용자키)</li>
+ * <li>refresh-tokens.log.old: 압축 중인 이전 로그 (압축이 끝나면 삭제)</li>
+ * <li>refresh-tokens.snapshot: 압축 시점의 살아 있는 토큰 (P 레코드만)</li>
+ * </ul>
+ *
+ * <p>
+ * 압축은 먼저 로그를 .old로 바꾸고 새 로그에 계속 기록하면서 스냅샷을 쓰므로 압축 중에도 쓰기가 멈추지 않습니다.
+ * 복원은 스냅샷 → .old → 현재 로그 순서로 재생하며, 레코드는 마지막 값이 이기므로 압축 중 중단되어도 결과가 같습니다.
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+class RefreshTokenLog {
+
+    private static final String LOG_FILE = "refresh-tokens.log";
+    private static final String OLD_LOG_FILE = "refresh-tokens.log.old";
+    private static final String SNAPSHOT_FILE = "refresh-tokens.snapshot";
+
+    private final Path dir;
+    private final boolean fsync;
+
+    /** 현재 로그 (this로 동기화) */
+    private FileChannel channel;
+
+    /** 마지막 압축 이후 추가된 레코드 수 */
+    private long appendedSinceCompaction;
+
+    RefreshTokenLog(Path dir, boolean fsync) {
+        this.dir = dir;
+        this.fsync = fsync;
+    }
+
+    /**
+     * 스냅샷과 로그를 재생하고 현재 로그를 추가 모드로 엽니다.
+     *
+     * @param put    저장 레코드 처리 (사용자 키, 레코드)
+     * @param delete 삭제 레코드 처리 (사용자 키)
+     */
+    synchronized void open(BiConsumer<String, Record> put, Consumer<String> delete) {
+        try {
+            Files.createDirectories(dir);
+            replay(dir.resolve(SNAPSHOT_FILE), put, delete);
+            replay(dir.resolve(OLD_LOG_FILE), put, delete);
+            appendedSinceCompaction = replay(dir.resolve(LOG_FILE), put, delete);
+            channel = openLog();
+        } catch (IOException e) {
+            throw new UncheckedIOException("리프레시 토큰 로그를 열 수 없습니다: " + dir, e);
+        }
+    }
+
+    synchronized void appendPut(String userKey, String digest, long expiresAt) {
+        append("P " + userKey + " " + expiresAt + " " + digest + "\n");
+    }
+
+    synchronized void appendDelete(String userKey) {
+        append("D " + userKey + "\n");
+    }
+
+    synchronized long getAppendedSinceCompaction() {
+        return appendedSinceCompaction;
+    }
+
+    /**
+     * 로그를 살아 있는 토큰의 스냅샷으로 압축합니다.
+     *
+     * @param live 살아 있는 토큰 (사용자 키 → 레코드). 로그를 교체한 뒤에 호출해야 교체 전 변경이 스냅샷에 모두 포함됩니다.
+     */
+    void compact(Supplier<Map<String, Record>> live) throws IOException {
+        synchronized (this) {
+            channel.close();
+            Files.move(dir.resolve(LOG_FILE), dir.resolve(OLD_LOG_FILE), StandardCopyOption.REPLACE_EXISTING);
+            channel = openLog();
+            appendedSinceCompaction = 0;
+        }
+
+        Path tmp = dir.resolve(SNAPSHOT_FILE + ".tmp");
+        StringBuilder snapshot = new StringBuilder();
+        live.get().forEach((userKey, record) -> snapshot.append("P ").append(userKey).append(' ')
+                .append(record.expiresAt()).append(' ').append(record.digest()).append('\n'));
+        Files.writeString(tmp, snapshot, StandardCharsets.UTF_8);
+        Files.move(tmp, dir.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(dir.resolve(OLD_LOG_FILE));
+    }
+
+    synchronized void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("리프레시 토큰 로그 닫기 실패", e);
+        }
+    }
+
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(dir.resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void append(String line) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            appendedSinceCompaction++;
+        } catch (IOException e) {
+            // 기록 실패는 재시작 후 해당 토큰의 재로그인이 필요할 뿐이므로 요청은 실패시키지 않음
+            log.error("리프레시 토큰 로그 기록 실패", e);
+        }
+    }
+
+    // 파일을 재생하고 레코드 수를 반환 (마지막 줄이 잘려 있으면 무시)
+    private long replay(Path file, BiConsumer<String, Record> put, Consumer<String> delete) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (parts.length == 4 && "P".equals(parts[0]) && parts[2].chars().allMatch(Character::isDigit)) {
+                    put.accept(parts[1], new Record(parts[3], Long.parseLong(parts[2])));
+                } else if (parts.length == 2 && "D".equals(parts[0])) {
+                    delete.accept(parts[1]);
+                } else {
+                    log.warn("리프레시 토큰 로그의 손상된 레코드 무시: {}", file);
+                    continue;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 사용자의 리프레시 토큰 레코드
+     *
+     * @param digest    토큰 SHA-256 다이제스트
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    record Record(String digest, long expiresAt) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.shopping.global.security;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.entity.user.RefreshToken;
+import com.example.shopping.domain.repository.RefreshTokenRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리프레시 토큰 저장소
+ *
+ * <p>
+ * 사용자별 리프레시 토큰을 메모리의 분할(shard) 맵에 만료 시각과 함께 보관하여, 로그인과 토큰 재발급(rotation)이
+ * DB 쓰기와 findByKey 조회 없이 메모리 연산으로 끝나게 합니다.
+ *
+ * <p>
+ * 저장 방식 (jwt.refresh-store.backend):
+ * <ul>
+ * <li>memory (기본): 메모리 맵 + 로컬 추가 전용 로그({@link RefreshTokenLog}). 재시작 시 로그를 재생하여 복원하고,
+ * 로그가 살아 있는 토큰 수보다 충분히 커지면 스냅샷으로 압축합니다.</li>
+ * <li>database: 기존 refresh_token 테이블을 사용합니다. 여러 서버로 운영하여 토큰을 공유해야 할 때 사용합니다.
+ * 각 작업은 짧은 트랜잭션에서 실행하므로(호출자의 트랜잭션이 있으면 참여) 트랜잭션 밖의 로그인에서도 변경이 저장됩니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>토큰 원문은 보관하지 않고 SHA-256 다이제스트만 메모리와 로그에 둡니다.</li>
+ * <li>memory 방식은 서버별 저장소이므로 여러 서버 뒤에서는 같은 서버로 라우팅되거나 database 방식을 써야 합니다.</li>
+ * <li>만료된 토큰은 조회 시 없는 것으로 취급하고, 주기 작업과 압축 때 정리합니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.refresh-store.backend:memory}")
+    private String backend;
+
+    @Value("${jwt.refresh-store.shards:16}")
+    private int shardCount;
+
+    @Value("${jwt.refresh-store.log-dir:./data/refresh-tokens}")
+    private String logDir;
+
+    @Value("${jwt.refresh-store.fsync:false}")
+    private boolean fsync;
+
+    @Value("${jwt.refresh-store.compaction-min-records:10000}")
+    private long compactionMinRecords;
+
+    /** 사용자 키 → 토큰 레코드 (각 shard로 동기화) */
+    private Map<String, RefreshTokenLog.Record>[] shards;
+
+    private RefreshTokenLog tokenLog;
+
+    /** 재발급 결과 */
+    public enum RotateResult {
+        ROTATED, NOT_FOUND, MISMATCH
+    }
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void start() {
+        if (useDatabase()) {
+            return;
+        }
+        shards = new Map[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new HashMap<>();
+        }
+        tokenLog = new RefreshTokenLog(Path.of(logDir), fsync);
+        tokenLog.open((userKey, record) -> shardOf(userKey).put(userKey, record),
+                userKey -> shardOf(userKey).remove(userKey));
+        compact(); // 재생한 로그를 스냅샷으로 정리하고 이전 압축의 남은 파일 제거
+    }
+
+    @PreDestroy
+    void stop() {
+        if (tokenLog != null) {
+            tokenLog.close();
+        }
+    }
+
+    /**
+     * 사용자의 리프레시 토큰을 저장합니다 (이전 토큰은 대체).
+     *
+     * @param userKey   사용자 키 (user_id 문자열)
+     * @param token     리프레시 토큰
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void save(String userKey, String token, long expiresAt) {
+        if (useDatabase()) {
+            // 트랜잭션 밖에서 호출해도(로그인) 변경 감지가 반영되도록 짧은 트랜잭션으로 실행 (호출자 트랜잭션이 있으면 참여)
+            LocalDateTime expiry = toDateTime(expiresAt);
+            transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.findByKey(userKey).ifPresentOrElse(
+                    rt -> rt.updateValue(token, expiry),
+                    () -> refreshTokenRepository.save(
+                            RefreshToken.builder().key(userKey).value(token).expiresAt(expiry).build())));
+            return;
+        }
+        String digest = TokenDigest.sha256(token);
+        Map<String, RefreshTokenLog.Record> shard = shardOf(userKey);
+        synchronized (shard) {
+            shard.put(userKey, new RefreshTokenLog.Record(digest, expiresAt));
+            tokenLog.appendPut(userKey, digest, expiresAt);
+        }
+    }
+
+    /**
+     * 제시된 리프레시 토큰이 저장된 토큰과 같으면 새 토큰으로 교체합니다.
+     *
+     * @param userKey   사용자 키
+     * @param presented 클라이언트가 제시한 리프레시 토큰
+     * @param newToken  새 리프레시 토큰
+     * @param expiresAt 새 토큰 만료 시각 (epoch millis)
+     * @return 교체 결과
+     */
+    public RotateResult rotate(String userKey, String presented, String newToken, long expiresAt) {
+        if (useDatabase()) {
+            return transactionTemplate.execute(status -> rotateInDatabase(userKey, presented, newToken, expiresAt));
+        }
+        String presentedDigest = TokenDigest.sha256(presented);
+        String newDigest = TokenDigest.sha256(newToken);
+        Map<String, RefreshTokenLog.Record> shard = shardOf(userKey);
+        synchronized (shard) {
+            RefreshTokenLog.Record stored = shard.get(userKey);
+            if (stored == null || stored.expiresAt() <= System.currentTimeMillis()) {
+                return RotateResult.NOT_FOUND;
+            }
+            if (!stored.digest().equals(presentedDigest)) {
+                return RotateResult.MISMATCH;
+            }
+            shard.put(userKey, new RefreshTokenLog.Record(newDigest, expiresAt));
+            tokenLog.appendPut(userKey, newDigest, expiresAt);
+            return RotateResult.ROTATED;
+        }
+    }
+
+    /**
+     * 사용자의 리프레시 토큰을 삭제합니다.
+     *
+     * @param userKey 사용자 키
+     */
+    public void remove(String userKey) {
+        if (useDatabase()) {
+            transactionTemplate.executeWithoutResult(
+                    status -> refreshTokenRepository.findByKey(userKey).ifPresent(refreshTokenRepository::delete));
+            return;
+        }
+        Map<String, RefreshTokenLog.Record> shard = shardOf(userKey);
+        synchronized (shard) {
+            if (shard.remove(userKey) != null) {
+                tokenLog.appendDelete(userKey);
+            }
+        }
+    }
+
+    /**
+     * 만료된 토큰을 정리하고, 로그가 살아 있는 토큰 수의 두 배와 compaction-min-records를 넘으면 압축합니다.
+     */
+    @Scheduled(initialDelayString = "${jwt.refresh-store.compaction-interval-millis:600000}",
+            fixedDelayString = "${jwt.refresh-store.compaction-interval-millis:600000}")
+    public void maintain() {
+        if (useDatabase()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long live = 0;
+        for (Map<String, RefreshTokenLog.Record> shard : shards) {
+            synchronized (shard) {
+                shard.values().removeIf(record -> record.expiresAt() <= now);
+                live += shard.size();
+            }
+        }
+        long appended = tokenLog.getAppendedSinceCompaction();
+        if (appended >= compactionMinRecords && appended > live * 2) {
+            compact();
+        }
+    }
+
+    private synchronized void compact() {
+        long started = System.currentTimeMillis();
+        try {
+            tokenLog.compact(this::liveRecords);
+            log.info("리프레시 토큰 로그 압축: {}ms", System.currentTimeMillis() - started);
+        } catch (IOException e) {
+            log.error("리프레시 토큰 로그 압축 실패", e);
+        }
+    }
+
+    private Map<String, RefreshTokenLog.Record> liveRecords() {
+        long now = System.currentTimeMillis();
+        Map<String, RefreshTokenLog.Record> live = new HashMap<>();
+        for (Map<String, RefreshTokenLog.Record> shard : shards) {
+            synchronized (shard) {
+                shard.forEach((userKey, record) -> {
+                    if (record.expiresAt() > now) {
+                        live.put(userKey, record);
+                    }
+                });
+            }
+        }
+        return live;
+    }
+
+    private RotateResult rotateInDatabase(String userKey, String presented, String newToken, long expiresAt) {
+        RefreshToken stored = refreshTokenRepository.findByKey(userKey).orElse(null);
+        if (stored == null || stored.isExpired(LocalDateTime.now())) {
+            return RotateResult.NOT_FOUND;
+        }
+        if (!stored.getValue().equals(presented)) {
+            return RotateResult.MISMATCH;
+        }
+        stored.updateValue(newToken, toDateTime(expiresAt));
+        return RotateResult.ROTATED;
+    }
+
+    private Map<String, RefreshTokenLog.Record> shardOf(String userKey) {
+        return shards[Math.floorMod(userKey.hashCode(), shards.length)];
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private boolean useDatabase() {
+        return "database".equalsIgnoreCase(backend);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.shopping.global.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기가 제한된 LRU 캐시
+ *
+ * <p>
+ * 키를 해시하여 구간으로 나누고, 구간마다 잠금과 접근 순서 LinkedHashMap을 둡니다 ({@link LoginThrottle}과 같은 구조).
+ * 구간이 가득 차면 넣을 때 가장 오래 사용하지 않은 항목 하나를 버리므로, 캐시가 가득 찬 상태에서도
+ * 넣기와 조회가 항목 수와 관계없이 일정한 시간에 끝납니다. 만료 확인은 값을 쓰는 쪽에서 합니다.
+ *
+ * @param <K> 키
+ * @param <V> 값
+ * @author shopping-server
+ * @since 1.0
+ */
+final class StripedLruCache<K, V> {
+
+    private static final int STRIPES = 16;
+
+    private final Map<K, V>[] stripes;
+
+    /**
+     * @param maxSize 최대 항목 수 (구간마다 maxSize / 구간 수까지, 최소 1)
+     */
+    @SuppressWarnings("unchecked")
+    StripedLruCache(int maxSize) {
+        int maxPerStripe = Math.max(1, (maxSize + STRIPES - 1) / STRIPES);
+        stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > maxPerStripe;
+                }
+            };
+        }
+    }
+
+    V get(K key) {
+        Map<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    void put(K key, V value) {
+        Map<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    void remove(K key) {
+        Map<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    /** 현재 값이 value일 때만 지웁니다 (그 사이 다시 넣은 값은 유지). */
+    void remove(K key, V value) {
+        Map<K, V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.remove(key, value);
+        }
+    }
+
+    private Map<K, V> stripeOf(K key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+}
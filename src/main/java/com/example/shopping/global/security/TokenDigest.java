@@ -0,0 +1,30 @@
+package com.example.shopping.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 다이제스트
+ *
+ * <p>
+ * 캐시나 저장소의 키로 토큰 원문 대신 SHA-256 다이제스트(hex)를 사용하여 메모리와 파일에 토큰이 남지 않게 합니다.
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    public static String sha256(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
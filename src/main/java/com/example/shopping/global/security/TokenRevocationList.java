@@ -0,0 +1,217 @@
+package com.example.shopping.global.security;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 액세스 토큰 폐기 목록
+ *
+ * <p>
+ * 로그아웃한 액세스 토큰의 ID(jti)를 토큰 만료 시각까지 보관하여, 만료 전이라도 인증되지 않게 합니다.
+ * JwtAuthenticationFilter가 모든 인증 요청에서 컨트롤러보다 먼저 확인합니다.
+ *
+ * <p>
+ * 구조:
+ * <ul>
+ * <li>Bloom filter: 대부분의 요청(폐기되지 않은 토큰)은 여기서 바로 false로 끝납니다.</li>
+ * <li>정확한 목록 (jti → 만료 시각): Bloom filter가 true일 때만 확인하여 잘못된 양성을 걸러냅니다.</li>
+ * <li>만료된 항목은 purge-interval-millis마다 지우고, 지울 수 없는 Bloom filter는 남은 항목으로 다시 만들어 교체합니다.</li>
+ * </ul>
+ * 따라서 메모리는 만료 전에 폐기된 토큰 수에 비례하고, 확인 비용은 O(1)입니다.
+ *
+ * <p>
+ * 재시작 복원: 폐기할 때마다 log-file에 "jti 만료시각" 한 줄을 추가하고, 시작 시 파일을 읽어 만료되지 않은 항목으로
+ * 목록과 Bloom filter를 다시 만듭니다. 만료된 항목을 정리할 때 파일도 남은 항목으로 다시 씁니다.
+ * 로그아웃은 드물므로 추가와 다시 쓰기는 하나의 잠금으로 직렬화합니다.
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>목록과 파일은 서버별이므로 여러 서버로 운영하면 로그아웃한 서버에서만 즉시 폐기됩니다.</li>
+ * <li>파일 기록에 실패한 폐기는 메모리에만 남으므로, 그 서버가 재시작되면 토큰 만료까지 다시 유효합니다.</li>
+ * <li>jti가 없는 토큰(이 기능 이전에 발급된 토큰)은 폐기할 수 없고 만료까지 유효합니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${jwt.revocation.log-file:./data/revoked-tokens.log}")
+    private String logFile;
+
+    /** 폐기된 토큰 ID → 토큰 만료 시각 (epoch millis) */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    /** 폐기 로그 (this로 동기화) */
+    private FileChannel channel;
+
+    @PostConstruct
+    void init() {
+        Path file = Path.of(logFile);
+        long now = System.currentTimeMillis();
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.exists(file)) {
+                replay(file, now);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("토큰 폐기 로그를 읽을 수 없습니다: " + file, e);
+        }
+        BloomFilter restored = new BloomFilter(expectedInsertions, falsePositiveRate);
+        revoked.keySet().forEach(restored::add);
+        filter = restored;
+        rewriteLog(); // 재생한 로그에서 만료된 항목 제거
+        if (!revoked.isEmpty()) {
+            log.info("폐기된 액세스 토큰 {}건을 복원했습니다", revoked.size());
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("토큰 폐기 로그 닫기 실패", e);
+        }
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기합니다.
+     *
+     * @param tokenId   토큰 ID (jti)
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        synchronized (this) {
+            // 목록에 먼저 넣어야 필터 교체 중에 추가된 항목도 새 필터에 반영됨
+            revoked.put(tokenId, expiresAt);
+            append(tokenId + " " + expiresAt + "\n");
+        }
+        filter.add(tokenId);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     *
+     * @param tokenId 토큰 ID (jti, null이면 폐기 불가 토큰)
+     * @return 만료 전에 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /** 만료된 항목을 지우고 Bloom filter를 남은 항목으로 다시 만듭니다. */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-millis:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        if (before == revoked.size()) {
+            return; // 지운 항목이 없으면 필터도 그대로
+        }
+
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        // 다시 만드는 동안 revoke된 항목이 이전 필터에만 들어갔을 수 있으므로 한 번 더 반영
+        revoked.keySet().forEach(rebuilt::add);
+        rewriteLog();
+        log.debug("만료된 폐기 토큰 정리: {}건 → {}건", before, revoked.size());
+    }
+
+    /** 만료 전 폐기 토큰 수 */
+    public int size() {
+        return revoked.size();
+    }
+
+    // 만료되지 않은 항목만 목록에 넣음 (손상된 줄과 잘린 마지막 줄은 무시)
+    private void replay(Path file, long now) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (parts.length != 2 || parts[1].isEmpty() || !parts[1].chars().allMatch(Character::isDigit)) {
+                    log.warn("토큰 폐기 로그의 손상된 레코드 무시: {}", file);
+                    continue;
+                }
+                long expiresAt = Long.parseLong(parts[1]);
+                if (expiresAt > now) {
+                    revoked.put(parts[0], expiresAt);
+                }
+            }
+        }
+    }
+
+    // 현재 목록으로 로그를 다시 쓰고 추가 모드로 엶 (임시 파일에 쓴 뒤 이름을 바꾸므로 중간에 종료되어도 이전 로그가 남음)
+    private synchronized void rewriteLog() {
+        Path file = Path.of(logFile);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        StringBuilder live = new StringBuilder();
+        revoked.forEach((tokenId, expiresAt) -> live.append(tokenId).append(' ').append(expiresAt).append('\n'));
+        try {
+            close();
+            Files.writeString(tmp, live, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error("토큰 폐기 로그 정리 실패 (기존 로그에 계속 추가)", e);
+        }
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("토큰 폐기 로그를 열 수 없습니다: " + file, e);
+        }
+    }
+
+    private void append(String line) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // 기록 실패는 재시작 후 해당 토큰이 만료까지 다시 유효해질 뿐이므로 로그아웃은 실패시키지 않음
+            log.error("토큰 폐기 로그 기록 실패", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.shopping.global.security;
+
+import java.util.List;
+
+/**
+ * 인증된 사용자 정보
+ *
+ * <p>
+ * JwtAuthenticationFilter가 토큰을 검증한 뒤 SecurityContext에 넣는 principal입니다.
+ * 컨트롤러에서는 {@link LoginUser}로 userId(또는 로그아웃처럼 토큰 정보가 필요하면 UserPrincipal 전체)를 받습니다.
+ *
+ * @param userId  사용자 ID (토큰 subject)
+ * @param roles   권한 코드 목록 (토큰 roles 클레임)
+ * @param tokenId   토큰 ID (jti 클레임, 폐기 확인용. 이전에 발급된 토큰은 null)
+ * @param expiresAt 토큰 만료 시각 (epoch millis, 로그아웃 시 이 시각까지 폐기 목록에 유지)
+ * @author shopping-server
+ * @since 1.0
+ */
+public record UserPrincipal(Long userId, List<String> roles, String tokenId, long expiresAt) {
+}
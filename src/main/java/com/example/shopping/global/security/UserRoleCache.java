@@ -0,0 +1,136 @@
+package com.example.shopping.global.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.shopping.domain.entity.user.Role;
+import com.example.shopping.domain.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 권한 캐시
+ *
+ * <p>
+ * 사용자별 권한 코드(roles.role_code)를 ttl-millis 동안 캐시합니다. 로그인과 토큰 재발급 때 토큰의 roles 클레임을 만들고,
+ * 서비스의 관리자 확인에 사용하므로 관리자 요청마다 user_role_map 조인 쿼리를 실행하지 않습니다.
+ *
+ * <p>
+ * 권한 규칙:
+ * <ul>
+ * <li>사용자의 role_code를 그대로 권한으로 사용합니다.</li>
+ * <li>role_type이 ADMIN인 역할이 있으면 ROLE_ADMIN을 추가합니다 (SecurityConfig의 hasRole("ADMIN") 기준).</li>
+ * <li>역할이 없으면 ROLE_USER를 사용합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>역할이나 상태를 바꾸는 코드는 {@link #invalidate(Long)}를 호출해야 합니다 (UserService.updateUserStatus).
+ * 트랜잭션 안에서 호출하면 커밋 후에 지우므로, 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않습니다.
+ * 다른 서버의 캐시와 이미 발급된 토큰에는 ttl-millis와 액세스 토큰 만료 시간 안에 반영됩니다.</li>
+ * <li>max-size에 도달하면 가장 오래 사용하지 않은 항목부터 버립니다 ({@link StripedLruCache}).</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class UserRoleCache {
+
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+    public static final String ROLE_USER = "ROLE_USER";
+
+    private static final String ADMIN_ROLE_TYPE = "ADMIN";
+
+    private final UserRepository userRepository;
+
+    @Value("${security.role-cache.ttl-millis:300000}")
+    private long ttlMillis;
+
+    @Value("${security.role-cache.max-size:10000}")
+    private int maxSize;
+
+    private StripedLruCache<Long, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new StripedLruCache<>(maxSize);
+    }
+
+    /**
+     * 사용자의 권한 코드 목록을 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 권한 코드 목록 (변경 불가)
+     */
+    public List<String> getRoles(Long userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.roles();
+        }
+
+        List<String> roles = load(userId);
+        if (maxSize > 0) {
+            entries.put(userId, new Entry(roles, now + ttlMillis));
+        }
+        return roles;
+    }
+
+    /**
+     * 관리자 여부를 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 관리자이면 true
+     */
+    public boolean isAdmin(Long userId) {
+        return userId != null && getRoles(userId).contains(ROLE_ADMIN);
+    }
+
+    /**
+     * 역할이나 상태가 바뀐 사용자의 캐시를 지웁니다 (트랜잭션 안이면 커밋 후에 지움).
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userId);
+                }
+            });
+            return;
+        }
+        entries.remove(userId);
+    }
+
+    private List<String> load(Long userId) {
+        List<String> roles = new ArrayList<>();
+        boolean admin = false;
+        for (Role role : userRepository.findRoles(userId)) {
+            if (role.getRoleCode() != null && !roles.contains(role.getRoleCode())) {
+                roles.add(role.getRoleCode());
+            }
+            admin |= ADMIN_ROLE_TYPE.equals(role.getRoleType());
+        }
+        if (admin && !roles.contains(ROLE_ADMIN)) {
+            roles.add(ROLE_ADMIN);
+        }
+        if (roles.isEmpty()) {
+            roles.add(ROLE_USER);
+        }
+        return List.copyOf(roles);
+    }
+
+    private record Entry(List<String> roles, long expiresAt) {
+    }
+}
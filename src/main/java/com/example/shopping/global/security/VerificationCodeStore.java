@@ -0,0 +1,205 @@
+package com.example.shopping.global.security;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.shopping.domain.entity.user.EmailVerification;
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.exception.RetryLaterException;
+import com.example.shopping.domain.repository.EmailVerificationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비밀번호 찾기 인증코드 저장소
+ *
+ * <p>
+ * 이메일별 인증코드를 ttl-millis 동안 메모리 맵에 보관하여, 코드 발송과 비밀번호 초기화가
+ * email_verification 테이블 쓰기와 조회 없이 메모리 연산으로 끝나게 합니다.
+ *
+ * <p>
+ * 규칙:
+ * <ul>
+ * <li>이메일마다 마지막으로 발송한 코드 하나만 유효합니다.</li>
+ * <li>검증에 성공한 코드는 한 번만 쓸 수 있습니다. 트랜잭션 안에서 검증하면 커밋 후에 지우고, 롤백되면 코드를 되살려
+ * 비밀번호 초기화가 실패해도 같은 코드로 다시 시도할 수 있습니다 (그 사이 같은 코드의 다른 검증은 INVALID).</li>
+ * <li>틀린 코드를 max-attempts번 입력하면 코드를 지우고, 새 코드를 요청해야 합니다.</li>
+ * </ul>
+ *
+ * <p>
+ * 저장 방식 (security.verification-code.backend):
+ * <ul>
+ * <li>memory (기본): 서버별 메모리 맵. 코드 원문이 아닌 SHA-256 다이제스트를 보관하고, 만료된 코드는 주기적으로 정리합니다.</li>
+ * <li>database: 기존 email_verification 테이블을 사용합니다. 발송과 검증이 다른 서버로 갈 수 있는 여러 서버 운영 시 사용하며,
+ * 사용 여부(is_verified)로 한 번만 쓸 수 있지만 입력 횟수는 세지 않습니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class VerificationCodeStore {
+
+    private final EmailVerificationRepository emailVerificationRepository;
+
+    @Value("${security.verification-code.backend:memory}")
+    private String backend;
+
+    @Value("${security.verification-code.ttl-millis:300000}")
+    private long ttlMillis;
+
+    @Value("${security.verification-code.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${security.verification-code.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${security.verification-code.retry-after-seconds:60}")
+    private long retryAfterSeconds;
+
+    /** 이메일 → 인증코드 */
+    private final Map<String, Entry> codes = new ConcurrentHashMap<>();
+
+    /** 인증코드 유효 시간 (millis) */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /** 검증 결과 */
+    public enum VerifyResult {
+        VERIFIED, INVALID, EXPIRED, ATTEMPTS_EXCEEDED
+    }
+
+    /**
+     * 이메일의 인증코드를 저장합니다 (이전 코드는 대체).
+     *
+     * @param email 이메일
+     * @param code  인증코드
+     * @throws RetryLaterException 저장된 코드가 max-entries에 도달한 경우 (429)
+     */
+    public void save(String email, String code) {
+        if (useDatabase()) {
+            emailVerificationRepository.save(EmailVerification.builder()
+                    .email(email)
+                    .verificationCode(code)
+                    .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(ttlMillis)))
+                    .isVerified(false)
+                    .build());
+            return;
+        }
+        if (codes.size() >= maxEntries && !codes.containsKey(email)) {
+            purgeExpired();
+            if (codes.size() >= maxEntries) {
+                throw new RetryLaterException(ErrorCode.VERIFICATION_REQUESTS_BUSY, retryAfterSeconds);
+            }
+        }
+        codes.put(email, new Entry(TokenDigest.sha256(code), System.currentTimeMillis() + ttlMillis, 0, false));
+    }
+
+    /**
+     * 인증코드를 검증하고, 성공하면 사용 처리합니다.
+     *
+     * @param email 이메일
+     * @param code  사용자가 입력한 인증코드
+     * @return 검증 결과
+     */
+    public VerifyResult verify(String email, String code) {
+        if (code == null) {
+            return VerifyResult.INVALID;
+        }
+        if (useDatabase()) {
+            return verifyInDatabase(email, code);
+        }
+        String digest = TokenDigest.sha256(code);
+        long now = System.currentTimeMillis();
+        VerifyResult[] result = { VerifyResult.INVALID };
+        Entry[] verified = new Entry[2]; // 검증 전 항목, 사용 예약한 항목
+        codes.computeIfPresent(email, (key, entry) -> {
+            if (entry.reserved()) {
+                return entry; // 다른 요청이 사용 중 (커밋되면 지워짐)
+            }
+            if (entry.expiresAt() <= now) {
+                result[0] = VerifyResult.EXPIRED;
+                return null;
+            }
+            if (entry.digest().equals(digest)) {
+                result[0] = VerifyResult.VERIFIED;
+                verified[0] = entry;
+                verified[1] = new Entry(entry.digest(), entry.expiresAt(), entry.attempts(), true);
+                return verified[1];
+            }
+            int attempts = entry.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                result[0] = VerifyResult.ATTEMPTS_EXCEEDED;
+                return null;
+            }
+            return new Entry(entry.digest(), entry.expiresAt(), attempts, false);
+        });
+        if (verified[1] != null) {
+            consume(email, verified[0], verified[1]);
+        }
+        return result[0];
+    }
+
+    // 한 번만 사용: 트랜잭션 밖이면 바로, 안이면 커밋 후 지우고 롤백되면 검증 전 항목으로 되돌림
+    private void consume(String email, Entry original, Entry reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            codes.remove(email, reserved);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    codes.remove(email, reserved);
+                } else {
+                    codes.replace(email, reserved, original);
+                }
+            }
+        });
+    }
+
+    /** 만료된 인증코드를 정리합니다 (database 방식은 ExpiredCredentialPurgeJob이 정리). */
+    @Scheduled(fixedDelayString = "${security.verification-code.purge-interval-millis:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        codes.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    // 호출자의 트랜잭션 안에서 실행 (사용 처리 변경 감지)
+    private VerifyResult verifyInDatabase(String email, String code) {
+        EmailVerification ev = emailVerificationRepository.findByEmailAndVerificationCode(email, code).orElse(null);
+        if (ev == null || ev.isVerified()) {
+            return VerifyResult.INVALID;
+        }
+        if (ev.getExpiresAt().isBefore(LocalDateTime.now())) {
+            return VerifyResult.EXPIRED;
+        }
+        ev.verify();
+        return VerifyResult.VERIFIED;
+    }
+
+    private boolean useDatabase() {
+        return "database".equalsIgnoreCase(backend);
+    }
+
+    /**
+     * 저장된 인증코드
+     *
+     * @param digest    코드의 SHA-256 다이제스트
+     * @param expiresAt 만료 시각 (epoch millis)
+     * @param attempts  틀린 입력 횟수
+     * @param reserved  검증에 성공하여 트랜잭션 커밋을 기다리는 중
+     */
+    private record Entry(String digest, long expiresAt, int attempts, boolean reserved) {
+    }
+}
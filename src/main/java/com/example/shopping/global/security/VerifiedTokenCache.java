@@ -0,0 +1,85 @@
+package com.example.shopping.global.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 검증된 토큰 캐시
+ *
+ * <p>
+ * 서명 검증을 마친 액세스 토큰의 principal을 토큰 만료 시각까지 캐시하여,
+ * 같은 토큰으로 반복 요청하는 클라이언트는 HMAC 검증과 JSON 파싱을 다시 하지 않습니다.
+ *
+ * <p>
+ * 주의사항:
+ * <ul>
+ * <li>키는 토큰 원문이 아니라 SHA-256 다이제스트이므로 메모리 덤프에 토큰이 남지 않습니다.</li>
+ * <li>max-size에 도달하면 가장 오래 사용하지 않은 항목부터 버립니다 ({@link StripedLruCache}). 만료된 항목은 조회 시 지우고,
+ * 조회되지 않는 만료 항목은 새 항목에 밀려 버려집니다.</li>
+ * <li>캐시는 서명과 만료만 대신합니다. 만료 전에 토큰을 무효화하려면 {@link #evict(String)}를 호출합니다.</li>
+ * </ul>
+ *
+ * @author shopping-server
+ * @since 1.0
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int maxSize;
+
+    private StripedLruCache<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = new StripedLruCache<>(maxSize);
+    }
+
+    /**
+     * 만료되지 않은 캐시 항목의 principal을 반환합니다.
+     *
+     * @param token 액세스 토큰
+     * @return principal (없거나 만료되었으면 null)
+     */
+    public UserPrincipal get(String token) {
+        String digest = TokenDigest.sha256(token);
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(digest, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    /**
+     * 검증된 토큰의 principal을 만료 시각까지 캐시합니다.
+     *
+     * @param token     액세스 토큰
+     * @param principal 토큰의 principal
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public void put(String token, UserPrincipal principal, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (maxSize <= 0 || expiresAt <= now) {
+            return;
+        }
+        entries.put(TokenDigest.sha256(token), new Entry(principal, expiresAt));
+    }
+
+    /**
+     * 토큰을 캐시에서 제거합니다.
+     *
+     * @param token 액세스 토큰
+     */
+    public void evict(String token) {
+        entries.remove(TokenDigest.sha256(token));
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAt) {
+    }
+}
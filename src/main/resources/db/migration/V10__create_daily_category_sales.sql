@@ -0,0 +1,10 @@
+-- 일별 카테고리별 매출 집계 (기간별 카테고리 통계용 부분 합계)
+CREATE TABLE daily_category_sales (
+    sales_date DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    category_name VARCHAR(50) NULL,
+    total_qty BIGINT NOT NULL,
+    total_sales BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (sales_date, category_id)
+);
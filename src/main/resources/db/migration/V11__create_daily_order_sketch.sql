@@ -0,0 +1,7 @@
+-- 일별 주문 스케치 (구매자 HyperLogLog, 주문 금액 t-digest 직렬화 값)
+CREATE TABLE daily_order_sketch (
+    sales_date DATE NOT NULL PRIMARY KEY,
+    buyers_hll MEDIUMBLOB NOT NULL,
+    order_value_digest MEDIUMBLOB NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
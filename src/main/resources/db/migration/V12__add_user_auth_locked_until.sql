@@ -0,0 +1,3 @@
+-- 연속 로그인 실패 잠금 해제 시간 (실패 횟수는 메모리에서 세고, 잠금 기준에 도달한 경우에만 저장)
+ALTER TABLE user_auth
+    ADD COLUMN locked_until DATETIME(6) NULL;
@@ -0,0 +1,12 @@
+-- 인증코드 검증 (WHERE email = ? AND verificationCode = ?, 엔티티 필드명이 그대로 컬럼명)
+CREATE INDEX idx_email_verification_email_code ON email_verification (email, verificationCode);
+-- 만료된 인증코드 정리 (WHERE expiresAt < ?)
+CREATE INDEX idx_email_verification_expires ON email_verification (expiresAt);
+
+-- 리프레시 토큰 만료 시각 (database 저장 방식, 만료된 행 정리용)
+-- 기존 행은 만료 시각을 알 수 없으므로 최대 유효기간(7일) 뒤로 설정
+ALTER TABLE refresh_token
+    ADD COLUMN expires_at DATETIME(6) NULL;
+UPDATE refresh_token SET expires_at = DATE_ADD(NOW(6), INTERVAL 7 DAY) WHERE expires_at IS NULL;
+ALTER TABLE refresh_token MODIFY expires_at DATETIME(6) NOT NULL;
+CREATE INDEX idx_refresh_token_expires ON refresh_token (expires_at);
@@ -0,0 +1,5 @@
+-- 매출 집계 복구 작업이 재계산에 이미 포함한 미전달 이벤트 (구독자가 전달받을 때 건너뜀)
+CREATE TABLE sales_rollup_applied_event (
+    event_id BIGINT NOT NULL PRIMARY KEY,
+    applied_at DATETIME(6) NOT NULL
+);
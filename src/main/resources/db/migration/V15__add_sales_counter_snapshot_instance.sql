@@ -0,0 +1,7 @@
+-- 실시간 매출 카운터 스냅샷을 서버별로 저장 (서버마다 자기 카운터만 복원)
+-- 기존 행은 여러 서버가 같은 행을 덮어쓴 값이라 어느 서버의 값인지 알 수 없으므로 삭제
+DELETE FROM sales_counter_snapshot;
+ALTER TABLE sales_counter_snapshot
+    ADD COLUMN instance_id VARCHAR(100) NOT NULL FIRST,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (instance_id, sales_date, category_id);
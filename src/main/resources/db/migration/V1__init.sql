@@ -0,0 +1,131 @@
+-- 초기 스키마 (Flyway 도입 전 운영 DB와 같은 구조, 엔티티 매핑 기준)
+-- 기존 운영 DB는 baseline-version 1로 등록되어 이 스크립트를 건너뛰고, 빈 DB에서만 실행됩니다.
+
+-- 회원
+CREATE TABLE users (
+    user_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    login_id VARCHAR(50) NOT NULL,
+    email VARCHAR(100) NULL,
+    phone VARCHAR(20) NULL,
+    status VARCHAR(20) NOT NULL,
+    join_type VARCHAR(20) NOT NULL,
+    last_login_at DATETIME(6) NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    UNIQUE KEY uk_users_login_id (login_id),
+    UNIQUE KEY uk_users_email (email),
+    UNIQUE KEY uk_users_phone (phone),
+    INDEX idx_users (email)
+);
+
+CREATE TABLE user_auth (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    password_hash VARCHAR(255) NULL,
+    password_updated_at DATETIME(6) NULL,
+    failed_login_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_user_auth_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE user_profile (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    birth_date DATE NULL,
+    gender VARCHAR(1) NULL,
+    CONSTRAINT fk_user_profile_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE roles (
+    role_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    role_code VARCHAR(50) NULL,
+    role_name VARCHAR(100) NULL,
+    role_type VARCHAR(20) NULL,
+    UNIQUE KEY uk_roles_role_code (role_code)
+);
+
+CREATE TABLE user_role_map (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_role_map_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_user_role_map_role FOREIGN KEY (role_id) REFERENCES roles (role_id)
+);
+
+-- 비밀번호 찾기 인증코드 (엔티티에 컬럼명이 지정되지 않아 필드명을 그대로 사용)
+CREATE TABLE email_verification (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    verificationCode VARCHAR(255) NOT NULL,
+    expiresAt DATETIME(6) NOT NULL,
+    isVerified BIT(1) NOT NULL
+);
+
+CREATE TABLE refresh_token (
+    user_key VARCHAR(255) NOT NULL PRIMARY KEY,
+    token_value VARCHAR(255) NOT NULL
+);
+
+-- 상품
+CREATE TABLE category (
+    category_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(30) NOT NULL,
+    UNIQUE KEY uk_category_name (name)
+);
+
+CREATE TABLE product (
+    product_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    category_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    price INT NOT NULL,
+    stock INT NOT NULL,
+    CONSTRAINT fk_product_category FOREIGN KEY (category_id) REFERENCES category (category_id)
+);
+
+CREATE TABLE product_image (
+    image_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT NOT NULL,
+    original_name VARCHAR(255) NULL,
+    store_name VARCHAR(255) NULL,
+    image_url VARCHAR(255) NULL,
+    is_thumbnail BIT(1) NOT NULL,
+    CONSTRAINT fk_product_image_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+-- 장바구니
+CREATE TABLE cart (
+    cart_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    UNIQUE KEY uk_cart_user_id (user_id)
+);
+
+CREATE TABLE cart_item (
+    cart_item_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    cart_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    qty INT NOT NULL,
+    UNIQUE KEY uk_cart_item_cart_product (cart_id, product_id),
+    CONSTRAINT fk_cart_item_cart FOREIGN KEY (cart_id) REFERENCES cart (cart_id),
+    CONSTRAINT fk_cart_item_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
+
+-- 주문
+CREATE TABLE orders (
+    order_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    tracking_number VARCHAR(255) NULL,
+    carrier VARCHAR(50) NULL,
+    total_amount INT NULL,
+    ordered_at DATETIME(6) NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL
+);
+
+CREATE TABLE order_item (
+    order_item_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    qty INT NOT NULL,
+    price_at_order INT NOT NULL,
+    CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES orders (order_id),
+    CONSTRAINT fk_order_item_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+);
@@ -0,0 +1,4 @@
+-- 주문 목록/상세/통계 조회 시 order_item 재계산을 피하기 위한 비정규화 컬럼
+ALTER TABLE orders
+    ADD COLUMN item_count INT NULL,
+    ADD COLUMN representative_product_name VARCHAR(150) NULL;
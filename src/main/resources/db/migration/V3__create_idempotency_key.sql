@@ -0,0 +1,8 @@
+-- 주문 생성 Idempotency-Key 기록
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    order_id BIGINT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    INDEX idx_idempotency_key_expires_at (expires_at)
+);
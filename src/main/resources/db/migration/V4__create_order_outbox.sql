@@ -0,0 +1,18 @@
+-- 주문 이벤트 아웃박스
+CREATE TABLE order_outbox (
+    event_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(30) NOT NULL,
+    order_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    order_status VARCHAR(20) NULL,
+    total_amount INT NULL,
+    item_count INT NULL,
+    occurred_at DATETIME(6) NOT NULL
+);
+
+-- 구독자별 전달 오프셋
+CREATE TABLE outbox_offset (
+    consumer_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    last_event_id BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,26 @@
+-- 오래된 종료 주문 보관 테이블
+CREATE TABLE orders_archive (
+    order_id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    tracking_number VARCHAR(255) NULL,
+    carrier VARCHAR(50) NULL,
+    total_amount INT NULL,
+    item_count INT NULL,
+    representative_product_name VARCHAR(150) NULL,
+    ordered_at DATETIME(6) NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    archived_at DATETIME(6) NOT NULL,
+    INDEX idx_orders_archive_user_id (user_id)
+);
+
+CREATE TABLE order_item_archive (
+    order_item_id BIGINT NOT NULL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    product_name VARCHAR(100) NOT NULL,
+    qty INT NOT NULL,
+    price_at_order INT NOT NULL,
+    INDEX idx_order_item_archive_order_id (order_id)
+);
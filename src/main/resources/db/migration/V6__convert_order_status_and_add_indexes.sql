@@ -0,0 +1,31 @@
+-- 주문 상태를 1바이트 코드로 변환 (OrderStatus: 1=complete, 2=shipping, 3=delivered, 9=cancel)
+-- 관리자가 자유 입력했던 값 중 알 수 없는 값은 complete(1)로 변환
+UPDATE orders SET status = CASE LOWER(status)
+    WHEN 'cancel' THEN '9'
+    WHEN 'shipping' THEN '2'
+    WHEN 'delivered' THEN '3'
+    ELSE '1'
+END;
+ALTER TABLE orders MODIFY status TINYINT NOT NULL;
+
+UPDATE orders_archive SET status = CASE LOWER(status)
+    WHEN 'cancel' THEN '9'
+    WHEN 'shipping' THEN '2'
+    WHEN 'delivered' THEN '3'
+    ELSE '1'
+END;
+ALTER TABLE orders_archive MODIFY status TINYINT NOT NULL;
+
+UPDATE order_outbox SET order_status = CASE LOWER(order_status)
+    WHEN 'cancel' THEN '9'
+    WHEN 'shipping' THEN '2'
+    WHEN 'delivered' THEN '3'
+    ELSE '1'
+END
+WHERE order_status IS NOT NULL;
+ALTER TABLE order_outbox MODIFY order_status TINYINT NULL;
+
+-- 사용자 주문 목록 (WHERE user_id = ? ORDER BY order_id DESC)
+CREATE INDEX idx_orders_user_order ON orders (user_id, order_id);
+-- 매출 통계 (WHERE status IN (...) AND ordered_at BETWEEN ? AND ?)
+CREATE INDEX idx_orders_status_ordered ON orders (status, ordered_at);
@@ -0,0 +1,13 @@
+-- 일별 매출 집계 이벤트에 필요한 값 (판매 수량, 주문일)
+ALTER TABLE order_outbox
+    ADD COLUMN item_qty INT NULL,
+    ADD COLUMN ordered_at DATETIME(6) NULL;
+
+-- 일별 매출 집계 (서버 시작 시 비어 있으면 주문 테이블에서 채움)
+CREATE TABLE daily_sales (
+    sales_date DATE NOT NULL PRIMARY KEY,
+    total_sales BIGINT NOT NULL,
+    order_count BIGINT NOT NULL,
+    item_qty BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
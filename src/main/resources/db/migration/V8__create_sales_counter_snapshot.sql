@@ -0,0 +1,11 @@
+-- 실시간 매출 카운터 스냅샷 (category_id = 0: 하루 전체 합계)
+CREATE TABLE sales_counter_snapshot (
+    sales_date DATE NOT NULL,
+    category_id BIGINT NOT NULL,
+    category_name VARCHAR(50) NULL,
+    total_sales BIGINT NOT NULL,
+    item_qty BIGINT NOT NULL,
+    order_count BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (sales_date, category_id)
+);
@@ -0,0 +1,8 @@
+-- 시간별 매출 집계 (일별 집계와 같은 구독자가 갱신, 비어 있으면 서버 시작 시 주문 테이블에서 채움)
+CREATE TABLE hourly_sales (
+    sales_hour DATETIME(6) NOT NULL PRIMARY KEY,
+    total_sales BIGINT NOT NULL,
+    order_count BIGINT NOT NULL,
+    item_qty BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
@@ -0,0 +1,106 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.repository.StatisticsRepository;
+import com.example.shopping.domain.service.OrderItemSnapshotService;
+
+/**
+ * 컬럼형 스냅샷 병렬 집계 결과를 SQL 집계(QueryDSL)와 비교합니다.
+ * 집계 속도는 ColumnarAggregatorBenchmark(JMH)로 측정합니다.
+ */
+@SpringBootTest
+@Import(TestMailConfig.class)
+@Transactional
+class ColumnarAggregationTest {
+
+    private static final int ORDERS = 3000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @Autowired
+    private OrderItemSnapshotService orderItemSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        for (int c = 1; c <= 4; c++) {
+            jdbcTemplate.update("INSERT INTO category (category_id, name) VALUES (?, ?)", 100L + c, "cat-" + c);
+        }
+        for (int p = 1; p <= 40; p++) {
+            jdbcTemplate.update("INSERT INTO product (product_id, category_id, name, price, stock) VALUES (?, ?, ?, ?, ?)",
+                    1000L + p, 100L + (p % 4) + 1, "product-" + p, 1000 * p, 100);
+        }
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int o = 1; o <= ORDERS; o++) {
+            long orderId = 10000L + o;
+            jdbcTemplate.update(
+                    "INSERT INTO orders (order_id, user_id, status, ordered_at, total_amount, item_count) VALUES (?, ?, ?, ?, ?, ?)",
+                    orderId, (long) (o % 50), o % 10 == 0 ? 9 : 1, Timestamp.valueOf(base.plusHours(o)), 0, 1);
+            for (int i = 0; i < 1 + o % 3; i++) {
+                int p = 1 + (o * 7 + i * 13) % 40;
+                jdbcTemplate.update("INSERT INTO order_item (order_id, product_id, qty, price_at_order) VALUES (?, ?, ?, ?)",
+                        orderId, 1000L + p, 1 + (o + i) % 4, 1000 * p);
+            }
+        }
+    }
+
+    @Test
+    void categoryAggregateMatchesSql() {
+        // 전체 주문 기간의 일별 카테고리 판매를 카테고리별로 합침
+        Map<String, List<StatDto.DailyCategorySales>> sql = statisticsRepository
+                .findDailyCategorySales(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)).stream()
+                .collect(Collectors.groupingBy(StatDto.DailyCategorySales::getCategoryName));
+
+        orderItemSnapshotService.refresh();
+        List<StatDto.ItemAggregate> columnar = orderItemSnapshotService.aggregate(
+                List.of("CATEGORY"), null, null, null, null, null, 10000);
+
+        Map<String, StatDto.ItemAggregate> byCategory = columnar.stream()
+                .collect(Collectors.toMap(row -> row.getKeys().get(0), Function.identity()));
+        assertThat(byCategory).hasSize(sql.size());
+        sql.forEach((categoryName, days) -> {
+            StatDto.ItemAggregate actual = byCategory.get(categoryName);
+            assertThat(actual.getTotalQty())
+                    .isEqualTo(days.stream().mapToLong(StatDto.DailyCategorySales::getTotalQty).sum());
+            assertThat(actual.getTotalSales())
+                    .isEqualTo(days.stream().mapToLong(StatDto.DailyCategorySales::getTotalSales).sum());
+        });
+    }
+
+    @Test
+    void dailyAggregateMatchesSqlForRange() {
+        LocalDate from = LocalDate.of(2024, 1, 10);
+        LocalDate to = LocalDate.of(2024, 2, 20);
+        Map<String, Long> sqlByDay = statisticsRepository.findDailyCategorySales(from, to).stream()
+                .collect(Collectors.groupingBy(row -> row.getSalesDate().toString(),
+                        Collectors.summingLong(StatDto.DailyCategorySales::getTotalSales)));
+
+        orderItemSnapshotService.refresh();
+        Map<String, Long> columnarByDay = orderItemSnapshotService.aggregate(
+                List.of("DAY"), from, to, null, null, null, 10000).stream()
+                .collect(Collectors.toMap(row -> row.getKeys().get(0), StatDto.ItemAggregate::getTotalSales));
+
+        assertThat(columnarByDay).isEqualTo(sqlByDay);
+    }
+}
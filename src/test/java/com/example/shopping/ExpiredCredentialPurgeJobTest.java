@@ -0,0 +1,87 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.shopping.domain.batch.ExpiredCredentialPurgeJob;
+import com.example.shopping.domain.repository.RefreshTokenRepository;
+
+/**
+ * 만료된 인증 데이터 정리 작업이 배치로 나누어 만료된 행만 지우는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "security.credential-purge.batch-size=2",
+        "security.credential-purge.pause-millis=0"
+})
+@Import(TestMailConfig.class)
+@Transactional
+class ExpiredCredentialPurgeJobTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExpiredCredentialPurgeJob expiredCredentialPurgeJob;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void deletesOnlyExpiredRowsAcrossBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        // batch-size(2)보다 많은 만료 행으로 여러 배치를 거치게 함
+        for (int i = 0; i < 5; i++) {
+            insertVerification("expired" + i + "@test.com", now.minusMinutes(10 + i));
+            insertRefreshToken("expired-" + i, now.minusMinutes(10 + i));
+        }
+        insertVerification("live@test.com", now.plusMinutes(5));
+        insertRefreshToken("live", now.plusDays(7));
+
+        expiredCredentialPurgeJob.run();
+
+        assertThat(jdbcTemplate.queryForList("SELECT email FROM email_verification", String.class))
+                .containsExactly("live@test.com");
+        assertThat(jdbcTemplate.queryForList("SELECT user_key FROM refresh_token", String.class))
+                .containsExactly("live");
+    }
+
+    @Test
+    void keepsRefreshTokenReissuedBetweenSelectAndDelete() {
+        LocalDateTime now = LocalDateTime.now();
+        insertRefreshToken("expired", now.minusMinutes(10));
+        insertRefreshToken("reissued", now.minusMinutes(10));
+
+        List<String> keys = refreshTokenRepository.findExpiredKeys(now, PageRequest.of(0, 10));
+        assertThat(keys).containsExactlyInAnyOrder("expired", "reissued");
+
+        // 조회와 삭제 사이에 로그인으로 토큰이 다시 발급됨
+        jdbcTemplate.update("UPDATE refresh_token SET token_value = ?, expires_at = ? WHERE user_key = ?",
+                "new-token", Timestamp.valueOf(now.plusDays(7)), "reissued");
+
+        assertThat(refreshTokenRepository.deleteExpiredByKeys(keys, now)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT user_key FROM refresh_token", String.class))
+                .containsExactly("reissued");
+    }
+
+    private void insertVerification(String email, LocalDateTime expiresAt) {
+        jdbcTemplate.update(
+                "INSERT INTO email_verification (email, verificationCode, expiresAt, isVerified) VALUES (?, ?, ?, ?)",
+                email, "123456", Timestamp.valueOf(expiresAt), false);
+    }
+
+    private void insertRefreshToken(String userKey, LocalDateTime expiresAt) {
+        jdbcTemplate.update("INSERT INTO refresh_token (user_key, token_value, expires_at) VALUES (?, ?, ?)",
+                userKey, "token-" + userKey, Timestamp.valueOf(expiresAt));
+    }
+}
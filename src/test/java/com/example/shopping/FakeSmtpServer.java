@@ -0,0 +1,133 @@
+package com.example.shopping;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 SMTP 서버
+ *
+ * <p>임의 포트에서 SMTP 명령(EHLO, MAIL, RCPT, DATA, RSET, NOOP, QUIT)에 응답하고 받은 메일 원문을 보관합니다.
+ * {@link #failNext(int)}로 다음 몇 건의 DATA를 451로 거절하여 재시도를 확인할 수 있습니다.
+ * {@link #hold()}로 새 연결의 인사말을 {@link #release()}까지 미루어 발송 중인 상태를 만들 수 있습니다.
+ */
+public class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile CountDownLatch held = new CountDownLatch(0);
+
+    public FakeSmtpServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        Thread.ofVirtual().name("fake-smtp").start(this::accept);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /** 받은 메일 원문 (헤더 + 본문) */
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    /** 지금까지 연결된 SMTP 세션 수 */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    /** 다음 count건의 메일을 일시 오류(451)로 거절합니다. */
+    public void failNext(int count) {
+        failures.set(count);
+    }
+
+    /** 이후 연결은 {@link #release()}까지 인사말을 보내지 않고 기다립니다. */
+    public void hold() {
+        held = new CountDownLatch(1);
+    }
+
+    /** 기다리는 연결을 진행시킵니다. */
+    public void release() {
+        held.countDown();
+    }
+
+    @Override
+    public void close() throws IOException {
+        release();
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().start(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        connections.incrementAndGet();
+        try {
+            held.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try (socket;
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            reply(out, "220 localhost fake SMTP");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "DATA" -> {
+                        reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                        String message = readData(in);
+                        if (failures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                            reply(out, "451 temporary failure");
+                        } else {
+                            messages.add(message);
+                            reply(out, "250 OK");
+                        }
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 bye");
+                        return;
+                    }
+                    case "EHLO", "HELO" -> reply(out, "250 localhost");
+                    default -> reply(out, "250 OK");
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 연결을 끊음
+        }
+    }
+
+    private String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append('\n');
+        }
+        return data.toString();
+    }
+
+    private void reply(PrintWriter out, String line) {
+        out.print(line + "\r\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPercentage;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.shopping.domain.stats.HyperLogLog;
+
+/**
+ * HyperLogLog 추정 오차, 병합, precision 변환을 확인합니다.
+ */
+class HyperLogLogTest {
+
+    /** precision 14의 표준 오차 1.04 / sqrt(2^14) ≈ 0.81%의 3배 */
+    private static final double P14_TOLERANCE = 3 * 1.04 / Math.sqrt(1 << 14);
+
+    @Test
+    void estimateStaysWithinStandardErrorBound() {
+        HyperLogLog hll = new HyperLogLog(14);
+        for (long id = 1; id <= 100_000; id++) {
+            hll.add(id);
+            hll.add(id); // 중복은 세지 않음
+        }
+
+        assertThat((double) hll.estimate()).isCloseTo(100_000, withPercentage(P14_TOLERANCE * 100));
+    }
+
+    @Test
+    void smallCardinalityUsesLinearCounting() {
+        HyperLogLog hll = new HyperLogLog(14);
+        for (long id = 1; id <= 1_000; id++) {
+            hll.add(id);
+        }
+
+        assertThat(hll.estimate()).isBetween(980L, 1_020L);
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog first = new HyperLogLog(14);
+        HyperLogLog second = new HyperLogLog(14);
+        HyperLogLog union = new HyperLogLog(14);
+        for (long id = 1; id <= 60_000; id++) {
+            first.add(id);
+            union.add(id);
+        }
+        for (long id = 40_001; id <= 100_000; id++) {
+            second.add(id);
+            union.add(id);
+        }
+
+        first.merge(second);
+
+        assertThat(first.toBytes()).isEqualTo(union.toBytes());
+        assertThat((double) first.estimate()).isCloseTo(100_000, withPercentage(P14_TOLERANCE * 100));
+    }
+
+    @Test
+    void bytesRoundTripKeepsPrecisionAndRegisters() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (long id = 1; id <= 5_000; id++) {
+            hll.add(id);
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(hll.toBytes());
+
+        assertThat(restored.getPrecision()).isEqualTo(12);
+        assertThat(restored.estimate()).isEqualTo(hll.estimate());
+    }
+
+    @Test
+    void reduceToMatchesSketchBuiltAtLowerPrecision() {
+        HyperLogLog high = new HyperLogLog(14);
+        HyperLogLog low = new HyperLogLog(10);
+        for (long id = 1; id <= 50_000; id++) {
+            high.add(id * 31);
+            low.add(id * 31);
+        }
+
+        assertThat(high.reduceTo(10).toBytes()).isEqualTo(low.toBytes());
+    }
+
+    @Test
+    void mergeFoldsHigherPrecisionAndRejectsLower() {
+        HyperLogLog low = new HyperLogLog(12);
+        HyperLogLog high = new HyperLogLog(14);
+        HyperLogLog expected = new HyperLogLog(12);
+        for (long id = 1; id <= 10_000; id++) {
+            low.add(id);
+            expected.add(id);
+        }
+        for (long id = 10_001; id <= 20_000; id++) {
+            high.add(id);
+            expected.add(id);
+        }
+
+        low.merge(high);
+
+        assertThat(low.toBytes()).isEqualTo(expected.toBytes());
+        assertThatThrownBy(() -> high.merge(low))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("precision 12");
+    }
+}
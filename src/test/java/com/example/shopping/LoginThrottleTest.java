@@ -0,0 +1,130 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.exception.RetryLaterException;
+import com.example.shopping.global.security.LoginThrottle;
+
+/**
+ * 로그인 시도 제한의 토큰 버킷, 잠금, 초기화, 정리 동작을 확인합니다.
+ * 스프링 없이 설정 필드를 직접 지정하고, 시간이 필요한 경우 짧은 refill/lockout 시간으로 기다립니다.
+ */
+class LoginThrottleTest {
+
+    private static final String IP = "10.0.0.1";
+
+    @Test
+    void loginIdBucketRefillsOverTime() throws InterruptedException {
+        LoginThrottle throttle = throttle();
+        ReflectionTestUtils.setField(throttle, "loginIdRefillMillis", 100L);
+
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("user", IP);
+        }
+        assertRejected(() -> throttle.acquire("user", IP), ErrorCode.LOGIN_THROTTLED);
+        // 다른 로그인 ID는 영향 없음
+        assertThatCode(() -> throttle.acquire("other", IP)).doesNotThrowAnyException();
+
+        // refill-millis가 지나면 토큰 하나가 다시 채워짐
+        Thread.sleep(120);
+        assertThatCode(() -> throttle.acquire("user", IP)).doesNotThrowAnyException();
+        assertRejected(() -> throttle.acquire("user", IP), ErrorCode.LOGIN_THROTTLED);
+    }
+
+    @Test
+    void ipBucketLimitsAcrossLoginIds() {
+        LoginThrottle throttle = throttle();
+        ReflectionTestUtils.setField(throttle, "ipCapacity", 2.0);
+
+        throttle.acquire("a", IP);
+        throttle.acquire("b", IP);
+        assertRejected(() -> throttle.acquire("c", IP), ErrorCode.LOGIN_THROTTLED);
+        assertThatCode(() -> throttle.acquire("c", "10.0.0.2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void locksAtThresholdAndRejectsInMemoryUntilExpiry() throws InterruptedException {
+        LoginThrottle throttle = throttle();
+        ReflectionTestUtils.setField(throttle, "lockoutMillis", 200L);
+
+        assertThat(throttle.recordFailure("user")).isFalse();
+        assertThat(throttle.recordFailure("user")).isFalse();
+        // 기준에 도달한 실패에서만 true (호출자가 DB에 잠금 저장)
+        assertThat(throttle.recordFailure("user")).isTrue();
+
+        assertRejected(() -> throttle.acquire("user", IP), ErrorCode.ACCOUNT_LOCKED);
+        assertThatCode(() -> throttle.acquire("other", IP)).doesNotThrowAnyException();
+
+        Thread.sleep(250);
+        assertThatCode(() -> throttle.acquire("user", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void recordSuccessResetsFailuresAndBucket() {
+        LoginThrottle throttle = throttle();
+
+        throttle.recordFailure("user");
+        throttle.recordFailure("user");
+        throttle.recordSuccess("user");
+        // 실패 횟수가 초기화되어 다시 threshold 번 실패해야 잠김
+        assertThat(throttle.recordFailure("user")).isFalse();
+        assertThat(throttle.recordFailure("user")).isFalse();
+
+        throttle.recordSuccess("user");
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("user", IP);
+        }
+        assertRejected(() -> throttle.acquire("user", IP), ErrorCode.LOGIN_THROTTLED);
+        throttle.recordSuccess("user");
+        assertThatCode(() -> throttle.acquire("user", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void sweepRemovesIdleEntriesButKeepsLockedOnes() {
+        LoginThrottle throttle = throttle();
+        ReflectionTestUtils.setField(throttle, "idleTtlMillis", 0L);
+
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire("idle", IP);
+            throttle.recordFailure("locked");
+        }
+        assertRejected(() -> throttle.acquire("idle", IP), ErrorCode.LOGIN_THROTTLED);
+
+        throttle.sweep();
+
+        // 정리된 항목은 새 버킷으로 시작하고, 잠긴 항목은 잠금이 끝날 때까지 남음
+        assertThatCode(() -> throttle.acquire("idle", IP)).doesNotThrowAnyException();
+        assertRejected(() -> throttle.acquire("locked", IP), ErrorCode.ACCOUNT_LOCKED);
+    }
+
+    // 로그인 ID 버킷 3회, IP 버킷 100회, 연속 실패 3회에 잠금
+    private LoginThrottle throttle() {
+        LoginThrottle throttle = new LoginThrottle();
+        ReflectionTestUtils.setField(throttle, "enabled", true);
+        ReflectionTestUtils.setField(throttle, "stripeCount", 4);
+        ReflectionTestUtils.setField(throttle, "maxEntriesPerStripe", 100);
+        ReflectionTestUtils.setField(throttle, "idleTtlMillis", 3_600_000L);
+        ReflectionTestUtils.setField(throttle, "loginIdCapacity", 3.0);
+        ReflectionTestUtils.setField(throttle, "loginIdRefillMillis", 60_000L);
+        ReflectionTestUtils.setField(throttle, "ipCapacity", 100.0);
+        ReflectionTestUtils.setField(throttle, "ipRefillMillis", 60_000L);
+        ReflectionTestUtils.setField(throttle, "lockoutThreshold", 3);
+        ReflectionTestUtils.setField(throttle, "lockoutMillis", 60_000L);
+        ReflectionTestUtils.invokeMethod(throttle, "init");
+        return throttle;
+    }
+
+    private void assertRejected(Runnable attempt, ErrorCode expected) {
+        assertThatThrownBy(attempt::run)
+                .isInstanceOfSatisfying(RetryLaterException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(expected);
+                    assertThat(e.getRetryAfterSeconds()).isPositive();
+                });
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.event.MailRequestedEvent;
+import com.example.shopping.domain.service.MailService;
+
+/**
+ * 비동기 메일 발송을 로컬 가짜 SMTP 서버(FakeSmtpServer)로 확인합니다.
+ * 커밋 후에만 발송하는지, SMTP 일시 오류 후 재시도하는지, 묶음 하나를 SMTP 연결 하나로 보내는지,
+ * 만료된 메일을 보내지 않고 스풀에서 지우는지 확인합니다.
+ * 묶음 확인을 위해 워커는 하나만 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "mail.async.initial-backoff-millis=100",
+        "mail.async.spool-scan-interval-millis=100",
+        "mail.async.workers=1"
+})
+@Import(TestMailConfig.class)
+class MailServiceTest {
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private FakeSmtpServer fakeSmtpServer;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("mailSpoolDirectory")
+    private TestMailConfig.TempDirectory mailSpoolDirectory;
+
+    @Test
+    void mailIsSentOnlyAfterCommit() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new MailRequestedEvent("user@example.com", "after-commit", "code"));
+            assertThat(received("after-commit")).isFalse();
+        });
+
+        await(() -> received("after-commit"));
+        assertThat(received("after-commit")).isTrue();
+    }
+
+    @Test
+    void rolledBackMailIsNotSent() throws InterruptedException {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new MailRequestedEvent("user@example.com", "rolled-back", "code"));
+            status.setRollbackOnly();
+        });
+        mailService.sendEmail("user@example.com", "after-rollback", "code");
+
+        await(() -> received("after-rollback"));
+        assertThat(received("rolled-back")).isFalse();
+    }
+
+    @Test
+    void failedMailIsRetriedFromSpool() throws InterruptedException {
+        fakeSmtpServer.failNext(1);
+        mailService.sendEmail("user@example.com", "retried", "code");
+
+        await(() -> received("retried") && mailService.getSpoolSize() == 0);
+        assertThat(received("retried")).isTrue();
+        assertThat(mailService.getSpoolSize()).isZero();
+    }
+
+    @Test
+    void mailExpiringBeforeNextRetryIsDroppedFromSpool() throws InterruptedException, IOException {
+        // 첫 시도 실패 후 100ms, 두 번째 실패 후 200ms 뒤 재시도 → 두 번째 실패 시점에 다음 시도가 만료(250ms) 이후
+        fakeSmtpServer.failNext(2);
+        try {
+            mailService.sendEmail("user@example.com", "expiring", "code", 250);
+
+            await(() -> mailService.getSpoolSize() == 0);
+        } finally {
+            fakeSmtpServer.failNext(0);
+        }
+        Thread.sleep(300); // 남은 재시도가 없는지 확인
+        assertThat(received("expiring")).isFalse();
+        assertThat(mailService.getSpoolSize()).isZero();
+        // 스풀과 failed 디렉터리 모두에 파일이 남지 않음
+        try (Stream<Path> files = Files.walk(mailSpoolDirectory.path())) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    void queuedMailsAreSentInOneConnection() throws InterruptedException {
+        // 첫 메일을 보내는 동안 워커를 붙잡아 두고 나머지를 큐에 쌓음
+        fakeSmtpServer.hold();
+        int before = fakeSmtpServer.getConnectionCount();
+        try {
+            mailService.sendEmail("user@example.com", "batch-first", "code");
+            await(() -> fakeSmtpServer.getConnectionCount() == before + 1);
+            for (int i = 0; i < 5; i++) {
+                mailService.sendEmail("user@example.com", "batch-" + i, "code");
+            }
+            await(() -> mailService.getQueueDepth() == 5);
+        } finally {
+            fakeSmtpServer.release();
+        }
+
+        await(() -> received("batch-4") && mailService.getSpoolSize() == 0);
+        for (int i = 0; i < 5; i++) {
+            assertThat(received("batch-" + i)).isTrue();
+        }
+        // 첫 메일 1번 + 쌓인 5건 묶음 1번
+        assertThat(fakeSmtpServer.getConnectionCount() - before).isEqualTo(2);
+    }
+
+    private boolean received(String subject) {
+        return fakeSmtpServer.getMessages().stream().anyMatch(message -> message.contains("Subject: " + subject));
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.shopping.domain.repository.OrdersRepository;
+import com.example.shopping.domain.repository.StatisticsRepository;
+
+/**
+ * orders 테이블 조회 쿼리가 복합 인덱스를 사용하는지 H2 실행 계획(EXPLAIN)으로 확인합니다.
+ *
+ * <p>검사할 SQL은 직접 쓰지 않고, 저장소 메서드를 실행할 때 Hibernate가 만든 SQL을 StatementInspector로 가져옵니다.
+ * 따라서 저장소 쿼리가 바뀌면 이 테스트도 바뀐 쿼리의 실행 계획을 검사합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.shopping.OrderIndexPlanTest$SqlCaptor")
+@Import(TestMailConfig.class)
+@Transactional
+class OrderIndexPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrdersRepository ordersRepository;
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 200; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO orders (user_id, status, ordered_at, total_amount, item_count) VALUES (?, ?, ?, ?, ?)",
+                    (long) (i % 20), i % 10 == 0 ? 9 : 1,
+                    Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0).plusHours(i)),
+                    10000, 1);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE orders");
+    }
+
+    @Test
+    void userOrderHistoryUsesUserOrderIndex() {
+        String sql = capture(() -> ordersRepository.findAllByUserIdOrderByOrderIdDesc(3L),
+                statement -> statement.contains(" from orders "));
+
+        String plan = explain(sql, 3L);
+
+        assertThat(plan).containsIgnoringCase("idx_orders_user_order");
+    }
+
+    @Test
+    void dailySalesUsesStatusOrderedIndex() {
+        LocalDate startDate = LocalDate.of(2024, 1, 2);
+        LocalDate endDate = LocalDate.of(2024, 1, 3);
+        // 일별 매출 집계(롤업 재계산, 보정 작업)의 주문 합계 쿼리
+        String sql = capture(() -> statisticsRepository.aggregateDailySales(startDate, endDate),
+                statement -> statement.contains(" from orders ") && !statement.contains("order_item"));
+
+        // 파라미터 순서: ordered_at 시작, ordered_at 끝, 매출 상태 코드 (OrderStatus.SALES 선언 순서)
+        String plan = explain(sql, Timestamp.valueOf(startDate.atStartOfDay()),
+                Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()), 1, 2, 3);
+
+        assertThat(plan).containsIgnoringCase("idx_orders_status_ordered");
+    }
+
+    // 저장소 호출 중 실행된 SQL에서 조건에 맞는 문장 하나를 가져옴
+    private String capture(Runnable repositoryCall, Predicate<String> filter) {
+        SqlCaptor.STATEMENTS.clear();
+        repositoryCall.run();
+        List<String> matched = SqlCaptor.STATEMENTS.stream()
+                .map(String::toLowerCase)
+                .filter(filter)
+                .toList();
+        assertThat(matched).as("captured SQL: %s", SqlCaptor.STATEMENTS).hasSize(1);
+        return matched.get(0);
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    /** Hibernate가 실행하는 SQL을 기록 (설정 속성으로 등록되므로 public, 인자 없는 생성자 필요) */
+    public static class SqlCaptor implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
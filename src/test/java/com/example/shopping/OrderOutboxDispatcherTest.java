@@ -0,0 +1,145 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.batch.OrderOutboxDispatcher;
+import com.example.shopping.domain.entity.order.OrderOutboxEvent;
+import com.example.shopping.domain.entity.order.OutboxOffset;
+import com.example.shopping.domain.enums.OrderEventType;
+import com.example.shopping.domain.event.OrderEvent;
+import com.example.shopping.domain.event.OrderEventSubscriber;
+import com.example.shopping.domain.repository.OrderOutboxEventRepository;
+import com.example.shopping.domain.repository.OutboxOffsetRepository;
+
+/**
+ * 아웃박스 디스패처가 롤백으로 비어 있는 event_id 앞에서 멈추고,
+ * gap-timeout-millis가 지나면 그 번호를 건너뛰어 전달을 이어가는지 확인합니다.
+ *
+ * <p>스케줄러가 끼어들지 않도록 자동 실행 주기를 길게 잡고 dispatch()를 직접 호출합니다.
+ * 실제 구독자도 함께 호출되므로 매출 집계에 반영되지 않는 ORDER_STATUS_CHANGED 이벤트를 사용합니다.
+ */
+@SpringBootTest(properties = {
+        "order.outbox.initial-delay-millis=3600000",
+        "order.outbox.poll-interval-millis=3600000",
+        "order.outbox.gap-timeout-millis=1000"
+})
+@Import({TestMailConfig.class, OrderOutboxDispatcherTest.RecorderConfig.class})
+class OrderOutboxDispatcherTest {
+
+    private static final String RECORDER = "test-recorder";
+
+    @Autowired
+    private OrderOutboxDispatcher orderOutboxDispatcher;
+
+    @Autowired
+    private OrderOutboxEventRepository orderOutboxEventRepository;
+
+    @Autowired
+    private OutboxOffsetRepository outboxOffsetRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingSubscriber recorder;
+
+    private final List<Long> savedIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        orderOutboxEventRepository.deleteAllById(savedIds);
+        outboxOffsetRepository.deleteById(RECORDER);
+        recorder.received.clear();
+    }
+
+    @Test
+    void stopsAtRolledBackIdUntilGapTimeout() throws InterruptedException {
+        long first = save();
+        outboxOffsetRepository.save(OutboxOffset.builder()
+                .consumerName(RECORDER)
+                .lastEventId(first - 1)
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        // 번호를 받은 뒤 롤백되어 비어 있는 event_id
+        Long rolledBack = transactionTemplate.execute(status -> {
+            Long id = orderOutboxEventRepository.saveAndFlush(event()).getEventId();
+            status.setRollbackOnly();
+            return id;
+        });
+        long third = save();
+        assertThat(third).isGreaterThan(rolledBack);
+        assertThat(orderOutboxEventRepository.existsById(rolledBack)).isFalse();
+
+        // 빈 번호 앞까지만 전달
+        orderOutboxDispatcher.dispatch();
+        assertThat(recorder.received).containsExactly(first);
+        assertThat(outboxOffsetRepository.findById(RECORDER).orElseThrow().getLastEventId()).isEqualTo(first);
+
+        // gap-timeout-millis 전에는 계속 기다림
+        orderOutboxDispatcher.dispatch();
+        assertThat(recorder.received).containsExactly(first);
+
+        // gap-timeout-millis가 지나면 빈 번호를 건너뛰고 이어서 전달
+        Thread.sleep(1100);
+        orderOutboxDispatcher.dispatch();
+        assertThat(recorder.received).containsExactly(first, third);
+        assertThat(outboxOffsetRepository.findById(RECORDER).orElseThrow().getLastEventId()).isEqualTo(third);
+    }
+
+    private long save() {
+        long id = orderOutboxEventRepository.save(event()).getEventId();
+        savedIds.add(id);
+        return id;
+    }
+
+    private OrderOutboxEvent event() {
+        LocalDateTime at = LocalDateTime.of(2001, 1, 1, 0, 0);
+        return OrderOutboxEvent.builder()
+                .eventType(OrderEventType.ORDER_STATUS_CHANGED)
+                .orderId(1L)
+                .userId(1L)
+                .orderedAt(at)
+                .occurredAt(at)
+                .build();
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        RecordingSubscriber recordingSubscriber() {
+            return new RecordingSubscriber();
+        }
+    }
+
+    /** 전달받은 event_id를 순서대로 기록하는 구독자 */
+    static class RecordingSubscriber implements OrderEventSubscriber {
+
+        final List<Long> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String name() {
+            return RECORDER;
+        }
+
+        @Override
+        public void onEvents(List<OrderEvent> events) {
+            events.forEach(event -> received.add(event.getEventId()));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.shopping.domain.entity.user.RefreshToken;
+import com.example.shopping.domain.repository.RefreshTokenRepository;
+import com.example.shopping.global.security.RefreshTokenStore;
+
+/**
+ * database 방식의 리프레시 토큰 저장소가 트랜잭션 밖(로그인)에서 호출되어도 저장, 교체, 삭제를 DB에 반영하는지 확인합니다.
+ * 호출자 트랜잭션이 없어야 하므로 테스트 트랜잭션을 쓰지 않고 직접 정리합니다.
+ */
+@SpringBootTest(properties = "jwt.refresh-store.backend=database")
+@Import(TestMailConfig.class)
+class RefreshTokenStoreDatabaseTest {
+
+    private static final String USER_KEY = "9001";
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteById(USER_KEY);
+    }
+
+    @Test
+    void saveRotateAndRemoveAreFlushedWithoutCallerTransaction() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        refreshTokenStore.save(USER_KEY, "first", expiresAt);
+        assertThat(storedValue()).isEqualTo("first");
+
+        // 이미 있는 행은 변경 감지로 갱신
+        refreshTokenStore.save(USER_KEY, "second", expiresAt);
+        assertThat(storedValue()).isEqualTo("second");
+
+        assertThat(refreshTokenStore.rotate(USER_KEY, "first", "third", expiresAt))
+                .isEqualTo(RefreshTokenStore.RotateResult.MISMATCH);
+        assertThat(refreshTokenStore.rotate(USER_KEY, "second", "third", expiresAt))
+                .isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+        assertThat(storedValue()).isEqualTo("third");
+
+        refreshTokenStore.remove(USER_KEY);
+        assertThat(refreshTokenRepository.findByKey(USER_KEY)).isEmpty();
+    }
+
+    private String storedValue() {
+        return refreshTokenRepository.findByKey(USER_KEY).map(RefreshToken::getValue).orElse(null);
+    }
+}
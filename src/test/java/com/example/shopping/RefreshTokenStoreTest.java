@@ -0,0 +1,128 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.shopping.global.security.RefreshTokenStore;
+import com.example.shopping.global.security.RefreshTokenStore.RotateResult;
+import com.example.shopping.global.security.TokenDigest;
+
+/**
+ * memory 방식의 리프레시 토큰 저장소가 로그 재생으로 재시작 후에도 같은 상태를 복원하는지 확인합니다.
+ * 같은 디렉터리로 저장소를 다시 만들어 재시작을 흉내 냅니다.
+ */
+class RefreshTokenStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private RefreshTokenStore store;
+
+    @AfterEach
+    void tearDown() {
+        stop(store);
+    }
+
+    @Test
+    void tokensSurviveRestartAndDeletesWin() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        store = start();
+        store.save("1", "token-1", expiresAt);
+        store.save("2", "token-2", expiresAt);
+        store.save("1", "token-1b", expiresAt); // 마지막 저장이 이김
+        store.remove("2");
+
+        // 압축 후의 변경은 스냅샷 뒤에 재생됨
+        store.maintain();
+        store.save("2", "token-2b", expiresAt);
+        store.save("3", "token-3", expiresAt);
+        store.remove("3");
+
+        restart();
+
+        assertThat(store.rotate("1", "token-1", "next", expiresAt)).isEqualTo(RotateResult.MISMATCH);
+        assertThat(store.rotate("1", "token-1b", "next", expiresAt)).isEqualTo(RotateResult.ROTATED);
+        assertThat(store.rotate("2", "token-2", "next", expiresAt)).isEqualTo(RotateResult.MISMATCH);
+        assertThat(store.rotate("2", "token-2b", "next", expiresAt)).isEqualTo(RotateResult.ROTATED);
+        assertThat(store.rotate("3", "token-3", "next", expiresAt)).isEqualTo(RotateResult.NOT_FOUND);
+
+        // 재발급도 로그에 남아 다음 재시작에 복원됨
+        restart();
+        assertThat(store.rotate("1", "next", "again", expiresAt)).isEqualTo(RotateResult.ROTATED);
+    }
+
+    @Test
+    void recoversFromCrashDuringCompaction() throws IOException {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        // 로그를 .old로 바꾼 뒤 스냅샷을 쓰기 전에 중단된 상태: 이전 스냅샷 → .old → 현재 로그 순서로 재생해야 함
+        Files.writeString(dir.resolve("refresh-tokens.snapshot"),
+                put("1", "snapshot-1", expiresAt) + put("2", "snapshot-2", expiresAt));
+        Files.writeString(dir.resolve("refresh-tokens.log.old"),
+                "D 2\n" + put("1", "old-1", expiresAt) + put("3", "old-3", expiresAt));
+        // 현재 로그의 마지막 줄은 기록 중에 잘림
+        Files.writeString(dir.resolve("refresh-tokens.log"),
+                put("3", "current-3", expiresAt) + "P 4 " + expiresAt);
+
+        store = start();
+
+        assertThat(store.rotate("1", "old-1", "next", expiresAt)).isEqualTo(RotateResult.ROTATED);
+        assertThat(store.rotate("2", "snapshot-2", "next", expiresAt)).isEqualTo(RotateResult.NOT_FOUND);
+        assertThat(store.rotate("3", "old-3", "next", expiresAt)).isEqualTo(RotateResult.MISMATCH);
+        assertThat(store.rotate("3", "current-3", "next", expiresAt)).isEqualTo(RotateResult.ROTATED);
+        assertThat(store.rotate("4", "anything", "next", expiresAt)).isEqualTo(RotateResult.NOT_FOUND);
+
+        // 시작 시 압축으로 남은 .old 파일이 정리됨
+        assertThat(dir.resolve("refresh-tokens.log.old")).doesNotExist();
+    }
+
+    @Test
+    void expiredTokensAreNotRestoredOrCompacted() throws IOException {
+        long now = System.currentTimeMillis();
+        store = start();
+        store.save("1", "expired", now - 1);
+        store.save("2", "live", now + 60_000);
+
+        restart();
+
+        assertThat(store.rotate("1", "expired", "next", now + 60_000)).isEqualTo(RotateResult.NOT_FOUND);
+        assertThat(store.rotate("2", "live", "next", now + 60_000)).isEqualTo(RotateResult.ROTATED);
+        // 시작 시 압축한 스냅샷에는 살아 있는 토큰만 남음
+        assertThat(Files.readAllLines(dir.resolve("refresh-tokens.snapshot")))
+                .noneMatch(line -> line.startsWith("P 1 "))
+                .anyMatch(line -> line.startsWith("P 2 "));
+    }
+
+    private RefreshTokenStore start() {
+        RefreshTokenStore started = new RefreshTokenStore(null, null);
+        ReflectionTestUtils.setField(started, "backend", "memory");
+        ReflectionTestUtils.setField(started, "shardCount", 4);
+        ReflectionTestUtils.setField(started, "logDir", dir.toString());
+        ReflectionTestUtils.setField(started, "fsync", false);
+        ReflectionTestUtils.setField(started, "compactionMinRecords", 0L);
+        ReflectionTestUtils.invokeMethod(started, "start");
+        return started;
+    }
+
+    private void restart() {
+        stop(store);
+        store = start();
+    }
+
+    private void stop(RefreshTokenStore target) {
+        if (target != null) {
+            ReflectionTestUtils.invokeMethod(target, "stop");
+        }
+    }
+
+    private String put(String userKey, String token, long expiresAt) {
+        return "P " + userKey + " " + expiresAt + " " + TokenDigest.sha256(token) + "\n";
+    }
+}
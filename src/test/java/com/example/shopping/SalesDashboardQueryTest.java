@@ -0,0 +1,71 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.shopping.domain.dto.StatDto;
+import com.example.shopping.domain.repository.StatisticsRepository;
+
+/**
+ * 대시보드 매출 쿼리(재귀 CTE + 윈도 함수)가 H2에서 실행되고 누적/이동 평균/합계를 올바르게 계산하는지 확인합니다.
+ */
+@SpringBootTest
+@Import(TestMailConfig.class)
+@Transactional
+class SalesDashboardQueryTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatisticsRepository statisticsRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 2024-01-25 ~ 2024-02-10 중 2024-02-03을 제외한 날에 (일 × 1000)원, 주문 1건
+        for (LocalDate date = LocalDate.of(2024, 1, 25); !date.isAfter(LocalDate.of(2024, 2, 10)); date = date.plusDays(1)) {
+            if (date.equals(LocalDate.of(2024, 2, 3))) {
+                continue;
+            }
+            jdbcTemplate.update(
+                    "INSERT INTO daily_sales (sales_date, total_sales, order_count, item_qty, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    Date.valueOf(date), date.getDayOfMonth() * 1000L, 1L, 1L, Timestamp.valueOf(LocalDateTime.now()));
+        }
+    }
+
+    @Test
+    void computesRunningTotalsMovingAverageAndSubtotals() {
+        List<StatDto.SalesDashboardRow> rows = statisticsRepository.findSalesDashboard(
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 5));
+
+        // 매출이 없는 날도 포함하여 기간의 모든 날짜
+        assertThat(rows).extracting(StatDto.SalesDashboardRow::getDate)
+                .containsExactly("2024-02-01", "2024-02-02", "2024-02-03", "2024-02-04", "2024-02-05");
+
+        StatDto.SalesDashboardRow feb3 = rows.get(2);
+        assertThat(feb3.getTotalSales()).isZero();
+        assertThat(feb3.getMonthToDate()).isEqualTo(3000L);   // 1000 + 2000 + 0
+
+        // 2024-02-01의 7일 이동 평균은 기간 밖의 1월 26~31일을 포함
+        assertThat(rows.get(0).getMovingAvg7d()).isCloseTo((26 + 27 + 28 + 29 + 30 + 31 + 1) * 1000 / 7.0, within(0.01));
+
+        // 월 합계는 기간 밖의 2월 6~10일 포함, 기간 합계는 2월 1~5일만
+        assertThat(feb3.getMonthTotal()).isEqualTo((1 + 2 + 4 + 5 + 6 + 7 + 8 + 9 + 10) * 1000L);
+        assertThat(feb3.getRangeTotal()).isEqualTo((1 + 2 + 4 + 5) * 1000L);
+        assertThat(feb3.getRangeOrderCount()).isEqualTo(4L);
+    }
+}
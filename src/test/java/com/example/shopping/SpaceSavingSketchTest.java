@@ -0,0 +1,106 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.shopping.domain.stats.SpaceSavingSketch;
+import com.example.shopping.domain.stats.WindowedTopK;
+
+/**
+ * Space-Saving 스케치 병합이 과소 추정하지 않는지, 버킷 합치기 캐시가 전체 병합과 같은 결과를 내는지 확인합니다.
+ */
+class SpaceSavingSketchTest {
+
+    @Test
+    void mergeAddsOtherSideMinimumForMissingKey() {
+        SpaceSavingSketch first = new SpaceSavingSketch(2);
+        first.offer(1, "a", 10);
+        first.offer(2, "b", 5);
+        first.offer(3, "c", 1); // 2를 밀어냄: 3 = 5 + 1 (오차 5), 최소 카운터 = 6
+
+        SpaceSavingSketch second = new SpaceSavingSketch(3);
+        second.offer(2, "b", 7);
+        second.offer(4, "d", 3);
+
+        SpaceSavingSketch merged = new SpaceSavingSketch(2);
+        merged.mergeFrom(first);
+        merged.mergeFrom(second);
+
+        Map<Long, SpaceSavingSketch.Item> items = byKey(merged.top(10));
+        // 1은 second에 없음 → second의 최소값(0, 가득 차지 않음)을 더함
+        assertThat(items.get(1L).count()).isEqualTo(10);
+        // 2는 first에서 밀려남 → first의 최소값 6을 더함 (실제 값 12 이상)
+        assertThat(items.get(2L).count()).isEqualTo(13);
+        assertThat(items.get(2L).error()).isEqualTo(6);
+        // 4도 first에 없음
+        assertThat(items.get(4L).count()).isEqualTo(9);
+    }
+
+    @Test
+    void mergedCountsNeverUnderestimate() {
+        Random random = new Random(42);
+        Map<Long, Long> exact = new HashMap<>();
+        SpaceSavingSketch merged = new SpaceSavingSketch(20);
+        for (int bucket = 0; bucket < 12; bucket++) {
+            SpaceSavingSketch sketch = new SpaceSavingSketch(20);
+            for (int i = 0; i < 500; i++) {
+                long key = (long) Math.abs(random.nextGaussian() * 30);
+                sketch.offer(key, "p" + key, 1);
+                exact.merge(key, 1L, Long::sum);
+            }
+            merged.mergeFrom(sketch);
+        }
+
+        for (SpaceSavingSketch.Item item : merged.top(Integer.MAX_VALUE)) {
+            long actual = exact.getOrDefault(item.key(), 0L);
+            assertThat(item.count()).isGreaterThanOrEqualTo(actual);
+            assertThat(item.count() - item.error()).isLessThanOrEqualTo(actual);
+        }
+        exact.forEach((key, actual) -> {
+            if (merged.top(Integer.MAX_VALUE).stream().noneMatch(item -> item.key() == key)) {
+                assertThat(merged.unseenBound()).isGreaterThanOrEqualTo(actual);
+            }
+        });
+    }
+
+    @Test
+    void cachedWindowMatchesFullMerge() {
+        long bucketMillis = 1000;
+        WindowedTopK topK = new WindowedTopK(bucketMillis * 6, 6, 10);
+        SpaceSavingSketch[] reference = new SpaceSavingSketch[6];
+        Random random = new Random(7);
+        long now = 0;
+        for (int bucket = 0; bucket < 6; bucket++) {
+            reference[bucket] = new SpaceSavingSketch(10);
+            now = bucket * bucketMillis;
+            for (int i = 0; i < 300; i++) {
+                long key = random.nextInt(40);
+                long weight = 1 + random.nextInt(3);
+                topK.offer(now, key, "p" + key, weight);
+                reference[bucket].offer(key, "p" + key, weight);
+            }
+            // 버킷마다 조회하여 지난 버킷 캐시가 만들어진 뒤에도 현재 버킷이 반영되는지 확인
+            topK.top(now, 5);
+        }
+
+        SpaceSavingSketch merged = new SpaceSavingSketch(10);
+        for (SpaceSavingSketch sketch : reference) {
+            merged.mergeFrom(sketch);
+        }
+        List<SpaceSavingSketch.Item> expected = merged.top(5);
+
+        assertThat(topK.top(now, 5)).containsExactlyElementsOf(expected);
+    }
+
+    private Map<Long, SpaceSavingSketch.Item> byKey(List<SpaceSavingSketch.Item> items) {
+        Map<Long, SpaceSavingSketch.Item> map = new HashMap<>();
+        items.forEach(item -> map.put(item.key(), item));
+        return map;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.shopping.domain.stats.TDigest;
+
+/**
+ * t-digest 분위수 오차, 병합, 직렬화를 확인합니다.
+ */
+class TDigestTest {
+
+    private static final int N = 100_000;
+    private static final double[] QUANTILES = { 0.01, 0.1, 0.5, 0.9, 0.99, 0.999 };
+
+    @Test
+    void quantilesStayWithinRankError() {
+        TDigest digest = new TDigest(100);
+        shuffledValues(1).forEach(digest::add);
+
+        assertThat(digest.size()).isEqualTo(N);
+        for (double q : QUANTILES) {
+            // 값이 0 ~ N-1이므로 추정값 / N이 곧 추정한 순위
+            assertThat(digest.quantile(q) / N).as("q=%s", q).isCloseTo(q, within(0.002));
+        }
+    }
+
+    @Test
+    void mergedDigestMatchesSingleDigest() {
+        List<Double> values = shuffledValues(2);
+        TDigest whole = new TDigest(100);
+        values.forEach(whole::add);
+
+        TDigest merged = new TDigest(100);
+        for (int part = 0; part < 10; part++) {
+            TDigest daily = new TDigest(100);
+            values.subList(part * N / 10, (part + 1) * N / 10).forEach(daily::add);
+            merged.merge(daily);
+        }
+
+        assertThat(merged.size()).isEqualTo(N);
+        for (double q : QUANTILES) {
+            assertThat(merged.quantile(q) / N).as("q=%s", q).isCloseTo(q, within(0.002));
+            assertThat(merged.quantile(q) / N).as("q=%s", q).isCloseTo(whole.quantile(q) / N, within(0.002));
+        }
+    }
+
+    @Test
+    void bytesRoundTripKeepsQuantilesAndExtremes() {
+        TDigest digest = new TDigest(100);
+        shuffledValues(3).forEach(digest::add);
+
+        TDigest restored = TDigest.fromBytes(digest.toBytes());
+
+        assertThat(restored.size()).isEqualTo(N);
+        assertThat(restored.quantile(0)).isEqualTo(0);
+        assertThat(restored.quantile(1)).isEqualTo(N - 1);
+        for (double q : QUANTILES) {
+            assertThat(restored.quantile(q)).isEqualTo(digest.quantile(q));
+        }
+    }
+
+    @Test
+    void emptyDigestReturnsNaN() {
+        assertThat(new TDigest(100).quantile(0.5)).isNaN();
+    }
+
+    private static List<Double> shuffledValues(long seed) {
+        List<Double> values = new ArrayList<>(N);
+        for (int i = 0; i < N; i++) {
+            values.add((double) i);
+        }
+        Collections.shuffle(values, new Random(seed));
+        return values;
+    }
+}
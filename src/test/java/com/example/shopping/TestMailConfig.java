@@ -1,22 +1,32 @@
 package com.example.shopping;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
-
-import java.util.Properties;
+import org.springframework.test.context.DynamicPropertyRegistrar;
 
 @TestConfiguration
 public class TestMailConfig {
 
+    // 메일은 로컬 가짜 SMTP 서버로 발송
+    @Bean(destroyMethod = "close")
+    public FakeSmtpServer fakeSmtpServer() throws IOException {
+        return new FakeSmtpServer();
+    }
+
     @Bean
-    public JavaMailSender javaMailSender() {
+    public JavaMailSender javaMailSender(FakeSmtpServer fakeSmtpServer) {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-        mailSender.setHost("localhost");
-        mailSender.setPort(25);
-        mailSender.setUsername("test");
-        mailSender.setPassword("test");
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(fakeSmtpServer.getPort());
         
         Properties props = mailSender.getJavaMailProperties();
         props.put("mail.transport.protocol", "smtp");
@@ -26,5 +36,39 @@ public class TestMailConfig {
         
         return mailSender;
     }
-}
 
+    // 캐시된 컨텍스트끼리 스풀을 공유하면 다른 컨텍스트의 메일을 복원하므로 컨텍스트마다 임시 디렉터리 사용
+    @Bean(destroyMethod = "close")
+    public TempDirectory mailSpoolDirectory() throws IOException {
+        return new TempDirectory(Files.createTempDirectory("mail-spool"));
+    }
+
+    // 리프레시 토큰 로그, 토큰 폐기 로그도 컨텍스트마다 따로 두어 다른 컨텍스트(또는 이전 실행)의 토큰을 복원하지 않음
+    @Bean(destroyMethod = "close")
+    public TempDirectory tokenDataDirectory() throws IOException {
+        return new TempDirectory(Files.createTempDirectory("token-data"));
+    }
+
+    @Bean
+    public DynamicPropertyRegistrar tempDirectoryProperties(TempDirectory mailSpoolDirectory,
+            TempDirectory tokenDataDirectory) {
+        return registry -> {
+            registry.add("mail.async.spool-dir", () -> mailSpoolDirectory.path().toString());
+            registry.add("jwt.refresh-store.log-dir", () -> tokenDataDirectory.path().resolve("refresh-tokens").toString());
+            registry.add("jwt.revocation.log-file", () -> tokenDataDirectory.path().resolve("revoked-tokens.log").toString());
+        };
+    }
+
+    /** 컨텍스트 종료 시 지우는 임시 디렉터리 */
+    public record TempDirectory(Path path) implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            try (Stream<Path> files = Files.walk(path)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.shopping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.shopping.domain.exception.ErrorCode;
+import com.example.shopping.domain.exception.RetryLaterException;
+import com.example.shopping.global.security.VerificationCodeStore;
+import com.example.shopping.global.security.VerificationCodeStore.VerifyResult;
+
+/**
+ * 메모리 방식 인증코드 저장소의 한 번 사용, 입력 횟수 제한, 만료, 최대 개수(429), 롤백 시 코드 복원을 확인합니다.
+ * 저장소는 컨텍스트에서 공유되므로 테스트마다 다른 이메일을 쓰고, 남긴 코드는 사용하여 지웁니다.
+ */
+@SpringBootTest(properties = {
+        "security.verification-code.backend=memory",
+        "security.verification-code.ttl-millis=1000",
+        "security.verification-code.max-attempts=3",
+        "security.verification-code.max-entries=3"
+})
+@Import(TestMailConfig.class)
+class VerificationCodeStoreTest {
+
+    @Autowired
+    private VerificationCodeStore verificationCodeStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void verifiedCodeCanBeUsedOnlyOnce() {
+        verificationCodeStore.save("once@test.com", "111111");
+
+        assertThat(verificationCodeStore.verify("once@test.com", "111111")).isEqualTo(VerifyResult.VERIFIED);
+        assertThat(verificationCodeStore.verify("once@test.com", "111111")).isEqualTo(VerifyResult.INVALID);
+    }
+
+    @Test
+    void wrongCodesExhaustAttempts() {
+        verificationCodeStore.save("attempts@test.com", "222222");
+
+        assertThat(verificationCodeStore.verify("attempts@test.com", "000000")).isEqualTo(VerifyResult.INVALID);
+        assertThat(verificationCodeStore.verify("attempts@test.com", "000000")).isEqualTo(VerifyResult.INVALID);
+        assertThat(verificationCodeStore.verify("attempts@test.com", "000000"))
+                .isEqualTo(VerifyResult.ATTEMPTS_EXCEEDED);
+        // 횟수를 넘긴 코드는 지워지므로 맞는 코드도 실패
+        assertThat(verificationCodeStore.verify("attempts@test.com", "222222")).isEqualTo(VerifyResult.INVALID);
+    }
+
+    @Test
+    void expiredCodeIsRejected() throws InterruptedException {
+        verificationCodeStore.save("expired@test.com", "333333");
+        Thread.sleep(1100);
+
+        assertThat(verificationCodeStore.verify("expired@test.com", "333333")).isEqualTo(VerifyResult.EXPIRED);
+    }
+
+    @Test
+    void fullStoreRejectsNewEmailWith429() {
+        verificationCodeStore.save("full1@test.com", "444444");
+        verificationCodeStore.save("full2@test.com", "444444");
+        verificationCodeStore.save("full3@test.com", "444444");
+        try {
+            assertThatThrownBy(() -> verificationCodeStore.save("full4@test.com", "444444"))
+                    .isInstanceOfSatisfying(RetryLaterException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.VERIFICATION_REQUESTS_BUSY));
+            // 이미 코드가 있는 이메일은 새 코드로 대체 가능
+            verificationCodeStore.save("full1@test.com", "555555");
+        } finally {
+            verificationCodeStore.verify("full1@test.com", "555555");
+            verificationCodeStore.verify("full2@test.com", "444444");
+            verificationCodeStore.verify("full3@test.com", "444444");
+        }
+    }
+
+    @Test
+    void codeIsConsumedOnlyAfterCommit() {
+        verificationCodeStore.save("rollback@test.com", "666666");
+
+        // 비밀번호 초기화 트랜잭션이 롤백되면 코드가 되살아남
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(verificationCodeStore.verify("rollback@test.com", "666666")).isEqualTo(VerifyResult.VERIFIED);
+            // 커밋 전 같은 코드의 다른 검증은 실패
+            assertThat(verificationCodeStore.verify("rollback@test.com", "666666")).isEqualTo(VerifyResult.INVALID);
+            status.setRollbackOnly();
+        });
+
+        transactionTemplate.executeWithoutResult(status ->
+                assertThat(verificationCodeStore.verify("rollback@test.com", "666666"))
+                        .isEqualTo(VerifyResult.VERIFIED));
+        assertThat(verificationCodeStore.verify("rollback@test.com", "666666")).isEqualTo(VerifyResult.INVALID);
+    }
+}